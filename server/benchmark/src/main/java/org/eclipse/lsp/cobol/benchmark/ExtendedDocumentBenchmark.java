@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.lsp.cobol.common.mapping.ExtendedDocument;
+import org.eclipse.lsp.cobol.common.mapping.ExtendedText;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the {@link ExtendedDocument} transformations the preprocessor makes on a program: a
+ * copybook of 120 lines is inserted for a COPY statement every 30 lines, then every 7th line of the
+ * extended text is replaced, and every 3rd line is mapped back to its original location. The GC
+ * profiler reports the allocation per transformation, and the heap retained by the last transformed
+ * document is printed after each iteration. Run it on the parent commit of a change of the mapping
+ * to compare both implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ExtendedDocumentBenchmark {
+  private static final String PROGRAM_URI = "file:///benchmark/extended/PROG.cbl";
+  private static final int COPY_INTERVAL = 30;
+  private static final int COPYBOOK_LINES = 120;
+  private static final int REPLACE_INTERVAL = 7;
+  private static final int MAP_INTERVAL = 3;
+  private static final int AREA_B = 7;
+  private static final int LINE_LENGTH = 72;
+  private static final int GC_RUNS = 3;
+
+  @Param({"2000", "6000"})
+  public int lines;
+
+  private String program;
+  private String copybook;
+  private int extendedLines;
+  private ExtendedDocument lastDocument;
+
+  /** Generate the program and the copybook, and count the lines of the extended text */
+  @Setup(Level.Trial)
+  public void setUp() {
+    StringBuilder programText = new StringBuilder();
+    for (int line = 0; line < lines; line++) {
+      programText.append(line % COPY_INTERVAL == 0 ? copyStatement(line) : pad("       MOVE A" + line + " TO B."))
+          .append('\n');
+    }
+    program = programText.toString();
+    StringBuilder copybookText = new StringBuilder();
+    for (int line = 0; line < COPYBOOK_LINES; line++) {
+      copybookText.append(pad("       05 FIELD-" + line + " PIC X(10).")).append('\n');
+    }
+    copybook = copybookText.toString();
+    extendedLines = insertCopybooks().toString().split("\n", -1).length;
+  }
+
+  /**
+   * Transform the program and map the locations
+   *
+   * @param blackhole consumes the mapped locations
+   * @return the transformed document
+   */
+  @Benchmark
+  public ExtendedDocument transform(Blackhole blackhole) {
+    ExtendedDocument document = insertCopybooks();
+    for (int line = 0; line < extendedLines; line += REPLACE_INTERVAL) {
+      document.replace(range(line, AREA_B, AREA_B + 4), "NOTE");
+    }
+    document.commitTransformations();
+    for (int line = 0; line < extendedLines; line += MAP_INTERVAL) {
+      blackhole.consume(document.mapLocation(range(line, AREA_B + 1, AREA_B + 5)));
+    }
+    lastDocument = document;
+    return document;
+  }
+
+  /** Print the heap retained by the last transformed document */
+  @TearDown(Level.Iteration)
+  public void printRetainedHeap() {
+    long withDocument = usedHeapAfterGc();
+    lastDocument = null;
+    long withoutDocument = usedHeapAfterGc();
+    System.out.printf("%nRetained by the document of %d lines: %d KB%n", lines, (withDocument - withoutDocument) / 1024);
+  }
+
+  private ExtendedDocument insertCopybooks() {
+    ExtendedDocument document = new ExtendedDocument(program, PROGRAM_URI);
+    for (int line = 0; line < lines; line += COPY_INTERVAL) {
+      document.insertCopybook(range(line, AREA_B, copyStatement(line).trim().length() + AREA_B),
+          new ExtendedText(copybook, "file:///benchmark/extended/CPY" + line + ".cpy"));
+    }
+    document.commitTransformations();
+    return document;
+  }
+
+  private static String copyStatement(int line) {
+    return pad("       COPY CPY" + line + ".");
+  }
+
+  private static String pad(String text) {
+    StringBuilder result = new StringBuilder(text);
+    while (result.length() < LINE_LENGTH) {
+      result.append(' ');
+    }
+    return result.toString();
+  }
+
+  private static Range range(int line, int start, int end) {
+    return new Range(new Position(line, start), new Position(line, end));
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < GC_RUNS; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.eclipse.lsp.cobol.cli.di.CliModule;
+import org.eclipse.lsp.cobol.cli.modules.CliClientProvider;
+import org.eclipse.lsp.cobol.test.codegen.CobolCodeGenerator;
+import org.eclipse.lsp.cobol.test.codegen.GeneratorSettings;
+
+/** The synthetic programs and the engine setup shared by the benchmarks */
+final class GeneratedPrograms {
+  /**
+   * The engine keeps the results of the recently analyzed documents by URI, e.g. the parser
+   * snapshots, so the benchmarks rotate more URIs than it keeps to measure the full analysis.
+   */
+  private static final int URI_POOL_SIZE = 64;
+  private static final long SEED = 42;
+
+  private GeneratedPrograms() {
+  }
+
+  /**
+   * Generate a program. The same number of statements always gives the same program.
+   *
+   * @param statements the number of statements in the procedure division
+   * @return the program text
+   */
+  static String generate(int statements) {
+    GeneratorSettings settings = new GeneratorSettings();
+    settings.setStatementCount(statements);
+    settings.setSeed(SEED);
+    return new CobolCodeGenerator(settings).generate();
+  }
+
+  /**
+   * Create a document URI that the engine has not seen in the last requests of the benchmark
+   *
+   * @param benchmark the benchmark name
+   * @param request the request number
+   * @return the document URI
+   */
+  static String uri(String benchmark, int request) {
+    return "file:///benchmark/" + benchmark + "/PROG" + (request % URI_POOL_SIZE) + ".cbl";
+  }
+
+  /**
+   * Create the engine services as the CLI does, without copybook folders
+   *
+   * @return the injector
+   */
+  static Injector createInjector() {
+    Injector injector = Guice.createInjector(new CliModule());
+    CliClientProvider clientProvider = injector.getInstance(CliClientProvider.class);
+    clientProvider.setCpyPaths(ImmutableList.of());
+    clientProvider.setCpyExt(ImmutableList.of(""));
+    return injector;
+  }
+}
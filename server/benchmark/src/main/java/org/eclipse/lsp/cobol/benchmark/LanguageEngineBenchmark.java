@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.lsp.cobol.common.AnalysisConfig;
+import org.eclipse.lsp.cobol.common.AnalysisResult;
+import org.eclipse.lsp.cobol.common.copybook.CopybookProcessingMode;
+import org.eclipse.lsp.cobol.common.dialects.CobolLanguageId;
+import org.eclipse.lsp.cobol.core.engine.CobolLanguageEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark of the whole analysis of a document by {@link CobolLanguageEngine} */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LanguageEngineBenchmark {
+  @Param({"1000", "10000", "30000"})
+  public int statements;
+
+  private CobolLanguageEngine engine;
+  private AnalysisConfig config;
+  private String text;
+  private int request;
+
+  /** Create the engine and the program */
+  @Setup(Level.Trial)
+  public void setUp() {
+    engine = GeneratedPrograms.createInjector().getInstance(CobolLanguageEngine.class);
+    config = AnalysisConfig.defaultConfig(CopybookProcessingMode.ENABLED);
+    text = GeneratedPrograms.generate(statements);
+  }
+
+  /**
+   * Analyze a document that the engine has not analyzed recently, as on opening it
+   *
+   * @return the analysis result
+   */
+  @Benchmark
+  public AnalysisResult analyze() {
+    return engine.run(GeneratedPrograms.uri("analyze", request++), text, config, CobolLanguageId.COBOL);
+  }
+
+  /**
+   * Analyze the same document again without changes, as on a change of the settings
+   *
+   * @return the analysis result
+   */
+  @Benchmark
+  public AnalysisResult reanalyze() {
+    return engine.run(GeneratedPrograms.uri("reanalyze", 0), text, config, CobolLanguageId.COBOL);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Injector;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.eclipse.lsp.cobol.common.AnalysisConfig;
+import org.eclipse.lsp.cobol.common.CleanerPreprocessor;
+import org.eclipse.lsp.cobol.common.SubroutineService;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
+import org.eclipse.lsp.cobol.common.copybook.CopybookProcessingMode;
+import org.eclipse.lsp.cobol.common.dialects.CobolLanguageId;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.common.pipeline.Stage;
+import org.eclipse.lsp.cobol.common.pipeline.StageResult;
+import org.eclipse.lsp.cobol.core.engine.analysis.AnalysisContext;
+import org.eclipse.lsp.cobol.core.engine.dialects.DialectService;
+import org.eclipse.lsp.cobol.core.engine.processor.AstProcessor;
+import org.eclipse.lsp.cobol.core.engine.symbols.SymbolsRepository;
+import org.eclipse.lsp.cobol.core.preprocessor.delegates.GrammarPreprocessor;
+import org.eclipse.lsp.cobol.dialects.ibm.*;
+import org.eclipse.lsp.cobol.service.settings.CachingConfigurationService;
+import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a single stage of the {@link IbmTrueCobolDialect} pipeline. Before each invocation
+ * the stages in front of the measured one run on a new analysis context, so only the measured stage
+ * counts in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PipelineStageBenchmark {
+  /** The stage names in the pipeline order */
+  private static final List<String> STAGES = ImmutableList.of(
+      "cleanup",
+      "dialectDirectives",
+      "compilerDirectives",
+      "dialects",
+      "preprocessor",
+      "implicitDialects",
+      "parser",
+      "transformTree");
+
+  @Param({"cleanup", "dialectDirectives", "compilerDirectives", "dialects", "preprocessor", "implicitDialects",
+      "parser", "transformTree"})
+  public String stage;
+
+  @Param({"1000", "10000", "30000"})
+  public int statements;
+
+  private List<Stage<AnalysisContext, ?, ?>> pipeline;
+  private BenchmarkService benchmarkService;
+  private AnalysisConfig config;
+  private String text;
+  private int target;
+  private int request;
+
+  private AnalysisContext context;
+  private StageResult<?> previousResult;
+
+  /** Create the stages as {@link IbmTrueCobolDialect} does and the program */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Injector injector = GeneratedPrograms.createInjector();
+    MessageService messageService = injector.getInstance(MessageService.class);
+    DialectService dialectService = injector.getInstance(DialectService.class);
+    CodeLayoutStore layoutStore = injector.getInstance(CodeLayoutStore.class);
+    CleanerPreprocessor preprocessor = new IbmTextPreprocessor(messageService, layoutStore);
+
+    pipeline = ImmutableList.of(
+        new IbmCleanupStage(preprocessor),
+        new DialectCompilerDirectiveStage(dialectService),
+        new CompilerDirectivesStage(messageService),
+        new DialectProcessingStage(dialectService, preprocessor),
+        new PreprocessorStage(injector.getInstance(GrammarPreprocessor.class), preprocessor),
+        new ImplicitDialectProcessingStage(dialectService),
+        new ParserStage(messageService, injector.getInstance(ParseTreeListener.class)),
+        new TransformTreeStage(
+            injector.getInstance(SymbolsRepository.class),
+            messageService,
+            injector.getInstance(SubroutineService.class),
+            injector.getInstance(CachingConfigurationService.class),
+            dialectService,
+            injector.getInstance(AstProcessor.class),
+            layoutStore));
+    target = STAGES.indexOf(stage);
+    if (target < 0) {
+      throw new IllegalArgumentException("Unknown stage: " + stage + ", the stages are " + STAGES);
+    }
+    benchmarkService = injector.getInstance(BenchmarkService.class);
+    config = AnalysisConfig.defaultConfig(CopybookProcessingMode.ENABLED);
+    text = GeneratedPrograms.generate(statements);
+  }
+
+  /** Run the stages in front of the measured one on a new analysis context */
+  @Setup(Level.Invocation)
+  public void runPreviousStages() {
+    context = new AnalysisContext(config, benchmarkService.startSession(),
+        GeneratedPrograms.uri(stage, request++), text, CobolLanguageId.COBOL);
+    previousResult = StageResult.empty();
+    for (int i = 0; i < target; i++) {
+      previousResult = run(pipeline.get(i), previousResult);
+      if (previousResult.stopProcessing()) {
+        throw new IllegalStateException("The pipeline stopped before the stage " + stage);
+      }
+    }
+  }
+
+  /**
+   * Run the measured stage
+   *
+   * @return the stage result
+   */
+  @Benchmark
+  public StageResult<?> runStage() {
+    return run(pipeline.get(target), previousResult);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private StageResult<?> run(Stage pipelineStage, StageResult<?> previous) {
+    return pipelineStage.run(context, previous);
+  }
+}
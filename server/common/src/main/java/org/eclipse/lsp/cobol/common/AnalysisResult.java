@@ -20,11 +20,15 @@ import lombok.Value;
 import org.eclipse.lsp.cobol.common.model.tree.Node;
 import org.eclipse.lsp.cobol.common.symbols.SymbolTable;
 import org.eclipse.lsp.cobol.common.model.tree.RootNode;
+import org.eclipse.lsp.cobol.common.utils.NodePositionIndex;
+import org.eclipse.lsp.cobol.common.utils.RangeUtils;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * This class represents a semantic context of the analysed document. It contains a map of {@link
@@ -36,4 +40,20 @@ public class AnalysisResult {
   @Builder.Default Map<String, List<Diagnostic>> diagnostics = new HashMap<>();
   @Builder.Default Node rootNode = new RootNode();
   @EqualsAndHashCode.Exclude @Builder.Default Map<String, SymbolTable> symbolTableMap = new HashMap<>();
+  @EqualsAndHashCode.Exclude NodePositionIndex positionIndex;
+
+  /**
+   * Find the syntax tree node that contains the position. The position index is used if the result
+   * has one, otherwise the tree is walked from the root.
+   *
+   * @param uri the uri of the node locality
+   * @param position a cursor position
+   * @return the found node
+   */
+  public Optional<Node> findNodeByPosition(String uri, Position position) {
+    if (positionIndex != null) {
+      return positionIndex.findNodeByPosition(uri, position);
+    }
+    return Optional.ofNullable(rootNode).flatMap(root -> RangeUtils.findNodeByPosition(root, uri, position));
+  }
 }
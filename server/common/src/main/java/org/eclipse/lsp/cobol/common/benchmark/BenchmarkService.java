@@ -29,7 +29,7 @@ public interface BenchmarkService {
   BenchmarkSession startSession();
 
   /**
-   * Get all collected measurements.
+   * Get measurements of the recent sessions.
    *
    * @return a list of measurements.
    */
@@ -43,7 +43,16 @@ public interface BenchmarkService {
   List<JsonElement> toJsons();
 
   /**
-   * Log accumulated timing information.
+   * Record the timing of a finished session into the stage histograms and log it.
+   *
+   * @param session the finished session
+   */
+  void logTiming(BenchmarkSession session);
+
+  /**
+   * Get latency statistics per stage and per stage and document size.
+   *
+   * @return json object with the statistics
    */
-  void logTiming();
+  JsonObject getMetrics();
 }
@@ -16,31 +16,53 @@ package org.eclipse.lsp.cobol.common.benchmark;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+/**
+ * Keeps latency histograms per pipeline stage and a bounded buffer of the recent sessions. Each finished
+ * session is appended to the CSV file from the "performance.log.path" system property, if it is set.
+ */
 public class BenchmarkServiceImpl implements BenchmarkService {
   private final static Logger LOG = LoggerFactory.getLogger(BenchmarkServiceImpl.class);
   private static final String PERFORMANCE_LOG_PATH = "performance.log.path";
-  private final List<BenchmarkSession> benchmarkSessions = new ArrayList<>();
+  private static final String TOTAL = "Total time";
+  private static final int RECENT_SESSIONS = 64;
+  private static final int[] SIZE_LIMITS = {10_000, 100_000, 1_000_000};
+  private static final String[] SIZE_BUCKETS = {"<10K", "10K-100K", "100K-1M", ">1M"};
+
+  private final AtomicReferenceArray<BenchmarkSession> recentSessions = new AtomicReferenceArray<>(RECENT_SESSIONS);
+  private final AtomicLong sessionCounter = new AtomicLong();
+  private final AtomicLong finishedSessions = new AtomicLong();
+  private final ConcurrentMap<String, LatencyHistogram> stages = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> stagesBySize = new ConcurrentHashMap<>();
+  private final Object csvLock = new Object();
 
   @Override
   public BenchmarkSession startSession() {
     BenchmarkSession session = new BenchmarkSession();
-    benchmarkSessions.add(session);
+    recentSessions.set((int) (sessionCounter.getAndIncrement() % RECENT_SESSIONS), session);
     return session;
   }
 
   @Override
   public List<Measurement> getMeasurements() {
-    return benchmarkSessions.stream()
+    return recentSessions()
         .flatMap(s -> s.getMeasurements().stream())
         .collect(Collectors.toList());
   }
@@ -48,36 +70,92 @@ public class BenchmarkServiceImpl implements BenchmarkService {
   @Override
   public List<JsonElement> toJsons() {
     Gson gson = new Gson();
-    return benchmarkSessions.stream()
+    return recentSessions()
         .flatMap(s -> s.getMeasurements().stream())
         .map(gson::toJsonTree)
         .collect(Collectors.toList());
   }
 
   @Override
-  public void logTiming() {
-    benchmarkSessions.forEach(this::logTiming);
+  public JsonObject getMetrics() {
+    Gson gson = new Gson();
+    JsonObject result = new JsonObject();
+    result.addProperty("sessions", finishedSessions.get());
+    result.add("stages", toJson(gson, stages));
+    JsonObject bySize = new JsonObject();
+    new TreeMap<>(stagesBySize).forEach((bucket, histograms) -> bySize.add(bucket, toJson(gson, histograms)));
+    result.add("stagesBySize", bySize);
+    return result;
   }
+
+  @Override
   public void logTiming(BenchmarkSession benchmarkSession) {
     Collection<Measurement> measurements = benchmarkSession
             .getMeasurements();
     measurements
             .forEach(m -> LOG.debug("Timing for {}: {}", m.getId(), m.getTime()));
+    int size = parseSize(benchmarkSession.attr("size"));
+    Map<String, LatencyHistogram> sizeHistograms =
+        stagesBySize.computeIfAbsent(sizeBucketOf(size), k -> new ConcurrentHashMap<>());
+    long total = 0;
+    for (Measurement measurement : measurements) {
+      record(stages, sizeHistograms, measurement.getId(), measurement.getTime());
+      total += measurement.getTime();
+    }
+    record(stages, sizeHistograms, TOTAL, total);
+    finishedSessions.incrementAndGet();
     Optional.ofNullable(System.getProperty(PERFORMANCE_LOG_PATH))
             .map(Paths::get)
-            .ifPresent(path -> {
-              try {
-                if (!Files.exists(path)) {
-                  LOG.info("Write performance data into: " + path);
-                  Files.write(path, Collections.singleton(createHeaderLine(measurements)), StandardOpenOption.CREATE);
-                }
-                Files.write(path, Collections.singleton(createTimingLine(measurements,
-                        benchmarkSession.attr("uri"),
-                        Integer.parseInt(benchmarkSession.attr("size")))), StandardOpenOption.APPEND);
-              } catch (IOException e) {
-                LOG.debug(e.getMessage(), e);
-              }
-            });
+            .ifPresent(path -> appendCsv(path, measurements, benchmarkSession.attr("uri"), size));
+  }
+
+  private Stream<BenchmarkSession> recentSessions() {
+    return IntStream.range(0, RECENT_SESSIONS)
+        .mapToObj(recentSessions::get)
+        .filter(Objects::nonNull);
+  }
+
+  private static void record(Map<String, LatencyHistogram> stages, Map<String, LatencyHistogram> sizeHistograms,
+                             String stage, long nanos) {
+    stages.computeIfAbsent(stage, k -> new LatencyHistogram()).record(nanos);
+    sizeHistograms.computeIfAbsent(stage, k -> new LatencyHistogram()).record(nanos);
+  }
+
+  private static JsonObject toJson(Gson gson, Map<String, LatencyHistogram> histograms) {
+    JsonObject result = new JsonObject();
+    new TreeMap<>(histograms).forEach((stage, histogram) -> result.add(stage, gson.toJsonTree(histogram.snapshot())));
+    return result;
+  }
+
+  private static String sizeBucketOf(int size) {
+    for (int i = 0; i < SIZE_LIMITS.length; i++) {
+      if (size < SIZE_LIMITS[i]) {
+        return SIZE_BUCKETS[i];
+      }
+    }
+    return SIZE_BUCKETS[SIZE_LIMITS.length];
+  }
+
+  private static int parseSize(String size) {
+    try {
+      return size == null ? 0 : Integer.parseInt(size);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private void appendCsv(Path path, Collection<Measurement> measurements, String uri, int size) {
+    synchronized (csvLock) {
+      try {
+        if (!Files.exists(path)) {
+          LOG.info("Write performance data into: " + path);
+          Files.write(path, Collections.singleton(createHeaderLine(measurements)), StandardOpenOption.CREATE);
+        }
+        Files.write(path, Collections.singleton(createTimingLine(measurements, uri, size)), StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        LOG.debug(e.getMessage(), e);
+      }
+    }
   }
 
   private String createHeaderLine(Collection<Measurement> measurements) {
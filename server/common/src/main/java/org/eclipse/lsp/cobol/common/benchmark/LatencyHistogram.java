@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.common.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Value;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets. Every power of two is split into 8 linear
+ * sub-buckets, so the reported percentiles are within 12.5% of the recorded values.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Record a duration
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    counts.incrementAndGet(indexOf(micros));
+    count.incrementAndGet();
+    total.addAndGet(micros);
+    max.accumulateAndGet(micros, Math::max);
+  }
+
+  /**
+   * Returns the current state of the histogram. The snapshot is not atomic, the values recorded
+   * concurrently may be partially included.
+   *
+   * @return the histogram statistics
+   */
+  public Snapshot snapshot() {
+    long recorded = 0;
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = counts.get(i);
+      recorded += copy[i];
+    }
+    long maxMicros = max.get();
+    return new Snapshot(recorded,
+        recorded == 0 ? 0 : toMillis(total.get() / recorded),
+        toMillis(percentile(copy, recorded, 0.5, maxMicros)),
+        toMillis(percentile(copy, recorded, 0.95, maxMicros)),
+        toMillis(percentile(copy, recorded, 0.99, maxMicros)),
+        toMillis(maxMicros));
+  }
+
+  private static long percentile(long[] buckets, long recorded, double percentile, long maxMicros) {
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(recorded * percentile);
+    long seen = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      seen += buckets[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), maxMicros);
+      }
+    }
+    return maxMicros;
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+    long lower = (long) (SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1000.0;
+  }
+
+  /** Statistics of a histogram, the durations are in milliseconds */
+  @Value
+  public static class Snapshot {
+    long count;
+    double mean;
+    double p50;
+    double p95;
+    double p99;
+    double max;
+  }
+}
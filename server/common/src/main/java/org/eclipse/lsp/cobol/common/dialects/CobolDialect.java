@@ -45,6 +45,20 @@ public interface CobolDialect {
     return new ResultWithErrors<>(new DialectOutcome(context), ImmutableList.of());
   }
 
+  /**
+   * Prepare the processing of the text in advance, e.g. parse it. The dialects are prepared
+   * concurrently with the processing of the previous dialects, so the method must not use the
+   * extended document of the context, but the given text. The previous dialects may still change
+   * the text, so the prepared data should be used by {@link #processText} only if it matches the
+   * text at that moment. The preparation is cancelled by interrupting its thread, so a long
+   * preparation should check the interruption between its steps.
+   *
+   * @param context is a DialectProcessingContext class with all needed data for dialect processing
+   * @param text the text of the extended document before the processing of the dialects
+   */
+  default void prepare(DialectProcessingContext context, String text) {
+  }
+
   /**
    * Get document extension data from dialect. This data should be added to an argument.
    *
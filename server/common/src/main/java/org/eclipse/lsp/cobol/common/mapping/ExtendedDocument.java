@@ -143,9 +143,8 @@ public class ExtendedDocument {
   private int updateLineDueToChanges(int lineNumber) {
     int result = lineNumber;
     if (isDirty()) {
-      ExtendedTextLine line = baseText.getLines().get(lineNumber);
-      if (line.getCharacters().size() > 0) {
-        ExtendedTextLine parentLine = line.getCharacters().get(0).getParent();
+      ExtendedTextLine parentLine = baseText.getLines().get(lineNumber).getParentLine();
+      if (parentLine != null) {
         result = currentText.getLines().indexOf(parentLine);
       }
     }
@@ -158,8 +157,7 @@ public class ExtendedDocument {
 
     ExtendedTextLine line = baseText.getLines().get(position.getLine());
     if (position.getCharacter() < line.size()) {
-      MappedCharacter character = line.getCharacterAt(position.getCharacter());
-      currentChar = currentText.getLines().get(currentLine).getCharacters().indexOf(character);
+      currentChar = currentText.getLines().get(currentLine).indexOf(line, position.getCharacter());
       if (currentChar < 0) {
         currentChar = position.getCharacter();
       }
@@ -112,7 +112,7 @@ public class ExtendedText {
   }
 
   private ExtendedTextLine updateLine(ExtendedTextLine textLine, Location initialLocation) {
-    textLine.getCharacters().forEach(c -> c.getInitialLocationMap().put(uri, initialLocation));
+    textLine.updateInitialLocation(uri, initialLocation);
     return textLine;
   }
 
@@ -307,6 +307,6 @@ public class ExtendedText {
     Position originalPos = Optional.ofNullable(result.getOriginalPosition())
         .map(op -> new Position(op.getLine(), op.getCharacter() + shift))
         .orElse(null);
-    return new MappedCharacter(result.getCharacter(), originalPos, result.getUri(), result.getParent(), result.getInstantLocation(), result.getInitialLocationMap());
+    return new MappedCharacter(result.getCharacter(), originalPos, result.getUri(), result.getInstantLocation(), result.getInitialLocationMap());
   }
 }
@@ -14,29 +14,32 @@
  */
 package org.eclipse.lsp.cobol.common.mapping;
 
-import lombok.Getter;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
- * Extended Text Line with symbols
+ * Extended Text Line with symbols. The characters are kept in a text buffer, and the mapping
+ * information is kept as a list of segments, each of them covers a run of characters with the same mapping source.
  */
 public class ExtendedTextLine {
-  @Getter
-  private final List<MappedCharacter> characters = new ArrayList<>();
+  private final StringBuilder text;
+  private final List<MappingSegment> segments;
 
   private ExtendedTextLine() {
+    text = new StringBuilder();
+    segments = new ArrayList<>(1);
   }
 
   ExtendedTextLine(String line, Location instantLocation, String uri) {
-    for (int i = 0; i < line.length(); i++) {
-      char character = line.charAt(i);
-      checkCharacter(character);
-      characters.add(new MappedCharacter(character, null, uri, this, instantLocation, new HashMap<>()));
-    }
+    this();
+    checkLine(line);
+    text.append(line);
+    addSegment(MappingSource.instant(uri, instantLocation, this), line.length());
   }
 
   ExtendedTextLine(String line, int lineNumber, String uri) {
@@ -44,12 +47,10 @@ public class ExtendedTextLine {
   }
 
   ExtendedTextLine(String line, Position start, String uri) {
-    for (int i = 0; i < line.length(); i++) {
-      char character = line.charAt(i);
-      checkCharacter(character);
-      Position position = new Position(start.getLine(), start.getCharacter() + i);
-      characters.add(new MappedCharacter(character, position, uri, this, null, new HashMap<>()));
-    }
+    this();
+    checkLine(line);
+    text.append(line);
+    addSegment(MappingSource.original(uri, start, this), line.length());
   }
 
   /**
@@ -57,7 +58,7 @@ public class ExtendedTextLine {
    * @return the size
    */
   int size() {
-    return characters.size();
+    return text.length();
   }
 
   /**
@@ -66,16 +67,24 @@ public class ExtendedTextLine {
    * @return a character at the given position
    */
   MappedCharacter getCharacterAt(int position) {
-    return characters.get(position);
+    if (position < 0 || position >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+    }
+    int start = 0;
+    for (MappingSegment segment : segments) {
+      if (position < start + segment.getLength()) {
+        MappingSource source = segment.getSource();
+        return new MappedCharacter(text.charAt(position), source.getOriginalPosition(segment.getOffset() + position - start),
+            source.getUri(), source.getInstantLocation(), source.getInitialLocationMap());
+      }
+      start += segment.getLength();
+    }
+    throw new IllegalStateException("Mapping segments don't cover the line");
   }
 
   @Override
   public String toString() {
-    final StringBuilder builder = new StringBuilder();
-    for (MappedCharacter character : characters) {
-      builder.append(character.getCharacter());
-    }
-    return builder.toString();
+    return text.toString();
   }
 
   /**
@@ -84,7 +93,7 @@ public class ExtendedTextLine {
    * @param end - end position
    */
   void delete(int start, int end) {
-    characters.subList(start, Math.min(characters.size(), end + 1)).clear();
+    remove(start, Math.min(size(), end + 1));
   }
 
   /**
@@ -92,8 +101,8 @@ public class ExtendedTextLine {
    * @param pos - position to start trimming
    */
   void trim(int pos) {
-    if (pos < characters.size()) {
-      characters.subList(pos, characters.size()).clear();
+    if (pos < size()) {
+      remove(pos, size());
     }
   }
 
@@ -103,8 +112,9 @@ public class ExtendedTextLine {
    * @param line - Extended Text Line
    */
   void insert(int pos, ExtendedTextLine line) {
-    characters.addAll(pos, line.characters);
-    characters.forEach(c -> c.setParent(this));
+    text.insert(pos, line.text);
+    segments.addAll(split(pos), line.segments);
+    segments.forEach(s -> s.getSource().setParent(this));
   }
 
   /**
@@ -114,12 +124,19 @@ public class ExtendedTextLine {
    * @return a new line object
    */
   ExtendedTextLine subline(int start, int end) {
-    List<MappedCharacter> newCharacters = characters.subList(start, end + 1).stream()
-        .map(MappedCharacter::shadowCopy).collect(Collectors.toList());
-
     ExtendedTextLine result = new ExtendedTextLine();
-    result.characters.addAll(newCharacters);
-    result.characters.forEach(c -> c.setParent(result));
+    result.text.append(text, start, end + 1);
+    int segmentStart = 0;
+    for (MappingSegment segment : segments) {
+      int segmentEnd = segmentStart + segment.getLength();
+      int from = Math.max(start, segmentStart);
+      int to = Math.min(end + 1, segmentEnd);
+      if (from < to) {
+        MappingSource source = segment.getSource().copyFrom(segment.getOffset() + from - segmentStart, result);
+        result.addSegment(source, to - from);
+      }
+      segmentStart = segmentEnd;
+    }
     return result;
   }
 
@@ -128,8 +145,7 @@ public class ExtendedTextLine {
    * @param line - line that will be added to the end of this line
    */
   void append(ExtendedTextLine line) {
-    characters.addAll(line.characters);
-    characters.forEach(c -> c.setParent(this));
+    insert(size(), line);
   }
 
   /**
@@ -138,7 +154,9 @@ public class ExtendedTextLine {
    * @param end - end position
    */
   void clear(int start, int end) {
-    characters.subList(start, Math.min(end + 1, characters.size())).forEach(c -> c.setCharacter(' '));
+    for (int i = start; i < Math.min(end + 1, size()); i++) {
+      text.setCharAt(i, ' ');
+    }
   }
 
   /**
@@ -154,8 +172,8 @@ public class ExtendedTextLine {
    */
   ExtendedTextLine shadowCopy() {
     ExtendedTextLine result = new ExtendedTextLine();
-    result.characters.clear();
-    result.characters.addAll(characters);
+    result.text.append(text);
+    result.segments.addAll(segments);
     return result;
   }
 
@@ -164,8 +182,11 @@ public class ExtendedTextLine {
    * @param character - a padding position
    */
   void addPadding(int character) {
-    for (int i = 0; i < character; i++) {
-      characters.add(0, new MappedCharacter(' ', new Position(0, 0), "", this, null, new HashMap<>()));
+    if (character > 0) {
+      char[] padding = new char[character];
+      Arrays.fill(padding, ' ');
+      text.insert(0, padding);
+      segments.add(0, new MappingSegment(MappingSource.padding(this), 0, character));
     }
   }
 
@@ -173,9 +194,11 @@ public class ExtendedTextLine {
    * Trim spaces from the beginning of the line
    */
   void trim() {
-    while (characters.size() > 0 && characters.get(0).getCharacter() == ' ') {
-      characters.remove(0);
+    int count = 0;
+    while (count < size() && text.charAt(count) == ' ') {
+      count++;
     }
+    remove(0, count);
   }
 
   /**
@@ -184,13 +207,112 @@ public class ExtendedTextLine {
    * @param line - new string
    */
   void replace(int position, String line) {
-    for (char ch : line.toCharArray()) {
-      this.characters.get(position++).setCharacter(ch);
+    if (position + line.length() > size()) {
+      throw new IndexOutOfBoundsException("Index: " + (position + line.length() - 1) + ", Size: " + size());
+    }
+    text.replace(position, position + line.length(), line);
+  }
+
+  /**
+   * Replace characters that match the given predicate with a replacement character, the mapping stays the same
+   * @param predicate - characters to replace
+   * @param replacement - a replacement character
+   */
+  public void replaceCharacters(Predicate<Character> predicate, char replacement) {
+    for (int i = 0; i < size(); i++) {
+      if (predicate.test(text.charAt(i))) {
+        text.setCharAt(i, replacement);
+      }
+    }
+  }
+
+  /**
+   * Stores the initial location of the characters of this line for the given document
+   * @param documentUri - the uri of the document where the line was inserted
+   * @param location - an original (before changes) location
+   */
+  void updateInitialLocation(String documentUri, Location location) {
+    segments.forEach(s -> s.getSource().getInitialLocationMap().put(documentUri, location));
+  }
+
+  /**
+   * Returns the line that currently contains the first character of this line
+   * @return a parent line or null if the line is empty
+   */
+  ExtendedTextLine getParentLine() {
+    return segments.isEmpty() ? null : segments.get(0).getSource().getParent();
+  }
+
+  /**
+   * Finds the position of the character of other line in this line
+   * @param line - other line, usually a shadow copy
+   * @param position - a position of the character in the other line
+   * @return the position of the same character in this line or -1 if it is not found
+   */
+  int indexOf(ExtendedTextLine line, int position) {
+    int start = 0;
+    MappingSource source = null;
+    int offset = 0;
+    for (MappingSegment segment : line.segments) {
+      if (position < start + segment.getLength()) {
+        source = segment.getSource();
+        offset = segment.getOffset() + position - start;
+        break;
+      }
+      start += segment.getLength();
+    }
+    if (source == null) {
+      return -1;
+    }
+    start = 0;
+    for (MappingSegment segment : segments) {
+      if (segment.contains(source, offset)) {
+        return start + offset - segment.getOffset();
+      }
+      start += segment.getLength();
+    }
+    return -1;
+  }
+
+  private void addSegment(MappingSource source, int length) {
+    if (length > 0) {
+      segments.add(new MappingSegment(source, 0, length));
+    }
+  }
+
+  private void remove(int from, int to) {
+    if (from >= to) {
+      return;
+    }
+    text.delete(from, to);
+    segments.subList(split(from), split(to)).clear();
+  }
+
+  /**
+   * Makes sure that a segment starts at the given position
+   * @param position - a character position
+   * @return the index of the segment that starts at the given position
+   */
+  private int split(int position) {
+    int start = 0;
+    for (int i = 0; i < segments.size(); i++) {
+      MappingSegment segment = segments.get(i);
+      if (position == start) {
+        return i;
+      }
+      int end = start + segment.getLength();
+      if (position < end) {
+        segments.set(i, segment.slice(0, position - start));
+        segments.add(i + 1, segment.slice(position - start, segment.getLength()));
+        return i + 1;
+      }
+      start = end;
     }
+    return segments.size();
   }
 
-  private void checkCharacter(Character character) {
-    if (character.equals('\n')) {
+  private void checkLine(String line) {
+    if (line.indexOf('\n') >= 0) {
       throw new RuntimeException("Text line contains a new line characters");
     }
   }
@@ -15,29 +15,23 @@
 package org.eclipse.lsp.cobol.common.mapping;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Value;
 
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
 
 import java.util.Map;
-import java.util.UUID;
 
 /**
- * Mapped character class with original position information
+ * Mapped character class with original position information. It is a read-only view built on demand,
+ * an extended text line stores its characters as a text buffer with mapping segments.
  */
-@Data
+@Value
 @AllArgsConstructor
 public class MappedCharacter {
-  private final UUID id = UUID.randomUUID();
-  private char character;
-  private Position originalPosition;
-  private String uri;
-  private ExtendedTextLine parent;
-  private Location instantLocation;
-  private Map<String, Location> initialLocationMap;
-
-  MappedCharacter shadowCopy() {
-    return new MappedCharacter(character, originalPosition, uri, parent, instantLocation, initialLocationMap);
-  }
+  char character;
+  Position originalPosition;
+  String uri;
+  Location instantLocation;
+  Map<String, Location> initialLocationMap;
 }
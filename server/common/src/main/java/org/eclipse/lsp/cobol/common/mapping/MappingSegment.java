@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.common.mapping;
+
+import lombok.Value;
+
+/**
+ * An immutable run of consecutive characters of a text line that belong to the same mapping source
+ */
+@Value
+class MappingSegment {
+  MappingSource source;
+  int offset;
+  int length;
+
+  /**
+   * Returns a part of this segment
+   * @param from - start index inside the segment, inclusive
+   * @param to - end index inside the segment, exclusive
+   * @return a new segment
+   */
+  MappingSegment slice(int from, int to) {
+    return new MappingSegment(source, offset + from, to - from);
+  }
+
+  /**
+   * Checks if the segment contains a character of the given source with the given offset
+   * @param characterSource - the source of the character
+   * @param characterOffset - the offset of the character in the source
+   * @return true if the character belongs to this segment
+   */
+  boolean contains(MappingSource characterSource, int characterOffset) {
+    return source == characterSource && characterOffset >= offset && characterOffset < offset + length;
+  }
+}
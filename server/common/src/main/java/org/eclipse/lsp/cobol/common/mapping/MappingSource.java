@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.common.mapping;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mapping information shared by a block of characters that were created together,
+ * e.g. a source line, a replacement text line or a padding. The original position of a character
+ * is computed from the block start and the character offset, so no per-character objects are needed.
+ */
+class MappingSource {
+  @Getter
+  private final String uri;
+  private final int originalLine;
+  private final int originalCharacter;
+  private final boolean advancing;
+  @Getter
+  private final Location instantLocation;
+  @Getter
+  private final Map<String, Location> initialLocationMap;
+  @Getter
+  @Setter
+  private ExtendedTextLine parent;
+
+  private MappingSource(String uri, Position originalStart, boolean advancing, Location instantLocation,
+                        Map<String, Location> initialLocationMap, ExtendedTextLine parent) {
+    this.uri = uri;
+    this.originalLine = originalStart == null ? -1 : originalStart.getLine();
+    this.originalCharacter = originalStart == null ? -1 : originalStart.getCharacter();
+    this.advancing = advancing;
+    this.instantLocation = instantLocation;
+    this.initialLocationMap = initialLocationMap;
+    this.parent = parent;
+  }
+
+  /**
+   * Creates a source for characters that come from the original text
+   * @param uri - the uri of the original text
+   * @param start - the original position of the first character
+   * @param parent - the line that owns the characters
+   * @return a mapping source
+   */
+  static MappingSource original(String uri, Position start, ExtendedTextLine parent) {
+    return new MappingSource(uri, start, true, null, new HashMap<>(), parent);
+  }
+
+  /**
+   * Creates a source for characters that don't have an original position, e.g. replacement text
+   * @param uri - the uri of the text
+   * @param instantLocation - the location of the replaced block
+   * @param parent - the line that owns the characters
+   * @return a mapping source
+   */
+  static MappingSource instant(String uri, Location instantLocation, ExtendedTextLine parent) {
+    return new MappingSource(uri, null, true, instantLocation, new HashMap<>(), parent);
+  }
+
+  /**
+   * Creates a source for padding characters, all of them are mapped to the same position
+   * @param parent - the line that owns the characters
+   * @return a mapping source
+   */
+  static MappingSource padding(ExtendedTextLine parent) {
+    return new MappingSource("", new Position(0, 0), false, null, new HashMap<>(), parent);
+  }
+
+  /**
+   * Creates a copy of this source that starts from the given offset. The copy has its own identity
+   * but shares the location information.
+   * @param offset - an offset of the first character of the copy
+   * @param parent - the line that owns the copied characters
+   * @return a mapping source
+   */
+  MappingSource copyFrom(int offset, ExtendedTextLine parent) {
+    return new MappingSource(uri, getOriginalPosition(offset), advancing, instantLocation, initialLocationMap, parent);
+  }
+
+  /**
+   * Returns the original position of the character with the given offset
+   * @param offset - an offset of the character in this source
+   * @return the original position or null if the characters have no original position
+   */
+  Position getOriginalPosition(int offset) {
+    if (originalLine < 0) {
+      return null;
+    }
+    return new Position(originalLine, advancing ? originalCharacter + offset : originalCharacter);
+  }
+}
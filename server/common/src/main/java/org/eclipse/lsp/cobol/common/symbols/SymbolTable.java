@@ -15,25 +15,56 @@
 package org.eclipse.lsp.cobol.common.symbols;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Value;
 import org.eclipse.lsp.cobol.common.model.tree.CodeBlockDefinitionNode;
 import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
 import org.eclipse.lsp.cobol.common.model.tree.variable.VariableNode;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /** A container for symbol information */
 @Value
 public class SymbolTable {
-  List<CodeBlockDefinitionNode> codeBlocks = new ArrayList<>();
+  ListMultimap<String, CodeBlockDefinitionNode> codeBlocks = ArrayListMultimap.create();
+  Map<CodeBlockDefinitionNode, String> codeBlockSections = new IdentityHashMap<>();
   Map<String, CodeBlockReference> paragraphMap = new HashMap<>();
   Map<String, CodeBlockReference> sectionMap = new HashMap<>();
   Multimap<String, VariableNode> variables = ArrayListMultimap.create();
 
+  /**
+   * Register a code block definition with the name of the section it belongs to
+   * @param node the code block definition
+   * @param sectionName the name of the owning section or an empty string
+   */
+  public void addCodeBlock(CodeBlockDefinitionNode node, String sectionName) {
+    codeBlocks.put(node.getName().toUpperCase(Locale.ROOT), node);
+    codeBlockSections.put(node, sectionName);
+  }
+
+  /**
+   * Gives the code block definitions with the given name in the order of their registration
+   * @param name the code block name in any case
+   * @return the list of code block definitions
+   */
+  public List<CodeBlockDefinitionNode> getCodeBlocks(String name) {
+    return codeBlocks.get(name.toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Gives the name of the section the code block definition belongs to
+   * @param node the registered code block definition
+   * @return the section name or an empty string
+   */
+  public String getCodeBlockSection(CodeBlockDefinitionNode node) {
+    return codeBlockSections.getOrDefault(node, "");
+  }
+
   /**
    * Generates unique key for the prorgam
    * @param program node
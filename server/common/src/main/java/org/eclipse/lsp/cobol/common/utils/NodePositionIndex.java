@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.common.utils;
+
+import org.eclipse.lsp.cobol.common.model.Locality;
+import org.eclipse.lsp.cobol.common.model.tree.Node;
+import org.eclipse.lsp4j.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * An index of the syntax tree node localities grouped by URI. It finds the node that contains a
+ * position in logarithmic time and returns the same node as {@link
+ * RangeUtils#findNodeByPosition(Node, String, Position)} would for the tree it was built on. The
+ * index is not updated when the tree changes.
+ */
+public final class NodePositionIndex {
+  private final Node[] nodes;
+  private final int[] subtreeEnds;
+  private final Map<String, Intervals> intervals;
+
+  private NodePositionIndex(Node[] nodes, int[] subtreeEnds, Map<String, Intervals> intervals) {
+    this.nodes = nodes;
+    this.subtreeEnds = subtreeEnds;
+    this.intervals = intervals;
+  }
+
+  /**
+   * Build the index for the tree with the given root
+   *
+   * @param rootNode the root of the tree
+   * @return the index of the tree nodes
+   */
+  public static NodePositionIndex build(Node rootNode) {
+    List<Node> nodes = new ArrayList<>();
+    List<Integer> subtreeEnds = new ArrayList<>();
+    collect(rootNode, nodes, subtreeEnds);
+
+    Map<String, List<Integer>> nodesByUri = new HashMap<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      Locality locality = nodes.get(i).getLocality();
+      if (locality != null && locality.getUri() != null && locality.getRange() != null) {
+        nodesByUri.computeIfAbsent(locality.getUri(), k -> new ArrayList<>()).add(i);
+      }
+    }
+    Map<String, Intervals> intervals = new HashMap<>();
+    nodesByUri.forEach((uri, ids) -> intervals.put(uri, new Intervals(nodes, ids)));
+    return new NodePositionIndex(
+        nodes.toArray(new Node[0]), subtreeEnds.stream().mapToInt(Integer::intValue).toArray(), intervals);
+  }
+
+  /**
+   * Find the syntax tree node that contains the position.
+   *
+   * @param uri the uri of the node locality
+   * @param position a cursor position
+   * @return the found node
+   */
+  public Optional<Node> findNodeByPosition(String uri, Position position) {
+    Intervals uriIntervals = intervals.get(uri);
+    if (uriIntervals == null) {
+      return Optional.empty();
+    }
+    int[] containing = uriIntervals.stab(toKey(position));
+    Arrays.sort(containing);
+    // The tree walk takes the first node in the pre-order that has no containing descendants
+    for (int i = 0; i < containing.length; i++) {
+      if (i == containing.length - 1 || containing[i + 1] > subtreeEnds[containing[i]]) {
+        return Optional.of(nodes[containing[i]]);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static int collect(Node node, List<Node> nodes, List<Integer> subtreeEnds) {
+    int id = nodes.size();
+    nodes.add(node);
+    subtreeEnds.add(id);
+    int end = id;
+    for (Node child : node.getChildren()) {
+      end = collect(child, nodes, subtreeEnds);
+    }
+    subtreeEnds.set(id, end);
+    return end;
+  }
+
+  private static long toKey(Position position) {
+    return ((long) position.getLine() << 32) + position.getCharacter();
+  }
+
+  /** Node ranges of one URI sorted by start, as an implicit balanced tree with the max end of each subtree */
+  private static final class Intervals {
+    private final int[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    Intervals(List<Node> nodes, List<Integer> nodeIds) {
+      ids = nodeIds.stream()
+          .sorted(Comparator.comparingLong(id -> toKey(nodes.get(id).getLocality().getRange().getStart())))
+          .mapToInt(Integer::intValue)
+          .toArray();
+      starts = Arrays.stream(ids).mapToLong(id -> toKey(nodes.get(id).getLocality().getRange().getStart())).toArray();
+      ends = Arrays.stream(ids).mapToLong(id -> toKey(nodes.get(id).getLocality().getRange().getEnd())).toArray();
+      maxEnds = new long[ids.length];
+      computeMaxEnds(0, ids.length - 1);
+    }
+
+    int[] stab(long point) {
+      IntStream.Builder result = IntStream.builder();
+      stab(0, ids.length - 1, point, result);
+      return result.build().toArray();
+    }
+
+    private long computeMaxEnds(int low, int high) {
+      if (low > high) {
+        return Long.MIN_VALUE;
+      }
+      int middle = (low + high) >>> 1;
+      maxEnds[middle] = Math.max(ends[middle], Math.max(computeMaxEnds(low, middle - 1), computeMaxEnds(middle + 1, high)));
+      return maxEnds[middle];
+    }
+
+    private void stab(int low, int high, long point, IntStream.Builder result) {
+      if (low > high) {
+        return;
+      }
+      int middle = (low + high) >>> 1;
+      if (maxEnds[middle] < point) {
+        return;
+      }
+      stab(low, middle - 1, point, result);
+      if (starts[middle] <= point) {
+        if (ends[middle] >= point) {
+          result.add(ids[middle]);
+        }
+        stab(middle + 1, high, point, result);
+      }
+    }
+  }
+}
@@ -30,4 +30,22 @@ class BenchmarkServiceTests {
     assertEquals("100500", benchmarkSession.attr("size"));
     assertEquals("http://hello.com", benchmarkSession.attr("uri"));
   }
+
+  @Test
+  void metricsArePerStageAndSize() {
+    BenchmarkService benchmarkService = new BenchmarkServiceImpl();
+    for (int i = 0; i < 100; i++) {
+      BenchmarkSession benchmarkSession = benchmarkService.startSession();
+      benchmarkSession.measure(ID, () -> null);
+      benchmarkSession.attr("uri", "http://hello.com");
+      benchmarkSession.attr("size", "100500");
+      benchmarkService.logTiming(benchmarkSession);
+    }
+    JsonObject metrics = benchmarkService.getMetrics();
+    assertEquals(100, metrics.get("sessions").getAsLong());
+    assertEquals(100, metrics.getAsJsonObject("stages").getAsJsonObject(ID).get("count").getAsLong());
+    assertEquals(100, metrics.getAsJsonObject("stagesBySize").getAsJsonObject("100K-1M")
+        .getAsJsonObject("Total time").get("count").getAsLong());
+    assertTrue(benchmarkService.getMeasurements().size() < 100);
+  }
 }
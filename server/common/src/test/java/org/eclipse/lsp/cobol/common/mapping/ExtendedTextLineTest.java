@@ -100,4 +100,25 @@ class ExtendedTextLineTest {
     ExtendedTextLine subline = line.subline(2, 5);
     assertEquals("xt e", subline.toString());
   }
+
+  @Test
+  void testMappingAfterInsertAndDelete() {
+    ExtendedTextLine line = new ExtendedTextLine("0123456789", 3, "uri");
+    line.insert(4, new ExtendedTextLine("ABC", new Position(7, 2), "copybook"));
+    line.delete(1, 2);
+
+    assertEquals("03ABC456789", line.toString());
+    assertEquals(new Position(3, 3).toString(), line.getCharacterAt(1).getOriginalPosition().toString());
+    assertEquals(new Position(7, 4).toString(), line.getCharacterAt(4).getOriginalPosition().toString());
+    assertEquals("copybook", line.getCharacterAt(4).getUri());
+    assertEquals(new Position(3, 4).toString(), line.getCharacterAt(5).getOriginalPosition().toString());
+  }
+
+  @Test
+  void testReplaceCharacters() {
+    ExtendedTextLine line = new ExtendedTextLine("a?b?c", 0, "uri");
+    line.replaceCharacters(c -> c == '?', ' ');
+    assertEquals("a b c", line.toString());
+    assertEquals(new Position(0, 3).toString(), line.getCharacterAt(3).getOriginalPosition().toString());
+  }
 }
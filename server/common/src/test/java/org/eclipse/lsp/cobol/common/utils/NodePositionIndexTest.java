@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.common.utils;
+
+import org.eclipse.lsp.cobol.common.model.Locality;
+import org.eclipse.lsp.cobol.common.model.tree.Node;
+import org.eclipse.lsp.cobol.common.model.tree.RootNode;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/** Test {@link NodePositionIndex} finds the same nodes as {@link RangeUtils#findNodeByPosition} */
+class NodePositionIndexTest {
+  private static final String URI = "file:///program.cbl";
+  private static final String COPYBOOK_URI = "file:///copybook.cpy";
+
+  @Test
+  void testIndexMatchesTreeWalk() {
+    Node root = new RootNode(Locality.builder().build());
+    Node program = add(root, URI, 0, 0, 20, 10);
+    Node division = add(program, URI, 1, 0, 10, 10);
+    add(division, URI, 2, 0, 2, 10);
+    Node statement = add(division, URI, 3, 0, 5, 10);
+    add(statement, URI, 3, 0, 3, 4);
+    add(statement, URI, 3, 2, 4, 0);
+    // a copybook content is nested into the program nodes, but it has another uri
+    Node copybook = add(statement, COPYBOOK_URI, 0, 0, 3, 10);
+    add(copybook, URI, 4, 0, 4, 10);
+    add(copybook, COPYBOOK_URI, 1, 0, 1, 5);
+    add(program, URI, 8, 0, 15, 10);
+    add(root, COPYBOOK_URI, 2, 0, 6, 0);
+
+    NodePositionIndex index = NodePositionIndex.build(root);
+    for (String uri : new String[] {URI, COPYBOOK_URI}) {
+      for (int line = 0; line <= 21; line++) {
+        for (int character = 0; character <= 11; character++) {
+          Position position = new Position(line, character);
+          assertEquals(
+              RangeUtils.findNodeByPosition(root, uri, position).map(System::identityHashCode),
+              index.findNodeByPosition(uri, position).map(System::identityHashCode),
+              uri + " " + position);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testInnermostNodeIsFound() {
+    Node root = new RootNode(Locality.builder().build());
+    Node program = add(root, URI, 0, 0, 20, 10);
+    Node statement = add(program, URI, 3, 0, 5, 10);
+
+    NodePositionIndex index = NodePositionIndex.build(root);
+
+    assertSame(statement, index.findNodeByPosition(URI, new Position(4, 5)).get());
+    assertSame(program, index.findNodeByPosition(URI, new Position(6, 5)).get());
+    assertFalse(index.findNodeByPosition(URI, new Position(21, 0)).isPresent());
+    assertFalse(index.findNodeByPosition(COPYBOOK_URI, new Position(4, 5)).isPresent());
+  }
+
+  private static Node add(Node parent, String uri, int startLine, int startCharacter, int endLine, int endCharacter) {
+    Node node = new RootNode(Locality.builder()
+        .uri(uri)
+        .range(new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter)))
+        .build());
+    parent.addChild(node);
+    return node;
+  }
+}
@@ -31,6 +31,7 @@ import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
 import org.eclipse.lsp.cobol.common.processor.ProcessingPhase;
 import org.eclipse.lsp.cobol.common.processor.ProcessorDescription;
 import org.eclipse.lsp.cobol.common.utils.KeywordsUtils;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp.cobol.dialects.daco.nodes.DaCoCopyFromNode;
 import org.eclipse.lsp.cobol.dialects.daco.processors.DaCoCopyFromProcessor;
 import org.eclipse.lsp.cobol.dialects.daco.processors.implicit.DaCoImplicitCodeProcessor;
@@ -92,7 +93,7 @@ public final class DaCoDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new CobolErrorStrategy(messageService));
     DaCoVisitor visitor = new DaCoVisitor(context);
-    List<Node> nodes = visitor.visitStartRule(parser.startRule());
+    List<Node> nodes = visitor.visitStartRule(ParserRuntime.parse(parser, DaCoParser::startRule));
     nodes.addAll(maidOutcome.getDialectNodes());
 
     List<SyntaxError> parserErrors = new LinkedList<>();
@@ -42,6 +42,7 @@ import org.eclipse.lsp.cobol.common.message.MessageService;
 import org.eclipse.lsp.cobol.common.model.Locality;
 import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
 import org.eclipse.lsp.cobol.common.model.tree.Node;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp.cobol.dialects.daco.nodes.DaCoCopyFromNode;
 import org.eclipse.lsp.cobol.dialects.daco.nodes.DaCoCopyNode;
 import org.eclipse.lsp4j.Location;
@@ -293,7 +294,7 @@ public class DaCoMaidProcessor {
 
     DaCoCopybookVisitor visitor =
         new DaCoCopybookVisitor(copybookModel.getUri(), startingLevel, suffix, copybookModel.getCopybookId().toString());
-    ParserRuleContext ctx = parser.dataDescriptionEntries();
+    ParserRuleContext ctx = ParserRuntime.parse(parser, VariableParser::dataDescriptionEntries);
     return visitor.visit(ctx);
   }
 
@@ -36,6 +36,7 @@ import org.eclipse.lsp.cobol.common.model.Locality;
 import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
 import org.eclipse.lsp.cobol.common.model.tree.Node;
 import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 
 /**
  * Class implements idms copybook processing
@@ -100,7 +101,7 @@ class IdmsCopybookService {
     IdmsCopybookVisitor visitor = new IdmsCopybookVisitor(copybookService, preprocessor, copybookProcessingMode, treeListener, messageService,
         programDocumentUri, copybookModel.getUri(), parentLevel, processedCopybooks);
 
-    ParserRuleContext node = parser.startRule();
+    ParserRuleContext node = ParserRuntime.parse(parser, IdmsCopyParser::startRule);
     List<Node> nodes = visitor.visit(node);
 
     List<SyntaxError> errors = new LinkedList<>(listener.getErrors());
@@ -34,6 +34,7 @@ import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
 import org.eclipse.lsp.cobol.common.model.tree.Node;
 import org.eclipse.lsp.cobol.common.utils.KeywordsUtils;
 import org.eclipse.lsp.cobol.common.utils.RangeUtils;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
@@ -237,7 +238,7 @@ public final class IdmsDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new CobolErrorStrategy(messageService));
 
-    IdmsCopyParser.StartRuleContext result = parser.startRule();
+    IdmsCopyParser.StartRuleContext result = ParserRuntime.parse(parser, IdmsCopyParser::startRule);
     errors.addAll(listener.getErrors());
     return result;
   }
@@ -254,7 +255,7 @@ public final class IdmsDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new CobolErrorStrategy(messageService));
 
-    IdmsParser.StartRuleContext result = parser.startRule();
+    IdmsParser.StartRuleContext result = ParserRuntime.parse(parser, IdmsParser::startRule);
     errors.addAll(listener.getErrors());
     return result;
   }
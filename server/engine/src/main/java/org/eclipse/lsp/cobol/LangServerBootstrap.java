@@ -21,6 +21,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import lombok.NonNull;
 import org.eclipse.lsp.cobol.cli.Cli;
+import org.eclipse.lsp.cobol.core.engine.ParserWarmUp;
 import org.eclipse.lsp.cobol.domain.modules.DatabusModule;
 import org.eclipse.lsp.cobol.domain.modules.EngineModule;
 import org.eclipse.lsp.cobol.domain.modules.ServiceModule;
@@ -73,6 +74,7 @@ public class LangServerBootstrap {
     Injector injector = LangServerBootstrap.initCtx();
     LanguageServer server = injector.getInstance(LanguageServer.class);
     ClientProvider provider = injector.getInstance(ClientProvider.class);
+    injector.getInstance(ParserWarmUp.class).warmUpAsync();
 
     langServerBootstrap.start(args, server, provider);
   }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.cli;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.common.AnalysisConfig;
+import org.eclipse.lsp.cobol.common.AnalysisResult;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
+import org.eclipse.lsp.cobol.common.dialects.CobolLanguageId;
+import org.eclipse.lsp.cobol.core.engine.CobolLanguageEngine;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+
+/**
+ * Analyzes many programs concurrently and collects the diagnostics and the timing of each program
+ * into one report. The programs are analyzed by a fixed number of workers with the same engine, so
+ * they share the copybook cache and the dialects.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class BatchAnalysis {
+  private static final double NANOS_IN_SECOND = 1_000_000_000.0;
+
+  private final CobolLanguageEngine engine;
+  private final BenchmarkService benchmarkService;
+  private final AnalysisConfig config;
+  private final int threads;
+
+  /**
+   * Analyze the programs
+   *
+   * @param programs the program files
+   * @return the report with a result for each program in the given order and the summary
+   * @throws InterruptedException if the thread is interrupted while waiting for the results
+   */
+  JsonObject run(List<File> programs) throws InterruptedException {
+    ExecutorService workers = Executors.newFixedThreadPool(threads,
+        new ThreadFactoryBuilder().setNameFormat("Batch analysis #%d").setDaemon(true).build());
+    long start = System.nanoTime();
+    try {
+      List<Future<JsonObject>> futures = new ArrayList<>(programs.size());
+      for (File program : programs) {
+        futures.add(workers.submit(() -> analyze(program)));
+      }
+      JsonArray files = new JsonArray();
+      for (Future<JsonObject> future : futures) {
+        files.add(getResult(future));
+      }
+      JsonObject report = new JsonObject();
+      report.add("summary", summarize(files, System.nanoTime() - start));
+      report.add("files", files);
+      report.add("timings", benchmarkService.getMetrics());
+      return report;
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Check if the report has no failed programs and no errors
+   *
+   * @param report the report of {@link #run}
+   * @return true if all the programs are analyzed without errors
+   */
+  static boolean isClean(JsonObject report) {
+    JsonObject summary = report.getAsJsonObject("summary");
+    return summary.get("failed").getAsInt() == 0
+        && summary.getAsJsonObject("diagnostics").get(DiagnosticSeverity.Error.name()).getAsInt() == 0;
+  }
+
+  /**
+   * Collect the programs to analyze from a directory or a file and from a list of paths
+   *
+   * @param source a program file or a directory to search for the programs, may be null
+   * @param fileList a file with a path of a program on each line, may be null
+   * @param extensions the extensions of the programs in the directory
+   * @return the program files, the programs of a directory are sorted by path
+   * @throws IOException if the directory or the list cannot be read
+   */
+  static List<File> collectPrograms(File source, File fileList, List<String> extensions) throws IOException {
+    Set<File> programs = new LinkedHashSet<>();
+    if (source != null && source.isDirectory()) {
+      try (Stream<Path> paths = Files.walk(source.toPath())) {
+        paths.filter(Files::isRegularFile)
+            .filter(path -> hasExtension(path, extensions))
+            .sorted()
+            .map(Path::toFile)
+            .forEach(programs::add);
+      }
+    } else if (source != null) {
+      programs.add(source);
+    }
+    if (fileList != null) {
+      Files.readAllLines(fileList.toPath()).stream()
+          .map(String::trim)
+          .filter(line -> !line.isEmpty())
+          .map(File::new)
+          .forEach(programs::add);
+    }
+    return new ArrayList<>(programs);
+  }
+
+  private static boolean hasExtension(Path path, List<String> extensions) {
+    String name = path.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    String extension = dot < 0 ? "" : name.substring(dot + 1);
+    return extensions.stream()
+        .map(it -> it.startsWith(".") ? it.substring(1) : it)
+        .anyMatch(extension::equalsIgnoreCase);
+  }
+
+  private JsonObject analyze(File program) {
+    JsonObject result = new JsonObject();
+    String uri = program.toURI().toString();
+    result.addProperty("uri", uri);
+    long start = System.nanoTime();
+    try {
+      String text = new String(Files.readAllBytes(program.toPath()));
+      result.addProperty("size", text.length());
+      AnalysisResult analysisResult = engine.run(uri, text, config, CobolLanguageId.COBOL);
+      result.add("diagnostics", toJson(analysisResult.getDiagnostics()));
+    } catch (Exception e) {
+      LOG.error("Cannot analyze " + uri, e);
+      result.addProperty("error", String.valueOf(e));
+    }
+    result.addProperty("time", (System.nanoTime() - start) / NANOS_IN_SECOND);
+    return result;
+  }
+
+  private static JsonObject getResult(Future<JsonObject> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static JsonObject toJson(Map<String, List<Diagnostic>> diagnostics) {
+    Gson gson = new Gson();
+    JsonObject result = new JsonObject();
+    new TreeMap<>(diagnostics).forEach((uri, list) -> {
+      JsonArray array = new JsonArray();
+      list.forEach(diagnostic -> {
+        JsonObject json = new JsonObject();
+        json.add("range", gson.toJsonTree(diagnostic.getRange()));
+        Optional.ofNullable(diagnostic.getSeverity()).ifPresent(s -> json.addProperty("severity", s.name()));
+        Optional.ofNullable(diagnostic.getCode()).ifPresent(c -> json.addProperty("code", String.valueOf(c.get())));
+        Optional.ofNullable(diagnostic.getSource()).ifPresent(s -> json.addProperty("source", s));
+        json.addProperty("message", diagnostic.getMessage());
+        array.add(json);
+      });
+      result.add(uri, array);
+    });
+    return result;
+  }
+
+  private static JsonObject summarize(JsonArray files, long time) {
+    Map<String, Integer> severities = Arrays.stream(DiagnosticSeverity.values())
+        .collect(Collectors.toMap(DiagnosticSeverity::name, s -> 0, Integer::sum, LinkedHashMap::new));
+    int failed = 0;
+    double analysisTime = 0;
+    for (int i = 0; i < files.size(); i++) {
+      JsonObject file = files.get(i).getAsJsonObject();
+      analysisTime += file.get("time").getAsDouble();
+      if (file.has("error")) {
+        failed++;
+        continue;
+      }
+      file.getAsJsonObject("diagnostics").entrySet().forEach(entry -> entry.getValue().getAsJsonArray()
+          .forEach(diagnostic -> Optional.ofNullable(diagnostic.getAsJsonObject().get("severity"))
+              .ifPresent(severity -> severities.merge(severity.getAsString(), 1, Integer::sum))));
+    }
+    JsonObject summary = new JsonObject();
+    summary.addProperty("files", files.size());
+    summary.addProperty("failed", failed);
+    JsonObject diagnostics = new JsonObject();
+    severities.forEach(diagnostics::addProperty);
+    summary.add("diagnostics", diagnostics);
+    summary.addProperty("time", time / NANOS_IN_SECOND);
+    summary.addProperty("analysisTime", analysisTime);
+    return summary;
+  }
+}
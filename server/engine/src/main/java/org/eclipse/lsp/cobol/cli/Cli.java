@@ -19,6 +19,8 @@ import com.google.gson.*;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -39,6 +41,7 @@ import org.eclipse.lsp.cobol.common.error.SyntaxError;
 import org.eclipse.lsp.cobol.common.mapping.ExtendedDocument;
 import org.eclipse.lsp.cobol.common.mapping.ExtendedText;
 import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.core.engine.CobolLanguageEngine;
 import org.eclipse.lsp.cobol.core.engine.analysis.AnalysisContext;
 import org.eclipse.lsp.cobol.core.engine.dialects.DialectService;
 import org.eclipse.lsp.cobol.common.pipeline.Pipeline;
@@ -63,7 +66,8 @@ import picocli.CommandLine;
 public class Cli implements Callable<Integer> {
   private enum Action {
     list_copybooks,
-    analysis
+    analysis,
+    batch
   }
 
   @CommandLine.Parameters(description = "Values: ${COMPLETION-CANDIDATES}")
@@ -71,10 +75,29 @@ public class Cli implements Callable<Integer> {
 
   @CommandLine.Option(
       names = {"-s", "--source"},
-      required = true,
-      description = "The COBOL program file.")
+      description = "The COBOL program file, or the folder with the programs for the batch action.")
   private File src;
 
+  @CommandLine.Option(
+      names = {"-fl", "--file-list"},
+      description = "A file with a path of a COBOL program on each line for the batch action.")
+  private File fileList;
+
+  @CommandLine.Option(
+      names = {"-pe", "--program-extension"},
+      description = "List of program extensions to find in the source folder for the batch action.")
+  private String[] programExt = {".cbl", ".cob", ".cobol"};
+
+  @CommandLine.Option(
+      names = {"-t", "--threads"},
+      description = "Number of programs analyzed concurrently by the batch action.")
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  @CommandLine.Option(
+      names = {"-o", "--output"},
+      description = "The report file of the batch action, the report is printed if it is not set.")
+  private File output;
+
   @CommandLine.Option(
       names = {"-cf", "--copybook-folder"},
       description = "Path to the copybook folder.")
@@ -88,20 +111,22 @@ public class Cli implements Callable<Integer> {
   /**
    * Prints the file name to the console and returns result code.
    *
-   * @return 0 indicating success.
+   * @return 0 indicating success, 2 if the batch action finds errors.
    * @throws Exception if an error occurs during the method execution.
    */
   @Override
   public Integer call() throws Exception {
     Injector diCtx = Guice.createInjector(new CliModule());
-    Pipeline<AnalysisContext> pipeline = setupPipeline(diCtx, action);
 
     CliClientProvider cliClientProvider = diCtx.getInstance(CliClientProvider.class);
-    if (cpyPaths != null) {
-      cliClientProvider.setCpyPaths(Arrays.asList(cpyPaths));
-    }
+    cliClientProvider.setCpyPaths(cpyPaths == null ? Collections.emptyList() : Arrays.asList(cpyPaths));
     cliClientProvider.setCpyExt(Arrays.asList(cpyExt));
 
+    if (action == Action.batch) {
+      return runBatch(diCtx);
+    }
+    Pipeline<AnalysisContext> pipeline = setupPipeline(diCtx, action);
+
     // Cleaning up
     CleanerPreprocessor preprocessor = diCtx.getInstance(TrueDialectService.class).getPreprocessor(CobolLanguageId.COBOL);
     BenchmarkService benchmarkService = diCtx.getInstance(BenchmarkService.class);
@@ -158,6 +183,31 @@ public class Cli implements Callable<Integer> {
     return 0;
   }
 
+  private Integer runBatch(Injector diCtx) throws IOException, InterruptedException {
+    List<File> programs = BatchAnalysis.collectPrograms(src, fileList, Arrays.asList(programExt));
+    if (programs.isEmpty()) {
+      LOG.error("src or file-list with COBOL programs must be provided");
+      return 1;
+    }
+    if (threads < 1) {
+      LOG.error("threads must be positive");
+      return 1;
+    }
+    BatchAnalysis batchAnalysis = new BatchAnalysis(
+        diCtx.getInstance(CobolLanguageEngine.class),
+        diCtx.getInstance(BenchmarkService.class),
+        createAnalysisConfiguration(),
+        threads);
+    JsonObject report = batchAnalysis.run(programs);
+    String json = new GsonBuilder().setPrettyPrinting().create().toJson(report);
+    if (output == null) {
+      System.out.println(json);
+    } else {
+      Files.write(output.toPath(), json.getBytes(StandardCharsets.UTF_8));
+    }
+    return BatchAnalysis.isClean(report) ? 0 : 2;
+  }
+
   private JsonObject toJson(SyntaxError syntaxError, Gson gson) {
     JsonObject diagnostic = new JsonObject();
     Optional.ofNullable(syntaxError.getErrorCode())
@@ -39,6 +39,7 @@ import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
 import org.eclipse.lsp.cobol.common.model.tree.Node;
 import org.eclipse.lsp.cobol.common.model.tree.RootNode;
 import org.eclipse.lsp.cobol.common.utils.ImplicitCodeUtils;
+import org.eclipse.lsp.cobol.common.utils.NodePositionIndex;
 import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
 import org.eclipse.lsp.cobol.core.engine.analysis.AnalysisContext;
 import org.eclipse.lsp.cobol.core.engine.errors.ErrorFinalizerService;
@@ -103,6 +104,7 @@ public class CobolLanguageEngine {
             collectDiagnosticsForAffectedDocuments(
                 HandlerUtility.convertErrors(result.getErrors()), copyUriList, uri))
         .rootNode(rootNode)
+        .positionIndex(NodePositionIndex.build(rootNode))
         .build();
   }
 
@@ -160,7 +162,7 @@ public class CobolLanguageEngine {
     session.attr("uri", ctx.getExtendedDocument().getUri());
     session.attr("size", String.valueOf(ctx.getExtendedDocument().toString().length()));
     session.attr("result", result.stopProcessing() ? "stopped" : "done");
-    benchmarkService.logTiming();
+    benchmarkService.logTiming(session);
     if (result.stopProcessing() || !(result.getData() instanceof ProcessingResult)) {
       return toAnalysisResult(
           new ResultWithErrors<>(
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core.engine;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.lsp.cobol.common.dialects.CobolDialect;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.core.CobolLexer;
+import org.eclipse.lsp.cobol.core.CobolParser;
+import org.eclipse.lsp.cobol.core.CobolPreprocessor;
+import org.eclipse.lsp.cobol.core.CobolPreprocessorLexer;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
+import org.eclipse.lsp.cobol.core.strategy.CobolErrorStrategy;
+import org.eclipse.lsp.cobol.implicitDialects.cics.CICSLexer;
+import org.eclipse.lsp.cobol.implicitDialects.cics.CICSParser;
+import org.eclipse.lsp.cobol.implicitDialects.sql.Db2SqlLexer;
+import org.eclipse.lsp.cobol.implicitDialects.sql.Db2SqlParser;
+
+/**
+ * Fills the shared DFA caches of the grammars used by every analysis. The bundled program is parsed
+ * by the preprocessor, Db2 SQL, CICS and COBOL grammars in a background thread, so the first
+ * analysis of a user document does not pay for the prediction of the common decisions.
+ */
+@Slf4j
+@Singleton
+public class ParserWarmUp {
+  private static final String CORPUS = "/parserWarmUp/WARMUP.cbl";
+  private static final Pattern EXEC_BLOCK =
+      Pattern.compile("EXEC\\s+(SQL|CICS)\\b.*?END-EXEC\\.?", Pattern.DOTALL);
+  private static final Pattern NOT_WHITESPACE = Pattern.compile("\\S");
+
+  private final MessageService messageService;
+
+  @Inject
+  public ParserWarmUp(MessageService messageService) {
+    this.messageService = messageService;
+  }
+
+  /** Start parsing the bundled program in a background thread */
+  public void warmUpAsync() {
+    Thread thread = new Thread(this::warmUp, "Parser warm-up");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    thread.start();
+  }
+
+  /** Parse the bundled program with all the grammars */
+  public void warmUp() {
+    long start = System.nanoTime();
+    try (InputStream stream = ParserWarmUp.class.getResourceAsStream(CORPUS)) {
+      String text = IOUtils.toString(stream, StandardCharsets.UTF_8);
+      parse(new CobolPreprocessor(tokens(new CobolPreprocessorLexer(CharStreams.fromString(text)))),
+          CobolPreprocessor::startRule);
+      parse(new Db2SqlParser(tokens(new Db2SqlLexer(CharStreams.fromString(text)))), Db2SqlParser::startRule);
+      parse(new CICSParser(tokens(new CICSLexer(CharStreams.fromString(text)))), CICSParser::startRule);
+      parse(new CobolParser(tokens(new CobolLexer(CharStreams.fromString(fillDialectBlocks(text))))),
+          CobolParser::startRule);
+      LOG.info("Parsers warmed up in {} ms, DFA states: {}",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), ParserRuntime.getDfaStates());
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Parser warm-up failed", e);
+    }
+  }
+
+  private <P extends Parser, T extends ParserRuleContext> void parse(P parser, Function<P, T> rule) {
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new CobolErrorStrategy(messageService));
+    ParserRuntime.parse(parser, rule);
+  }
+
+  private static CommonTokenStream tokens(Lexer lexer) {
+    lexer.removeErrorListeners();
+    return new CommonTokenStream(lexer);
+  }
+
+  /** Replace the EXEC blocks the same way the implicit dialects do before the COBOL parsing */
+  private static String fillDialectBlocks(String text) {
+    Matcher matcher = EXEC_BLOCK.matcher(text);
+    StringBuffer result = new StringBuffer();
+    while (matcher.find()) {
+      matcher.appendReplacement(result,
+          Matcher.quoteReplacement(NOT_WHITESPACE.matcher(matcher.group()).replaceAll(CobolDialect.FILLER)));
+    }
+    matcher.appendTail(result);
+    return result.toString();
+  }
+}
@@ -15,13 +15,19 @@
 package org.eclipse.lsp.cobol.core.engine.dialects;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.AnalysisConfig;
 import org.eclipse.lsp.cobol.common.CleanerPreprocessor;
 import org.eclipse.lsp.cobol.common.DialectRegistryItem;
@@ -47,9 +53,19 @@ import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 
-/** Dialect utility class */
+/**
+ * Dialect utility class. The dialects change the document one after another, but the expensive
+ * part of their processing, like the parsing of the dialect blocks, is prepared concurrently on a
+ * shared worker pool.
+ */
+@Slf4j
 @Singleton
 public class DialectService {
+  private static final int WORKERS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  private static final ExecutorService WORKER_POOL =
+      Executors.newFixedThreadPool(
+          WORKERS, new ThreadFactoryBuilder().setNameFormat("Dialect worker #%d").setDaemon(true).build());
+
   private final Map<String, CobolDialect> dialectSuppliers;
   private final DialectDiscoveryService discoveryService;
   private final CopybookService copybookService;
@@ -103,11 +119,7 @@ public class DialectService {
     }
     ResultWithErrors<DialectOutcome> acc =
         new ResultWithErrors<>(new DialectOutcome(context), errors);
-    for (CobolDialect orderedDialect : orderedDialects) {
-      acc = processDialect(acc, orderedDialect, context);
-      context.getExtendedDocument().commitTransformations();
-    }
-    return acc;
+    return processDialects(acc, orderedDialects, context);
   }
 
   /**
@@ -126,11 +138,7 @@ public class DialectService {
 
     ResultWithErrors<DialectOutcome> acc =
         new ResultWithErrors<>(new DialectOutcome(dialectProcessingContext), errors);
-    for (CobolDialect dialect : getActiveImplicitDialects(ctx.getConfig())) {
-      acc = processDialect(acc, dialect, dialectProcessingContext);
-      dialectProcessingContext.getExtendedDocument().commitTransformations();
-    }
-    return acc;
+    return processDialects(acc, getActiveImplicitDialects(ctx.getConfig()), dialectProcessingContext);
   }
 
   /**
@@ -163,7 +171,7 @@ public class DialectService {
   }
 
   /**
-   * Returns list of active implicit dialects
+   * Returns list of active implicit dialects ordered by name
    *
    * @param config a AnalysisConfig class. This class holds user configuration for the analysis
    * @return list of active implicit dialects
@@ -171,6 +179,7 @@ public class DialectService {
   public List<CobolDialect> getActiveImplicitDialects(AnalysisConfig config) {
     return getImplicitCobolDialects().stream()
         .filter(activeImplicitDialect(config))
+        .sorted(Comparator.comparing(CobolDialect::getName))
         .collect(Collectors.toList());
   }
 
@@ -268,6 +277,47 @@ public class DialectService {
     return Optional.ofNullable(dialectSuppliers.get(dialectName));
   }
 
+  /**
+   * Process the text with the dialects in the given order. All the dialects but the first one are
+   * prepared concurrently, while the first one processes the text, and each dialect waits for its
+   * preparation before the processing. The preparations that are left when the processing stops are
+   * cancelled, which interrupts their worker threads.
+   */
+  private static ResultWithErrors<DialectOutcome> processDialects(
+      ResultWithErrors<DialectOutcome> acc,
+      List<CobolDialect> dialects,
+      DialectProcessingContext context) {
+    String text = context.getExtendedDocument().toString();
+    List<Future<?>> preparations = new ArrayList<>();
+    for (int i = 1; i < dialects.size(); i++) {
+      CobolDialect dialect = dialects.get(i);
+      preparations.add(WORKER_POOL.submit(() -> dialect.prepare(context, text)));
+    }
+    try {
+      for (int i = 0; i < dialects.size(); i++) {
+        if (i > 0) {
+          awaitPreparation(preparations.get(i - 1), dialects.get(i));
+        }
+        acc = processDialect(acc, dialects.get(i), context);
+        context.getExtendedDocument().commitTransformations();
+      }
+      return acc;
+    } finally {
+      preparations.forEach(preparation -> preparation.cancel(true));
+    }
+  }
+
+  private static void awaitPreparation(Future<?> preparation, CobolDialect dialect) {
+    try {
+      preparation.get();
+    } catch (InterruptedException e) {
+      // The analysis is cancelled, the processing of the dialect will check it
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOG.warn("Preparation of the {} dialect failed", dialect.getName(), e.getCause());
+    }
+  }
+
   private static ResultWithErrors<DialectOutcome> processDialect(
       ResultWithErrors<DialectOutcome> previousResult,
       CobolDialect dialect,
@@ -21,8 +21,14 @@ import org.eclipse.lsp.cobol.common.processor.ProcessingPhase;
 import org.eclipse.lsp.cobol.common.processor.Processor;
 import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * AST processor. This class contains node type specific processors and handles abstract syntax tree
@@ -52,25 +58,59 @@ public class AstProcessor {
    * @param ctx processing context
    */
   public void process(ProcessingPhase phase, Node node, ProcessingContext ctx) {
-    ThreadInterruptionUtil.checkThreadInterrupted();
-    findProcessors(ctx, phase, node.getClass()).forEach(p -> ((Processor<Node>) p).accept(node, ctx));
-    node.getChildren().forEach(n -> process(phase, n, ctx));
+    process(new Dispatch(ctx, phase), node, ctx);
   }
 
-  private List<Processor<? extends Node>> findProcessors(ProcessingContext ctx,
-                                               ProcessingPhase phase, Class<? extends Node> nodeClass) {
-    List<Processor<? extends Node>> result = new ArrayList<>();
-    if (!ctx.getProcessors().containsKey(phase)) {
-      return result;
+  /**
+   * Visit the nodes in pre-order. The children of a node are taken after its processors have run,
+   * since the processors may change them.
+   */
+  private void process(Dispatch dispatch, Node rootNode, ProcessingContext ctx) {
+    if (dispatch.isEmpty()) {
+      return;
+    }
+    Deque<Node> stack = new ArrayDeque<>();
+    stack.push(rootNode);
+    while (!stack.isEmpty()) {
+      ThreadInterruptionUtil.checkThreadInterrupted();
+      Node node = stack.pop();
+      for (Processor<Node> processor : dispatch.getProcessors(node.getClass())) {
+        processor.accept(node, ctx);
+      }
+      List<Node> children = new ArrayList<>(node.getChildren());
+      for (int i = children.size() - 1; i >= 0; i--) {
+        stack.push(children.get(i));
+      }
+    }
+  }
+
+  /** The processors of one phase by the node class, in the order of their registration */
+  private static final class Dispatch {
+    private final Map<Class<? extends Node>, List<BiConsumer<? extends Node, ProcessingContext>>> registered;
+    private final Map<Class<?>, List<Processor<Node>>> processors = new HashMap<>();
+
+    Dispatch(ProcessingContext ctx, ProcessingPhase phase) {
+      registered = ctx.getProcessors().getOrDefault(phase, Collections.emptyMap());
+    }
+
+    boolean isEmpty() {
+      return registered.isEmpty();
+    }
+
+    List<Processor<Node>> getProcessors(Class<?> nodeClass) {
+      return processors.computeIfAbsent(nodeClass, this::findProcessors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Processor<Node>> findProcessors(Class<?> nodeClass) {
+      List<Processor<Node>> result = new ArrayList<>();
+      registered.forEach(
+          (key, value) -> {
+            if (key.isAssignableFrom(nodeClass)) {
+              value.forEach(v -> result.add((Processor<Node>) v));
+            }
+          });
+      return result.isEmpty() ? Collections.emptyList() : result;
     }
-    ctx.getProcessors()
-        .get(phase)
-        .forEach(
-            (key, value) -> {
-              if (key.isAssignableFrom(nodeClass)) {
-                value.forEach(v -> result.add((Processor<? extends Node>) v));
-              }
-            });
-    return result;
   }
 }
@@ -20,7 +20,7 @@ import org.eclipse.lsp.cobol.common.model.NodeType;
 import org.eclipse.lsp.cobol.common.processor.ProcessingContext;
 import org.eclipse.lsp.cobol.common.processor.Processor;
 import org.eclipse.lsp.cobol.common.model.tree.RootNode;
-import org.eclipse.lsp.cobol.common.utils.RangeUtils;
+import org.eclipse.lsp.cobol.common.utils.NodePositionIndex;
 import org.eclipse.lsp4j.Location;
 
 import java.util.List;
@@ -38,10 +38,11 @@ public class RootNodeUpdateCopyNodesByPositionInTree implements Processor<RootNo
     List<Node> nodes =
         node.getChildren().stream().filter(Node.hasType(NodeType.COPY)).collect(toList());
     nodes.forEach(node::removeChild);
+    // COPY statements do not overlap, so adding one of them does not change the parent of the others
+    NodePositionIndex positionIndex = NodePositionIndex.build(node);
     nodes.forEach(
         it ->
-            RangeUtils.findNodeByPosition(
-                    node, it.getLocality().getUri(), it.getLocality().getRange().getStart())
+            positionIndex.findNodeByPosition(it.getLocality().getUri(), it.getLocality().getRange().getStart())
                 .orElse(node)
                 .addChild(it));
 
@@ -86,8 +86,7 @@ public class SymbolAccumulatorService implements VariableAccumulator {
    * @param node - the paragraph node
    */
   public void registerCodeBlock(ProgramNode program, CodeBlockDefinitionNode node) {
-    SymbolTable symbolTable = createOrGetSymbolTable(program);
-    symbolTable.getCodeBlocks().add(node);
+    createOrGetSymbolTable(program).addCodeBlock(node, getSectionName(node));
   }
 
   /**
@@ -102,9 +101,10 @@ public class SymbolAccumulatorService implements VariableAccumulator {
       ProgramNode program, CodeBlockUsageNode node) {
     SymbolTable symbolTable = createOrGetSymbolTable(program);
 
+    Optional<String> qualifyingSectionName = getQualifyingSectionName(node);
     List<CodeBlockDefinitionNode> definitions =
-        symbolTable.getCodeBlocks().stream()
-            .filter(it -> filterNodes(it, node))
+        symbolTable.getCodeBlocks(node.getName()).stream()
+            .filter(it -> qualifyingSectionName.map(symbolTable.getCodeBlockSection(it)::equalsIgnoreCase).orElse(true))
             .collect(Collectors.toList());
 
     if (definitions.size() == 0) {
@@ -124,7 +124,7 @@ public class SymbolAccumulatorService implements VariableAccumulator {
       String usageSectionName = getSectionName(node);
 
       List<CodeBlockDefinitionNode> inTheSameSection = definitions.stream()
-              .filter(d -> getSectionName(d).equalsIgnoreCase(usageSectionName))
+              .filter(d -> symbolTable.getCodeBlockSection(d).equalsIgnoreCase(usageSectionName))
               .collect(Collectors.toList());
       if (inTheSameSection.size() == 1) {
         definitions = inTheSameSection;
@@ -151,29 +151,25 @@ public class SymbolAccumulatorService implements VariableAccumulator {
     return Optional.empty();
   }
 
-  private boolean filterNodes(CodeBlockDefinitionNode definition, CodeBlockUsageNode usage) {
-    if (!usage.getName().equalsIgnoreCase(definition.getName())) {
-      return false;
+  /**
+   * Gives the section name of a usage qualified with a section in the PERFORM or GO TO statements,
+   * i.e. GO TO PARAG1 OF SECTION-1.
+   */
+  private Optional<String> getQualifyingSectionName(CodeBlockUsageNode usage) {
+    if (usage.getParent().getNodeType() != NodeType.PERFORM
+        && usage.getParent().getNodeType() != NodeType.GO_TO
+        && usage.getParent().getNodeType() != NodeType.SENTENCE) {
+      return Optional.empty();
     }
-
-    //Filter nodes in case of section usage in the PERFORM or GO TO statements. i.e. GO TO PARAG1 OF SECTION-1.
-    if (usage.getParent().getNodeType() == NodeType.PERFORM
-        || usage.getParent().getNodeType() == NodeType.GO_TO
-        || usage.getParent().getNodeType() == NodeType.SENTENCE) {
-      int index = usage.getParent().getChildren().indexOf(usage);
-
-      Optional<SectionNameNode> sectionNameNode = Optional.empty();
-      if (index + 1 < usage.getParent().getChildren().size()) {
-        sectionNameNode = Optional.ofNullable(usage.getParent().getChildren().get(index + 1))
-            .filter(c -> c instanceof SectionNameNode)
-            .map(SectionNameNode.class::cast);
-      }
-      return sectionNameNode
-          .map(SectionNameNode::getName)
-          .map(n -> n.equalsIgnoreCase(getSectionName(definition)))
-          .orElse(true);
+    List<Node> siblings = usage.getParent().getChildren();
+    int index = siblings.indexOf(usage);
+    if (index + 1 >= siblings.size()) {
+      return Optional.empty();
     }
-    return true;
+    return Optional.ofNullable(siblings.get(index + 1))
+        .filter(c -> c instanceof SectionNameNode)
+        .map(SectionNameNode.class::cast)
+        .map(SectionNameNode::getName);
   }
 
   private String getSectionName(Node node) {
@@ -35,13 +35,14 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static org.eclipse.lsp.cobol.common.utils.RangeUtils.findNodeByPosition;
 
 /** This class is a repository for symbols */
 @Singleton
 @Slf4j
 public class SymbolsRepository {
   private final Map<String, SymbolTable> programSymbols;
+  // document uri --> the keys of the symbol tables found by the last analysis of the document
+  private final Map<String, Set<String>> documentSymbols = new HashMap<>();
 
   public SymbolsRepository() {
     programSymbols = Collections.synchronizedMap(new HashMap<>());
@@ -62,6 +63,41 @@ public class SymbolsRepository {
     programSymbols.putAll(symbols);
   }
 
+  /**
+   * Replace the symbols of the document with the symbols of its latest analysis. The keys of the
+   * symbol tables contain the program positions, so the tables of the previous analysis are removed
+   * even if the programs moved.
+   *
+   * @param documentUri the analyzed document uri
+   * @param symbols updated symbols upon analysis
+   */
+  @Synchronized
+  public void updateSymbols(String documentUri, Map<String, SymbolTable> symbols) {
+    release(documentUri);
+    programSymbols.putAll(symbols);
+    documentSymbols.put(documentUri, new HashSet<>(symbols.keySet()));
+  }
+
+  /**
+   * Remove the symbols of the document, e.g. when it is closed or deleted
+   *
+   * @param documentUri the document uri
+   */
+  @Synchronized
+  public void release(String documentUri) {
+    Optional.ofNullable(documentSymbols.remove(documentUri)).ifPresent(keys -> keys.forEach(programSymbols::remove));
+  }
+
+  /**
+   * Returns the number of the retained symbol tables
+   *
+   * @return the number of the symbol tables
+   */
+  @Synchronized
+  public int size() {
+    return programSymbols.size();
+  }
+
   /**
    * Get variable data
    *
@@ -103,7 +139,7 @@ public class SymbolsRepository {
     if (result == null || result.getRootNode() == null) {
       return Optional.empty();
     }
-    Optional<Node> node = findNodeByPosition(result.getRootNode(), uri, position);
+    Optional<Node> node = result.findNodeByPosition(uri, position);
 
     return node.filter(DefinedAndUsedStructure.class::isInstance)
         .map(DefinedAndUsedStructure.class::cast)
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core.engine.symbols;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.common.model.NodeSymbolType;
+import org.eclipse.lsp.cobol.common.model.tree.*;
+import org.eclipse.lsp.cobol.common.model.tree.variable.VariableNode;
+import org.eclipse.lsp.cobol.common.utils.ImplicitCodeUtils;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.SymbolKind;
+
+/**
+ * Keeps the symbols of all the analyzed programs of the workspace: the programs, the sections, the
+ * paragraphs, the variables defined in copybooks and the CALL targets. The symbols of a document are
+ * replaced after each analysis, so the workspace symbol and the cross-program queries are answered
+ * without analyzing the programs again.
+ *
+ * <p>The symbols are found by the prefixes of their names and of the words of their names, e.g.
+ * "CUST" finds WS-CUSTOMER-ID. The index is stored on disk if the "workspace.symbols.path" system
+ * property points to a folder. Each document is a file there, so an analysis writes only the symbols
+ * of the analyzed document. The files are written by a single background thread, which writes only
+ * the latest symbols of a document if it is analyzed again in the meantime. The symbols are stored
+ * only if the analyzed text is the saved content of the file in one of the common source charsets, so
+ * the symbols of an unsaved buffer are not taken for the symbols of the file. They are stored with the
+ * hash of the file bytes, and a stored document is dropped on loading if its file has changed or has
+ * been deleted since then. The stored documents are loaded by the same background thread at the start,
+ * and the index is used without waiting for them.
+ */
+@Slf4j
+@Singleton
+public class WorkspaceSymbolIndex {
+  private static final String INDEX_PATH_SYSTEM_PROPERTY = "workspace.symbols.path";
+  private static final String ENTRY_EXTENSION = ".json";
+  private static final char WORD_SEPARATOR = '-';
+  private static final String FILLER = "FILLER";
+  private static final List<Charset> SOURCE_CHARSETS =
+      Stream.of("UTF-8", "windows-1252", "ISO-8859-1", "IBM1047", "IBM037", Charset.defaultCharset().name())
+          .filter(Charset::isSupported)
+          .map(Charset::forName)
+          .distinct()
+          .collect(Collectors.toList());
+
+  private final Gson gson = new Gson();
+  private final Path folder;
+  private final Executor writer;
+  private final Map<String, Entry> documents = new HashMap<>();
+  private final Map<String, PendingWrite> pendingWrites = new HashMap<>();
+  private final NavigableMap<String, Multiset<IndexedSymbol>> symbolsByKey = new TreeMap<>();
+  private final Map<String, Multiset<Location>> callsByName = new HashMap<>();
+  // the documents updated or removed before the stored documents are loaded, null after the loading
+  private Set<String> changedBeforeLoad;
+
+  @Inject
+  public WorkspaceSymbolIndex() {
+    this(Optional.ofNullable(System.getProperty(INDEX_PATH_SYSTEM_PROPERTY)).map(Paths::get).orElse(null),
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Workspace symbols writer").setDaemon(true).build()));
+  }
+
+  WorkspaceSymbolIndex(Path folder, Executor writer) {
+    this.folder = folder;
+    this.writer = writer;
+    if (folder != null) {
+      changedBeforeLoad = new HashSet<>();
+      writer.execute(this::load);
+    }
+  }
+
+  /**
+   * Replace the symbols of the document with the symbols of its analysis result
+   *
+   * @param uri the document URI
+   * @param text the analyzed text of the document
+   * @param rootNode the root node of the analysis result
+   */
+  public void update(String uri, String text, Node rootNode) {
+    Entry entry = new Entry(uri, null, collectSymbols(uri, rootNode), collectCalls(rootNode));
+    synchronized (this) {
+      markChanged(uri);
+      remove(documents.put(uri, entry));
+      add(entry);
+      scheduleWrite(uri, new PendingWrite(entry, text));
+    }
+  }
+
+  /**
+   * Remove the symbols of a deleted document
+   *
+   * @param uri the document URI
+   */
+  public void remove(String uri) {
+    synchronized (this) {
+      markChanged(uri);
+      remove(documents.remove(uri));
+      scheduleWrite(uri, new PendingWrite(null, null));
+    }
+  }
+
+  /**
+   * Find the symbols whose names or words of the names start with the query, ignoring the case
+   *
+   * @param query the beginning of a name or a word of a name, all the symbols match an empty query
+   * @param limit the maximal number of the symbols to return
+   * @return the symbols ordered by the matching names
+   */
+  public synchronized List<IndexedSymbol> search(String query, int limit) {
+    String prefix = query.trim().toUpperCase(Locale.ROOT);
+    Set<IndexedSymbol> result = new LinkedHashSet<>();
+    for (Multiset<IndexedSymbol> symbols
+        : symbolsByKey.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+      for (IndexedSymbol symbol : symbols.elementSet()) {
+        result.add(symbol);
+        if (result.size() == limit) {
+          return new ArrayList<>(result);
+        }
+      }
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Find the definitions of the programs with the given name
+   *
+   * @param name the program name
+   * @return the locations of the PROGRAM-ID paragraphs
+   */
+  public synchronized List<Location> findPrograms(String name) {
+    String key = name.toUpperCase(Locale.ROOT);
+    return Optional.ofNullable(symbolsByKey.get(key)).map(Multiset::elementSet).orElse(Collections.emptySet())
+        .stream()
+        .filter(symbol -> symbol.getCategory() == Category.PROGRAM && symbol.getName().equalsIgnoreCase(key))
+        .map(symbol -> copy(symbol.getLocation()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Find the CALL statements of the program with the given name in the workspace
+   *
+   * @param name the program name
+   * @return the locations of the program names in the CALL statements
+   */
+  public synchronized List<Location> findCalls(String name) {
+    return Optional.ofNullable(callsByName.get(name.toUpperCase(Locale.ROOT))).map(Multiset::elementSet)
+        .orElse(Collections.emptySet())
+        .stream()
+        .map(WorkspaceSymbolIndex::copy)
+        .collect(Collectors.toList());
+  }
+
+  /** The handlers change the locations of their results, so they must not get the indexed ones */
+  private static Location copy(Location location) {
+    return new Location(location.getUri(), location.getRange());
+  }
+
+  private static List<IndexedSymbol> collectSymbols(String uri, Node rootNode) {
+    List<IndexedSymbol> symbols = new ArrayList<>();
+    rootNode.getDepthFirstStream().forEach(node -> {
+      if (node instanceof ProgramIdNode) {
+        addSymbol(symbols, ((ProgramIdNode) node).getProgramId(), Category.PROGRAM, null, node.getLocality().toLocation());
+      } else if (node instanceof ProcedureSectionNode || node instanceof ParagraphNode) {
+        CodeBlockDefinitionNode codeBlock = (CodeBlockDefinitionNode) node;
+        Location location = Optional.ofNullable(codeBlock.getDefinition()).orElse(node.getLocality()).toLocation();
+        addSymbol(symbols, codeBlock.getName(),
+            node instanceof ProcedureSectionNode ? Category.SECTION : Category.PARAGRAPH,
+            getProgramName(node), location);
+      } else if (node instanceof VariableNode) {
+        VariableNode variable = (VariableNode) node;
+        variable.getDefinitions().stream()
+            .filter(location -> !uri.equals(location.getUri()))
+            .findFirst()
+            .ifPresent(location -> addSymbol(symbols, variable.getName(), Category.VARIABLE, getProgramName(node), location));
+      }
+    });
+    return symbols;
+  }
+
+  private static void addSymbol(List<IndexedSymbol> symbols, String name, Category category, String container,
+                                Location location) {
+    if (name == null || name.isEmpty() || FILLER.equalsIgnoreCase(name) || ImplicitCodeUtils.isImplicit(location.getUri())) {
+      return;
+    }
+    symbols.add(new IndexedSymbol(name, category, container, location));
+  }
+
+  private static Map<String, List<Location>> collectCalls(Node rootNode) {
+    return rootNode.getDepthFirstStream()
+        .filter(SubroutineNameNode.class::isInstance)
+        .map(SubroutineNameNode.class::cast)
+        .filter(node -> !ImplicitCodeUtils.isImplicit(node.getLocality().getUri()))
+        .collect(Collectors.groupingBy(node -> node.getName().toUpperCase(Locale.ROOT),
+            Collectors.mapping(node -> node.getLocality().toLocation(), Collectors.toList())));
+  }
+
+  private static String getProgramName(Node node) {
+    return node.getProgram().map(ProgramNode::getProgramName).orElse(null);
+  }
+
+  private void add(Entry entry) {
+    for (IndexedSymbol symbol : entry.getSymbols()) {
+      getKeys(symbol.getName()).forEach(key ->
+          symbolsByKey.computeIfAbsent(key, k -> LinkedHashMultiset.create()).add(symbol));
+    }
+    entry.getCalls().forEach((name, locations) ->
+        callsByName.computeIfAbsent(name, k -> HashMultiset.create()).addAll(locations));
+  }
+
+  private void remove(Entry entry) {
+    if (entry == null) {
+      return;
+    }
+    for (IndexedSymbol symbol : entry.getSymbols()) {
+      getKeys(symbol.getName()).forEach(key -> removeFrom(symbolsByKey, key, symbol));
+    }
+    entry.getCalls().forEach((name, locations) -> locations.forEach(location -> removeFrom(callsByName, name, location)));
+  }
+
+  private static <T> void removeFrom(Map<String, Multiset<T>> index, String key, T value) {
+    Multiset<T> values = index.get(key);
+    if (values != null && values.remove(value) && values.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+  /** The name and the words that follow the hyphens in the name */
+  private static Stream<String> getKeys(String name) {
+    String key = name.toUpperCase(Locale.ROOT);
+    Set<String> keys = new LinkedHashSet<>();
+    keys.add(key);
+    for (int i = key.indexOf(WORD_SEPARATOR); i >= 0 && i < key.length() - 1; i = key.indexOf(WORD_SEPARATOR, i + 1)) {
+      keys.add(key.substring(i + 1));
+    }
+    return keys.stream();
+  }
+
+  /** The caller holds the lock */
+  private void markChanged(String uri) {
+    if (changedBeforeLoad != null) {
+      changedBeforeLoad.add(uri);
+    }
+  }
+
+  /**
+   * Load the stored documents on the background thread. The files are read and checked without the
+   * lock, and the documents that have been analyzed or removed in the meantime are not replaced.
+   */
+  private void load() {
+    List<Entry> stored = new ArrayList<>();
+    if (Files.isDirectory(folder)) {
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(folder, "*" + ENTRY_EXTENSION)) {
+        for (Path file : files) {
+          readEntry(file)
+              .filter(entry -> readFile(entry.getUri()).map(WorkspaceSymbolIndex::hash)
+                  .filter(contentHash -> contentHash.equals(entry.getContentHash()))
+                  .isPresent())
+              .ifPresent(stored::add);
+        }
+      } catch (IOException e) {
+        LOG.warn("Cannot read the stored workspace symbols", e);
+      }
+    }
+    synchronized (this) {
+      for (Entry entry : stored) {
+        if (!changedBeforeLoad.contains(entry.getUri())) {
+          documents.put(entry.getUri(), entry);
+          add(entry);
+        }
+      }
+      changedBeforeLoad = null;
+    }
+    LOG.debug("{} documents loaded to the workspace symbol index", stored.size());
+  }
+
+  private Optional<Entry> readEntry(Path file) {
+    try {
+      return Optional.ofNullable(gson.fromJson(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Entry.class))
+          .filter(entry -> entry.getUri() != null && entry.getSymbols() != null && entry.getCalls() != null);
+    } catch (IOException | JsonParseException e) {
+      LOG.warn("Cannot read the stored workspace symbols {}", file, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Schedule the write of the stored document, or its deletion if the entry is null. A document has at
+   * most one scheduled write, which writes its latest entry. The caller holds the lock.
+   */
+  private void scheduleWrite(String uri, PendingWrite write) {
+    if (folder != null && pendingWrites.put(uri, write) == null) {
+      writer.execute(() -> write(uri));
+    }
+  }
+
+  private void write(String uri) {
+    PendingWrite write;
+    synchronized (this) {
+      write = pendingWrites.remove(uri);
+    }
+    if (write == null) {
+      return;
+    }
+    Entry entry = write.getEntry();
+    if (entry == null) {
+      delete(uri);
+      return;
+    }
+    readFile(uri)
+        .filter(content -> isSaved(write.getText(), content))
+        .ifPresent(content -> store(new Entry(uri, hash(content), entry.getSymbols(), entry.getCalls())));
+  }
+
+  /** Check if the analyzed text is the file content in one of the source charsets */
+  private static boolean isSaved(String text, byte[] content) {
+    return SOURCE_CHARSETS.stream().anyMatch(charset -> text.equals(new String(content, charset)));
+  }
+
+  private void store(Entry entry) {
+    Path file = getEntryFile(entry.getUri());
+    Path tempFile = null;
+    try {
+      Files.createDirectories(folder);
+      tempFile = Files.createTempFile(folder, file.getFileName().toString(), null);
+      Files.write(tempFile, gson.toJson(entry).getBytes(StandardCharsets.UTF_8));
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Cannot store the workspace symbols of {}", entry.getUri(), e);
+    } finally {
+      if (tempFile != null) {
+        deleteTempFile(tempFile);
+      }
+    }
+  }
+
+  private void delete(String uri) {
+    try {
+      Files.deleteIfExists(getEntryFile(uri));
+    } catch (IOException e) {
+      LOG.warn("Cannot delete the stored symbols of {}", uri, e);
+    }
+  }
+
+  private static void deleteTempFile(Path tempFile) {
+    try {
+      Files.deleteIfExists(tempFile);
+    } catch (IOException e) {
+      LOG.warn("Cannot delete the temporary file {}", tempFile, e);
+    }
+  }
+
+  private Path getEntryFile(String uri) {
+    return folder.resolve(Hashing.sha256().hashString(uri, StandardCharsets.UTF_8) + ENTRY_EXTENSION);
+  }
+
+  /** The saved content of the document, or empty if it is not a file or it does not exist */
+  private static Optional<byte[]> readFile(String uri) {
+    try {
+      Path path = Paths.get(URI.create(uri));
+      return Files.isRegularFile(path) ? Optional.of(Files.readAllBytes(path)) : Optional.empty();
+    } catch (IllegalArgumentException | FileSystemNotFoundException | IOException | SecurityException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static String hash(byte[] content) {
+    return Hashing.sha256().hashBytes(content).toString();
+  }
+
+  /** The kind of the indexed symbol */
+  @Getter
+  @AllArgsConstructor
+  public enum Category {
+    PROGRAM(NodeSymbolType.PROGRAM.getSymbolKind()),
+    SECTION(NodeSymbolType.PROCEDURE_SECTION.getSymbolKind()),
+    PARAGRAPH(NodeSymbolType.PROCEDURE.getSymbolKind()),
+    VARIABLE(NodeSymbolType.FIELD.getSymbolKind());
+
+    private final SymbolKind symbolKind;
+  }
+
+  /** A symbol defined in the workspace */
+  @Value
+  public static class IndexedSymbol {
+    String name;
+    Category category;
+    String container;
+    Location location;
+  }
+
+  /** The symbols of a document with the hash of its file content, the hash is set for the stored documents */
+  @Value
+  private static class Entry {
+    String uri;
+    String contentHash;
+    List<IndexedSymbol> symbols;
+    Map<String, List<Location>> calls;
+  }
+
+  /** The latest entry of a document to store with its analyzed text, or no entry if the document is removed */
+  @Value
+  private static class PendingWrite {
+    Entry entry;
+    String text;
+  }
+}
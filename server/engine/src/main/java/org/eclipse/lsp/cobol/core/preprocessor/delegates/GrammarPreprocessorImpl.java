@@ -28,6 +28,7 @@ import org.eclipse.lsp.cobol.common.mapping.ExtendedDocument;
 import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
 import org.eclipse.lsp.cobol.core.CobolPreprocessor;
 import org.eclipse.lsp.cobol.core.CobolPreprocessorLexer;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp.cobol.core.preprocessor.CopybookHierarchy;
 import org.eclipse.lsp.cobol.core.preprocessor.delegates.copybooks.*;
 import org.eclipse.lsp.cobol.core.preprocessor.delegates.replacement.ReplacePreProcessorListener;
@@ -70,7 +71,7 @@ public class GrammarPreprocessorImpl implements GrammarPreprocessor {
     preprocessorParser.removeErrorListeners();
 
     ReplacePreProcessorListener listener = replacingFactory.create(extendedDocument, hierarchy);
-    new ParseTreeWalker().walk(listener, preprocessorParser.startRule());
+    new ParseTreeWalker().walk(listener, ParserRuntime.parse(preprocessorParser, CobolPreprocessor::startRule));
     listener.applyReplacing();
     return new ResultWithErrors<>(extendedDocument.toString(), listener.getErrors());
   }
@@ -88,7 +89,7 @@ public class GrammarPreprocessorImpl implements GrammarPreprocessor {
     parser.removeErrorListeners();
 
     ParseTreeWalker walker = new ParseTreeWalker();
-    walker.walk(listener, parser.startRule());
+    walker.walk(listener, ParserRuntime.parse(parser, CobolPreprocessor::startRule));
     return listener.getResult();
   }
 
@@ -15,6 +15,9 @@
 
 package org.eclipse.lsp.cobol.core.preprocessor.delegates.replacement;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import lombok.AllArgsConstructor;
@@ -38,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -71,6 +75,10 @@ public class ReplacingServiceImpl implements ReplacingService {
 
   private static final String ERROR_REPLACING = "Error replacing on text: %s with the pattern: %s";
   private static final int INDIVIDUAL_WORD_VALID_LENGTH = 322;
+  private static final int PATTERN_CACHE_SIZE = 1000;
+
+  /** The same REPLACING clauses are applied on every analysis of the documents that use them */
+  private static final Cache<String, Pattern> PATTERNS = CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
 
   private final MessageService messageService;
 
@@ -82,8 +90,18 @@ public class ReplacingServiceImpl implements ReplacingService {
   @NonNull
   @Override
   public void applyReplacing(@NonNull ExtendedDocument extendedDocument, @NonNull ReplaceData replaceData) {
+    if (replaceData.getReplacePatterns().isEmpty()) {
+      return;
+    }
+    Range scope = replaceData.getRange(extendedDocument.getUri());
+    DocumentText text = new DocumentText(extendedDocument.toString());
     for (Pair<String, String> replacePattern : replaceData.getReplacePatterns()) {
-      replace(extendedDocument, replacePattern, replaceData.getRange(extendedDocument.getUri()));
+      if (StringUtils.isBlank(text.value)) {
+        return;
+      }
+      if (replace(extendedDocument, text, compile(replacePattern.getLeft()), replacePattern, scope)) {
+        text = new DocumentText(extendedDocument.toString());
+      }
     }
   }
 
@@ -229,36 +247,83 @@ public class ReplacingServiceImpl implements ReplacingService {
     return trim.replace(", ", " ").replace("; ", " ");
   }
 
-  private void replace(@NonNull ExtendedDocument extendedDocument, @NonNull Pair<String, String> pattern, @NonNull Range scope) {
-    if (StringUtils.isBlank(extendedDocument.toString())) {
-      return;
+  private static Pattern compile(String regex) {
+    try {
+      return PATTERNS.get(regex, () -> Pattern.compile(regex, Pattern.CASE_INSENSITIVE));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw Optional.ofNullable(e.getCause())
+          .filter(RuntimeException.class::isInstance)
+          .map(RuntimeException.class::cast)
+          .orElseGet(() -> new IllegalStateException(e));
     }
-    String text = extendedDocument.toString();
+  }
+
+  /**
+   * Apply a single replace pattern to the document. The text stays the same while no replacement is made,
+   * so the document is only converted to a string again after a pattern actually changed it.
+   *
+   * @return true if the document was changed
+   */
+  private boolean replace(@NonNull ExtendedDocument extendedDocument, @NonNull DocumentText text, @NonNull Pattern pattern,
+                          @NonNull Pair<String, String> replacePattern, @NonNull Range scope) {
+    boolean changed = false;
     try {
-      Matcher matcher = Pattern.compile(pattern.getLeft(), Pattern.CASE_INSENSITIVE).matcher(text);
+      Matcher matcher = pattern.matcher(text.value);
       while (matcher.find()) {
-        Range range = getRange(text, matcher);
+        Position start = text.getPosition(matcher.start());
+        if (isBeyondScope(new Position(start.getLine(), start.getCharacter() - 1), scope)) {
+          break;
+        }
+        Position end = text.getPosition(matcher.end());
+        Range range = new Range(start, new Position(end.getLine(), end.getCharacter() - 1));
         if (RangeUtils.isInside(range, scope)) {
-          extendedDocument.replace(range, pattern.getRight());
+          extendedDocument.replace(range, replacePattern.getRight());
+          changed = true;
         }
       }
       extendedDocument.commitTransformations();
     } catch (IndexOutOfBoundsException e) {
-      LOG.error(format(ERROR_REPLACING, text, pattern), e);
+      LOG.error(format(ERROR_REPLACING, text.value, replacePattern), e);
     }
+    return changed;
   }
 
-  private Range getRange(String text, Matcher matcher) {
-    Position start = getPosition(text, matcher.start());
-    Position end = getPosition(text, matcher.end());
-    return new Range(start, new Position(end.getLine(), end.getCharacter() - 1));
+  /**
+   * Any further match ends after the given position, so none of them can be inside the scope
+   */
+  private static boolean isBeyondScope(Position position, Range scope) {
+    return scope.getEnd() != null && RangeUtils.isAfter(position, scope.getEnd());
   }
 
-  private Position getPosition(String text, int positionInFile) {
-    String prefix = text.substring(0, positionInFile);
-    int character = positionInFile - prefix.lastIndexOf("\n") - 1;
-    int line = StringUtils.countMatches(prefix, "\n");
-    return new Position(line, character);
+  /** Text of a document with the offsets of its lines, to map the match offsets to positions */
+  private static class DocumentText {
+    private final String value;
+    private final int[] lineStarts;
+
+    DocumentText(String value) {
+      this.value = value;
+      int lines = 1;
+      for (int i = 0; i < value.length(); i++) {
+        if (value.charAt(i) == '\n') {
+          lines++;
+        }
+      }
+      lineStarts = new int[lines];
+      int line = 1;
+      for (int i = 0; i < value.length(); i++) {
+        if (value.charAt(i) == '\n') {
+          lineStarts[line++] = i + 1;
+        }
+      }
+    }
+
+    Position getPosition(int offset) {
+      int line = Arrays.binarySearch(lineStarts, offset);
+      if (line < 0) {
+        line = -line - 2;
+      }
+      return new Position(line, offset - lineStarts[line]);
+    }
   }
 
   private Function<String, Boolean> checkContainWord(String check) {
@@ -35,7 +35,6 @@ import org.eclipse.lsp.cobol.common.error.ErrorSource;
 import org.eclipse.lsp.cobol.common.error.SyntaxError;
 import org.eclipse.lsp.cobol.common.mapping.ExtendedDocument;
 import org.eclipse.lsp.cobol.common.mapping.ExtendedText;
-import org.eclipse.lsp.cobol.common.mapping.MappedCharacter;
 import org.eclipse.lsp.cobol.common.mapping.OriginalLocation;
 import org.eclipse.lsp.cobol.common.message.MessageService;
 import org.eclipse.lsp.cobol.common.model.Locality;
@@ -109,15 +108,7 @@ class HpCopybookProcessingStage implements Stage<AnalysisContext, DialectOutcome
     ExtendedText copybook = new ExtendedText(text, model.getUri());
     Set<Character> unsupported = new HashSet<>();
     unsupported.add('?');
-    copybook.perform(
-        (line) -> {
-          for (MappedCharacter character : line.getCharacters()) {
-            if (unsupported.contains(character.getCharacter())) {
-              character.setCharacter(' ');
-            }
-          }
-        }
-    );
+    copybook.perform(line -> line.replaceCharacters(unsupported::contains, ' '));
 
     extendedDocument.insertCopybook(descriptor.getStatementRange(), copybook);
 
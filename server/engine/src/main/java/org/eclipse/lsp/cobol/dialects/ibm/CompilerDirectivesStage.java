@@ -24,6 +24,7 @@ import org.eclipse.lsp.cobol.common.message.MessageService;
 import org.eclipse.lsp.cobol.common.model.tree.CompilerDirectiveNode;
 import org.eclipse.lsp.cobol.core.CompilerDirectivesLexer;
 import org.eclipse.lsp.cobol.core.CompilerDirectivesParser;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp.cobol.core.engine.analysis.AnalysisContext;
 import org.eclipse.lsp.cobol.core.engine.directives.CompilerDirectivesErrorListener;
 import org.eclipse.lsp.cobol.core.engine.directives.CompilerDirectivesVisitor;
@@ -79,7 +80,7 @@ public class CompilerDirectivesStage implements Stage<AnalysisContext, Void, Lis
       parser.setErrorHandler(new CobolErrorStrategy(messageService));
       parser.addErrorListener(new CompilerDirectivesErrorListener(ctx, startPosition));
       new CompilerDirectivesVisitor(ctx, messageService, startPosition)
-          .visit(parser.compilerOptions());
+          .visit(ParserRuntime.parse(parser, CompilerDirectivesParser::compilerOptions));
     }
   }
 
@@ -14,9 +14,11 @@
  */
 package org.eclipse.lsp.cobol.dialects.ibm;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
-import org.antlr.v4.runtime.CharStreams;
+import lombok.extern.slf4j.Slf4j;
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 import org.eclipse.lsp.cobol.common.dialects.DialectOutcome;
 import org.eclipse.lsp.cobol.common.error.ErrorSeverity;
@@ -37,12 +39,18 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Parser stage
+ * Parser stage. The last clean parse of each recently analyzed document is kept, so the next
+ * revision of the document reparses only the changed paragraphs of the procedure division.
  */
+@Slf4j
 @RequiredArgsConstructor
 public class ParserStage implements Stage<AnalysisContext, ParserStageResult, DialectOutcome> {
+  private static final int MAX_SNAPSHOTS = 16;
+
   private final MessageService messageService;
   private final ParseTreeListener treeListener;
+  private final Cache<String, IncrementalCobolParser.Snapshot> snapshots =
+      CacheBuilder.newBuilder().maximumSize(MAX_SNAPSHOTS).build();
 
   @Override
   public StageResult<ParserStageResult> run(AnalysisContext context, StageResult<DialectOutcome> prevStageResult) {
@@ -54,9 +62,15 @@ public class ParserStage implements Stage<AnalysisContext, ParserStageResult, Di
               .build());
       ParserListener listener = new ParserListener(context.getExtendedDocument(), context.getCopybooksRepository());
       CobolErrorStrategy errorStrategy = new CobolErrorStrategy(messageService);
-      AstBuilder parser = new AntlrCobolParser(CharStreams.fromString(context.getExtendedDocument().toString()),
-              listener, errorStrategy, treeListener);
+      IncrementalCobolParser parser = new IncrementalCobolParser(context.getExtendedDocument().toString(),
+              snapshots.getIfPresent(context.getDocumentUri()), listener, errorStrategy, treeListener);
       CobolParser.StartRuleContext tree = parser.runParser();
+      LOG.debug("{} parsed {}", context.getDocumentUri(), parser.isIncremental() ? "incrementally" : "fully");
+      if (parser.getSnapshot().isPresent()) {
+        snapshots.put(context.getDocumentUri(), parser.getSnapshot().get());
+      } else {
+        snapshots.invalidate(context.getDocumentUri());
+      }
       context.getAccumulatedErrors().addAll(listener.getErrors());
       context.getAccumulatedErrors().addAll(getParsingError(context, parser));
       return new StageResult<>(new ParserStageResult(parser.getTokens(), tree));
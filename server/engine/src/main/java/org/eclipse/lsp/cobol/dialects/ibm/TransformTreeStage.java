@@ -31,7 +31,7 @@ import org.eclipse.lsp.cobol.common.model.tree.statements.StatementNode;
 import org.eclipse.lsp.cobol.common.model.tree.variable.*;
 import org.eclipse.lsp.cobol.common.model.tree.variables.FileDescriptionNode;
 import org.eclipse.lsp.cobol.common.processor.*;
-import org.eclipse.lsp.cobol.common.utils.RangeUtils;
+import org.eclipse.lsp.cobol.common.utils.NodePositionIndex;
 import org.eclipse.lsp.cobol.core.CobolParser;
 import org.eclipse.lsp.cobol.core.engine.analysis.AnalysisContext;
 import org.eclipse.lsp.cobol.core.engine.dialects.DialectService;
@@ -78,7 +78,7 @@ public class TransformTreeStage implements Stage<AnalysisContext, ProcessingResu
     SymbolAccumulatorService symbolAccumulatorService = new SymbolAccumulatorService();
     Node rootNode = processSyntaxTree(context.getConfig(), symbolAccumulatorService, context, syntaxTree);
 
-    symbolsRepository.updateSymbols(symbolAccumulatorService.getProgramSymbols());
+    symbolsRepository.updateSymbols(context.getDocumentUri(), symbolAccumulatorService.getProgramSymbols());
 
     return new StageResult<>(new ProcessingResult(symbolAccumulatorService.getProgramSymbols(), rootNode));
   }
@@ -89,10 +89,11 @@ public class TransformTreeStage implements Stage<AnalysisContext, ProcessingResu
   }
 
   private void addDialectsNode(AnalysisContext context, Node rootNode) {
+    // Dialect nodes do not overlap, so adding one of them does not change the parent of the others
+    NodePositionIndex positionIndex = NodePositionIndex.build(rootNode);
     for (Node dialectNode : context.getDialectNodes()) {
       Optional<Node> nodeByPosition =
-          RangeUtils.findNodeByPosition(
-              rootNode,
+          positionIndex.findNodeByPosition(
               dialectNode.getLocality().getUri(),
               dialectNode.getLocality().getRange().getStart());
 
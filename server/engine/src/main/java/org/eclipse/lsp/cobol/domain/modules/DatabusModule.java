@@ -29,5 +29,8 @@ public class DatabusModule extends AbstractModule {
     bindConstant().annotatedWith(Names.named("MAX-POOL-SIZE")).to(10);
     bindConstant().annotatedWith(Names.named("KEEP-ALIVE-TIME-IN-SECONDS")).to(60);
     bindConstant().annotatedWith(Names.named("CORE-POOL-SIZE-FOR-SCHEDULED-POOL")).to(5);
+    bindConstant().annotatedWith(Names.named("ANALYSIS-POOL-SIZE")).to(Runtime.getRuntime().availableProcessors());
+    bindConstant().annotatedWith(Names.named("RETAINED-CLOSED-DOCUMENTS")).to(32);
+    bindConstant().annotatedWith(Names.named("RETAINED-CLOSED-DOCUMENTS-MB")).to(256);
   }
 }
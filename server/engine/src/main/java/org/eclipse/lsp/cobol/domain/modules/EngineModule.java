@@ -18,6 +18,7 @@ package org.eclipse.lsp.cobol.domain.modules;
 import static com.google.inject.name.Names.named;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
@@ -50,7 +51,7 @@ public class EngineModule extends AbstractModule {
   @Override
   protected void configure() {
     bind(CobolLanguageEngine.class);
-    bind(BenchmarkService.class).to(BenchmarkServiceImpl.class);
+    bind(BenchmarkService.class).to(BenchmarkServiceImpl.class).in(Singleton.class);
     bind(TrueDialectService.class).to(TrueDialectServiceImpl.class);
 
     bind(GrammarPreprocessor.class).to(GrammarPreprocessorImpl.class);
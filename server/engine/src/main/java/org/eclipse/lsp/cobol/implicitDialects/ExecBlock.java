@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.implicitDialects;
+
+import lombok.Value;
+
+/**
+ * A slice of the document text that an implicit dialect parses, e.g. an {@code EXEC SQL ... END-EXEC}
+ * block. The line and the column are zero-based and point to the first character of the block.
+ */
+@Value
+public class ExecBlock {
+  int start;
+  int end;
+  int line;
+  int column;
+  String text;
+}
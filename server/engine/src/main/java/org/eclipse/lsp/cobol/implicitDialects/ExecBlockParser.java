@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.implicitDialects;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import java.util.*;
+import java.util.function.Function;
+import lombok.Value;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.eclipse.lsp.cobol.common.error.SyntaxError;
+import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+
+/**
+ * Parses the blocks of an implicit dialect separately and keeps the results of the recently parsed
+ * blocks. A block is parsed again only if its text or its position in the document changes, so an
+ * edit of a document reparses only the edited blocks. The blocks are parsed on the analysis thread,
+ * which is checked for interruption before each block, so a cancelled analysis stops parsing. The
+ * blocks of a released document are dropped from all the parsers.
+ *
+ * @param <T> the type of the parse tree of a block
+ */
+public final class ExecBlockParser<T extends ParserRuleContext> {
+  private static final Set<ExecBlockParser<?>> PARSERS =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  private final Cache<Key, ParsedBlock<T>> cache;
+
+  /**
+   * Create a parser of the blocks
+   *
+   * @param cacheSize the maximal number of the parsed blocks to keep
+   */
+  public ExecBlockParser(int cacheSize) {
+    cache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    PARSERS.add(this);
+  }
+
+  /**
+   * Drop the parsed blocks of a released document from all the parsers
+   *
+   * @param uri the document URI
+   */
+  public static void release(String uri) {
+    synchronized (PARSERS) {
+      PARSERS.forEach(parser -> parser.cache.asMap().keySet().removeIf(key -> key.getUri().equals(uri)));
+    }
+  }
+
+  /**
+   * Parse the blocks of a document or take them from the cache
+   *
+   * @param uri the document URI
+   * @param blocks the blocks of the document
+   * @param parser the parser of a single block
+   * @return the parsed blocks in the given order
+   */
+  public List<ParsedBlock<T>> parse(String uri, List<ExecBlock> blocks, Function<ExecBlock, ParsedBlock<T>> parser) {
+    List<ParsedBlock<T>> result = new ArrayList<>(blocks.size());
+    for (ExecBlock block : blocks) {
+      ThreadInterruptionUtil.checkThreadInterrupted();
+      result.add(getOrParse(uri, block, parser));
+    }
+    return result;
+  }
+
+  /**
+   * Set the position of a lexer of the block text, so the tokens and the errors have the document
+   * positions
+   *
+   * @param lexer the lexer of the block text
+   * @param block the block
+   * @param <L> the lexer type
+   * @return the given lexer
+   */
+  public static <L extends Lexer> L positionLexer(L lexer, ExecBlock block) {
+    lexer.setLine(block.getLine() + 1);
+    lexer.setCharPositionInLine(block.getColumn());
+    return lexer;
+  }
+
+  private ParsedBlock<T> getOrParse(String uri, ExecBlock block, Function<ExecBlock, ParsedBlock<T>> parser) {
+    Key key = new Key(uri, block.getLine(), block.getColumn(), block.getText());
+    ParsedBlock<T> result = cache.getIfPresent(key);
+    if (result == null) {
+      result = parser.apply(block);
+      cache.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * The parse tree of a block with the syntax errors found
+   *
+   * @param <T> the type of the parse tree
+   */
+  @Value
+  public static class ParsedBlock<T extends ParserRuleContext> {
+    T tree;
+    List<SyntaxError> errors;
+
+    public ParsedBlock(T tree, List<SyntaxError> errors) {
+      this.tree = tree;
+      this.errors = ImmutableList.copyOf(errors);
+    }
+  }
+
+  /** The block text with its position, since the tokens of a parsed block keep the positions */
+  @Value
+  private static class Key {
+    String uri;
+    int line;
+    int column;
+    String text;
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.implicitDialects;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the parts of a document that an implicit dialect has to parse in one pass over the text.
+ * These are the {@code EXEC <language> ... END-EXEC} blocks with the optional period after them, and
+ * the calls of the dialect functions like {@code DFHRESP(NORMAL)} outside of the blocks.
+ *
+ * <p>The words are matched ignoring the case and only as whole words, and the string literals and
+ * the line comments are skipped, the same way as the dialect lexers do. A block without
+ * {@code END-EXEC} runs to the end of the document, so the dialect parser reports it.
+ */
+public final class ExecBlockScanner {
+  private static final String EXEC = "EXEC";
+  private static final String END_EXEC = "END-EXEC";
+
+  private final List<String> languages;
+  private final List<String> functions;
+  private final String lineComment;
+
+  /**
+   * Create a scanner of the EXEC blocks
+   *
+   * @param languages the words that follow {@code EXEC} in the blocks, e.g. {@code SQL}
+   * @param functions the names of the functions to find outside of the blocks
+   * @param lineComment the start of a line comment of the dialect lexer
+   */
+  public ExecBlockScanner(List<String> languages, List<String> functions, String lineComment) {
+    this.languages = ImmutableList.copyOf(languages);
+    this.functions = ImmutableList.copyOf(functions);
+    this.lineComment = lineComment;
+  }
+
+  /**
+   * Find the blocks of the dialect in the given text
+   *
+   * @param text the document text
+   * @return the blocks in the document order
+   */
+  public List<ExecBlock> scan(String text) {
+    List<ExecBlock> blocks = new ArrayList<>();
+    LineCounter lines = new LineCounter(text);
+    int index = 0;
+    while (index < text.length()) {
+      char character = text.charAt(index);
+      if (character == '\'' || character == '"') {
+        index = skipString(text, index);
+      } else if (text.startsWith(lineComment, index)) {
+        index = skipLine(text, index);
+      } else if (isWordChar(character) && character != '-') {
+        int end = findBlockEnd(text, index);
+        if (end > index) {
+          blocks.add(lines.createBlock(index, end));
+          index = end;
+        } else {
+          index = wordEnd(text, index);
+        }
+      } else {
+        index++;
+      }
+    }
+    return blocks;
+  }
+
+  /** Return the end of the block that starts with the word at the given index, or the index if there is none */
+  private int findBlockEnd(String text, int start) {
+    int wordEnd = wordEnd(text, start);
+    if (isWord(text, start, wordEnd, EXEC)) {
+      int language = skipWhitespace(text, wordEnd);
+      int languageEnd = wordEnd(text, language);
+      return languages.stream().anyMatch(it -> isWord(text, language, languageEnd, it))
+          ? findEndExec(text, languageEnd)
+          : start;
+    }
+    if (functions.stream().anyMatch(it -> isWord(text, start, wordEnd, it))) {
+      int parenthesis = skipWhitespace(text, wordEnd);
+      if (parenthesis < text.length() && text.charAt(parenthesis) == '(') {
+        return findClosingParenthesis(text, parenthesis + 1, start);
+      }
+    }
+    return start;
+  }
+
+  private int findEndExec(String text, int index) {
+    while (index < text.length()) {
+      char character = text.charAt(index);
+      if (character == '\'' || character == '"') {
+        index = skipString(text, index);
+      } else if (text.startsWith(lineComment, index)) {
+        index = skipLine(text, index);
+      } else if (isWordChar(character) && character != '-') {
+        int wordEnd = wordEnd(text, index);
+        if (isWord(text, index, wordEnd, END_EXEC)) {
+          int period = skipWhitespace(text, wordEnd);
+          return period < text.length() && text.charAt(period) == '.' ? period + 1 : wordEnd;
+        }
+        index = wordEnd;
+      } else {
+        index++;
+      }
+    }
+    return text.length();
+  }
+
+  private static int findClosingParenthesis(String text, int index, int notFound) {
+    while (index < text.length()) {
+      char character = text.charAt(index);
+      if (character == '\'' || character == '"') {
+        index = skipString(text, index);
+      } else if (character == ')') {
+        return index + 1;
+      } else {
+        index++;
+      }
+    }
+    return notFound;
+  }
+
+  /** A string literal of the dialect lexers ends with the same quote or with the line */
+  private static int skipString(String text, int index) {
+    char quote = text.charAt(index);
+    for (int i = index + 1; i < text.length(); i++) {
+      char character = text.charAt(i);
+      if (character == quote) {
+        return i + 1;
+      }
+      if (character == '\n' || character == '\r') {
+        return i;
+      }
+    }
+    return text.length();
+  }
+
+  private static int skipLine(String text, int index) {
+    int end = text.indexOf('\n', index);
+    return end < 0 ? text.length() : end;
+  }
+
+  private static int skipWhitespace(String text, int index) {
+    while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int wordEnd(String text, int index) {
+    while (index < text.length() && isWordChar(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isWord(String text, int start, int end, String word) {
+    return end - start == word.length() && text.regionMatches(true, start, word, 0, word.length());
+  }
+
+  /** The characters of the identifiers of the dialect lexers */
+  private static boolean isWordChar(char character) {
+    return Character.isLetterOrDigit(character)
+        || character == '-'
+        || character == '_'
+        || character == '#'
+        || character == '@'
+        || character == '$';
+  }
+
+  /** Counts the lines up to the blocks, which are created in the document order */
+  private static final class LineCounter {
+    private final String text;
+    private int index;
+    private int line;
+    private int lineStart;
+
+    LineCounter(String text) {
+      this.text = text;
+    }
+
+    ExecBlock createBlock(int start, int end) {
+      for (; index < start; index++) {
+        if (text.charAt(index) == '\n') {
+          line++;
+          lineStart = index + 1;
+        }
+      }
+      // The ANTLR char streams count the columns in code points
+      return new ExecBlock(start, end, line, text.codePointCount(lineStart, start), text.substring(start, end));
+    }
+  }
+}
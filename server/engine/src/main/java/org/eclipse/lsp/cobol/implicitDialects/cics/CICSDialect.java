@@ -35,6 +35,11 @@ import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
 import org.eclipse.lsp.cobol.common.model.tree.SectionNode;
 import org.eclipse.lsp.cobol.common.processor.ProcessingPhase;
 import org.eclipse.lsp.cobol.common.processor.ProcessorDescription;
+import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlock;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockParser;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockScanner;
 import org.eclipse.lsp.cobol.implicitDialects.cics.nodes.ExecCicsNode;
 import org.eclipse.lsp.cobol.implicitDialects.cics.processor.CICSExecBlockProcessor;
 import org.eclipse.lsp.cobol.implicitDialects.cics.processor.CICSImplicitVariablesProcessor;
@@ -45,6 +50,11 @@ import org.eclipse.lsp.cobol.implicitDialects.cics.processor.CICSTranslateMandat
 public class CICSDialect implements CobolDialect {
 
   public static final String DIALECT_NAME = "cics";
+  private static final int MAX_CACHED_BLOCKS = 2000;
+  private static final ExecBlockScanner SCANNER =
+      new ExecBlockScanner(ImmutableList.of("CICS"), ImmutableList.of("DFHRESP", "DFHVALUE"), "*>");
+  private static final ExecBlockParser<CICSParser.StartRuleContext> BLOCK_PARSER =
+      new ExecBlockParser<>(MAX_CACHED_BLOCKS);
   private final CopybookService copybookService;
   private final MessageService messageService;
 
@@ -64,15 +74,16 @@ public class CICSDialect implements CobolDialect {
 
     List<SyntaxError> parseError = new ArrayList<>();
 
-    // parse the document text to get parseTree
-    CICSParser.StartRuleContext startRuleContext =
-        parseCICS(
-            context.getExtendedDocument().toString(),
-            context.getExtendedDocument().getUri(),
-            parseError);
+    // parse only the EXEC CICS blocks and the DFHRESP and DFHVALUE literals to get parseTrees
+    List<ExecBlockParser.ParsedBlock<CICSParser.StartRuleContext>> blocks =
+        parseBlocks(context.getExtendedDocument().getUri(), context.getExtendedDocument().toString());
 
-    // Traverse the parse tree to generate dialect specific nodes
-    List<Node> nodes = new ArrayList<>(cicsVisitor.visitStartRule(startRuleContext));
+    // Traverse the parse trees to generate dialect specific nodes
+    List<Node> nodes = new ArrayList<>();
+    for (ExecBlockParser.ParsedBlock<CICSParser.StartRuleContext> block : blocks) {
+      parseError.addAll(block.getErrors());
+      nodes.addAll(cicsVisitor.visitStartRule(block.getTree()));
+    }
 
     // Add nodes returned by extend method. Not needed here.
     nodes.addAll(context.getDialectNodes());
@@ -117,9 +128,21 @@ public class CICSDialect implements CobolDialect {
     return nodes.stream().filter(CompilerDirectiveNode.class::isInstance).map(CompilerDirectiveNode.class::cast).collect(Collectors.toList());
   }
 
-  private CICSParser.StartRuleContext parseCICS(
-      String text, String programDocumentUri, List<SyntaxError> errors) {
-    CICSLexer lexer = new CICSLexer(CharStreams.fromString(text));
+  @Override
+  public void prepare(DialectProcessingContext context, String text) {
+    ThreadInterruptionUtil.checkThreadInterrupted();
+    parseBlocks(context.getExtendedDocument().getUri(), text);
+  }
+
+  private List<ExecBlockParser.ParsedBlock<CICSParser.StartRuleContext>> parseBlocks(
+      String uri, String text) {
+    return BLOCK_PARSER.parse(uri, SCANNER.scan(text), block -> parseCICS(block, uri));
+  }
+
+  private ExecBlockParser.ParsedBlock<CICSParser.StartRuleContext> parseCICS(
+      ExecBlock block, String programDocumentUri) {
+    CICSLexer lexer =
+        ExecBlockParser.positionLexer(new CICSLexer(CharStreams.fromString(block.getText())), block);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
     CICSParser parser = new CICSParser(tokens);
     CICSErrorListener listener = new CICSErrorListener(programDocumentUri);
@@ -129,9 +152,8 @@ public class CICSDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new CICSErrorStrategy(messageService));
 
-    CICSParser.StartRuleContext result = parser.startRule();
-    errors.addAll(listener.getErrors());
-    return result;
+    CICSParser.StartRuleContext result = ParserRuntime.parse(parser, CICSParser::startRule);
+    return new ExecBlockParser.ParsedBlock<>(result, listener.getErrors());
   }
 
   private CICSParser.CompilerDirectiveContext parseCICSDirective(
@@ -146,7 +168,7 @@ public class CICSDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new CICSErrorStrategy(messageService));
 
-    CICSParser.CompilerDirectiveContext compilerDirectiveContext = parser.compilerDirective();
+    CICSParser.CompilerDirectiveContext compilerDirectiveContext = ParserRuntime.parse(parser, CICSParser::compilerDirective);
     errors.addAll(listener.getErrors());
     return compilerDirectiveContext;
   }
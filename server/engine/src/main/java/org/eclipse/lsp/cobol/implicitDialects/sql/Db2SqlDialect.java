@@ -37,6 +37,11 @@ import org.eclipse.lsp.cobol.common.processor.ProcessingPhase;
 import org.eclipse.lsp.cobol.common.processor.ProcessorDescription;
 import org.eclipse.lsp.cobol.common.utils.ImplicitCodeUtils;
 import org.eclipse.lsp.cobol.common.utils.PredefinedCopybooks;
+import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlock;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockParser;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockScanner;
 import org.eclipse.lsp.cobol.implicitDialects.sql.node.Db2DataAndProcedureDivisionNode;
 import org.eclipse.lsp.cobol.implicitDialects.sql.node.Db2DeclareVariableNode;
 import org.eclipse.lsp.cobol.implicitDialects.sql.node.Db2ProcedureDivisionNode;
@@ -48,6 +53,11 @@ import org.eclipse.lsp.cobol.implicitDialects.sql.processor.*;
 public class Db2SqlDialect implements CobolDialect {
   public static final String DIALECT_NAME = "db2";
   public static final String SQL_BACKEND_SETTING = "target-sql-backend";
+  private static final int MAX_CACHED_BLOCKS = 2000;
+  private static final ExecBlockScanner SCANNER =
+      new ExecBlockScanner(ImmutableList.of("SQL", "SQLIMS"), ImmutableList.of(), "--");
+  private static final ExecBlockParser<Db2SqlParser.StartRuleContext> BLOCK_PARSER =
+      new ExecBlockParser<>(MAX_CACHED_BLOCKS);
 
   private final CopybookService copybookService;
   private final MessageService messageService;
@@ -68,15 +78,16 @@ public class Db2SqlDialect implements CobolDialect {
 
     List<SyntaxError> parseError = new ArrayList<>();
 
-    // parse the document text to get parseTree
-    Db2SqlParser.StartRuleContext startRuleContext =
-        parseDB2(
-            context.getExtendedDocument().toString(),
-            context.getExtendedDocument().getUri(),
-            parseError);
+    // parse only the EXEC SQL blocks of the document text to get parseTrees
+    List<ExecBlockParser.ParsedBlock<Db2SqlParser.StartRuleContext>> blocks =
+        parseBlocks(context.getExtendedDocument().getUri(), context.getExtendedDocument().toString());
 
-    // Traverse the parse tree to generate dialect specific nodes
-    List<Node> nodes = db2SqlVisitor.visitStartRule(startRuleContext);
+    // Traverse the parse trees to generate dialect specific nodes
+    List<Node> nodes = new ArrayList<>();
+    for (ExecBlockParser.ParsedBlock<Db2SqlParser.StartRuleContext> block : blocks) {
+      parseError.addAll(block.getErrors());
+      nodes.addAll(db2SqlVisitor.visitStartRule(block.getTree()));
+    }
 
     // Add nodes returned by extend method. Not needed here.
     nodes.addAll(context.getDialectNodes());
@@ -129,9 +140,21 @@ public class Db2SqlDialect implements CobolDialect {
     return ImmutableList.of(SQL_BACKEND_SETTING);
   }
 
-  private Db2SqlParser.StartRuleContext parseDB2(
-      String text, String programDocumentUri, List<SyntaxError> errors) {
-    Db2SqlLexer lexer = new Db2SqlLexer(CharStreams.fromString(text));
+  @Override
+  public void prepare(DialectProcessingContext context, String text) {
+    ThreadInterruptionUtil.checkThreadInterrupted();
+    parseBlocks(context.getExtendedDocument().getUri(), text);
+  }
+
+  private List<ExecBlockParser.ParsedBlock<Db2SqlParser.StartRuleContext>> parseBlocks(
+      String uri, String text) {
+    return BLOCK_PARSER.parse(uri, SCANNER.scan(text), block -> parseDB2(block, uri));
+  }
+
+  private ExecBlockParser.ParsedBlock<Db2SqlParser.StartRuleContext> parseDB2(
+      ExecBlock block, String programDocumentUri) {
+    Db2SqlLexer lexer =
+        ExecBlockParser.positionLexer(new Db2SqlLexer(CharStreams.fromString(block.getText())), block);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
     Db2SqlParser parser = new Db2SqlParser(tokens);
     Db2ErrorListener listener = new Db2ErrorListener(programDocumentUri);
@@ -141,9 +164,8 @@ public class Db2SqlDialect implements CobolDialect {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new Db2ErrorStrategy(messageService));
 
-    Db2SqlParser.StartRuleContext result = parser.startRule();
-    errors.addAll(listener.getErrors());
-    return result;
+    Db2SqlParser.StartRuleContext result = ParserRuntime.parse(parser, Db2SqlParser::startRule);
+    return new ExecBlockParser.ParsedBlock<>(result, listener.getErrors());
   }
 
   /**
@@ -41,6 +41,7 @@ import org.eclipse.lsp.cobol.common.model.tree.Node;
 import org.eclipse.lsp.cobol.common.model.tree.variable.QualifiedReferenceNode;
 import org.eclipse.lsp.cobol.common.model.tree.variable.VariableUsageNode;
 import org.eclipse.lsp.cobol.common.utils.RangeUtils;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
 import org.eclipse.lsp.cobol.core.visitor.VisitorHelper;
 import org.eclipse.lsp.cobol.implicitDialects.sql.node.*;
 import org.eclipse.lsp4j.Location;
@@ -164,7 +165,7 @@ class Db2SqlVisitor extends Db2SqlParserBaseVisitor<List<Node>> {
     parser.addErrorListener(listener);
     parser.setErrorHandler(new Db2ErrorStrategy(messageService));
 
-    Db2SqlParser.StartSqlRuleContext result = parser.startSqlRule();
+    Db2SqlParser.StartSqlRuleContext result = ParserRuntime.parse(parser, Db2SqlParser::startSqlRule);
     for (SyntaxError err : listener.getErrors()) {
       errors.add(
           err.toBuilder()
@@ -26,6 +26,7 @@ import org.eclipse.lsp.cobol.core.model.extendedapi.ExtendedApiResult;
 import org.eclipse.lsp.cobol.lsp.events.notifications.DidChangeNotification;
 import org.eclipse.lsp.cobol.lsp.events.queries.CodeActionQuery;
 import org.eclipse.lsp.cobol.lsp.handlers.extended.AnalysisHandler;
+import org.eclipse.lsp.cobol.lsp.handlers.extended.MetricsHandler;
 import org.eclipse.lsp.cobol.lsp.handlers.text.*;
 import org.eclipse.lsp.cobol.lsp.jrpc.ExtendedApi;
 import org.eclipse.lsp.cobol.service.delegates.communications.Communications;
@@ -50,6 +51,7 @@ public class CobolTextDocumentService implements TextDocumentService, ExtendedAp
   private final CompletionHandler completionHandler;
   private final CodeActionHandler codeActionHandler;
   private final AnalysisHandler analysisHandler;
+  private final MetricsHandler metricsHandler;
   private final FormattingHandler formattingHandler;
   private final DidOpenHandler didOpenHandler;
   private final DidCloseHandler didCloseHandler;
@@ -67,6 +69,7 @@ public class CobolTextDocumentService implements TextDocumentService, ExtendedAp
           CompletionHandler completionHandler,
           CodeActionHandler codeActionHandler,
           AnalysisHandler analysisHandler,
+          MetricsHandler metricsHandler,
           FormattingHandler formattingHandler,
           DidOpenHandler didOpenHandler,
           DidCloseHandler didCloseHandler,
@@ -81,6 +84,7 @@ public class CobolTextDocumentService implements TextDocumentService, ExtendedAp
     this.completionHandler = completionHandler;
     this.codeActionHandler = codeActionHandler;
     this.analysisHandler = analysisHandler;
+    this.metricsHandler = metricsHandler;
     this.formattingHandler = formattingHandler;
     this.didOpenHandler = didOpenHandler;
     this.didCloseHandler = didCloseHandler;
@@ -99,6 +103,11 @@ public class CobolTextDocumentService implements TextDocumentService, ExtendedAp
     return lspMessageBroker.query(completionHandler.createEvent(params));
   }
 
+  @Override
+  public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+    return lspMessageBroker.query(completionHandler.createEvent(unresolved));
+  }
+
   @Override
   public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>>
   definition(DefinitionParams params) {
@@ -157,6 +166,11 @@ public class CobolTextDocumentService implements TextDocumentService, ExtendedAp
     return lspMessageBroker.query(analysisHandler.createEvent(json));
   }
 
+  @Override
+  public CompletableFuture<JsonObject> metrics() {
+    return lspMessageBroker.query(metricsHandler.createEvent());
+  }
+
   @Override
   public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(
           DocumentSymbolParams params) {
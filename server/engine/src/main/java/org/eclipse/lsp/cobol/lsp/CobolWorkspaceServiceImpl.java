@@ -14,6 +14,7 @@
  */
 package org.eclipse.lsp.cobol.lsp;
 
+import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.net.URI;
@@ -31,8 +32,10 @@ import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.lsp.events.queries.ExecuteCommandQuery;
 import org.eclipse.lsp.cobol.lsp.handlers.workspace.DidChangeConfigurationHandler;
 import org.eclipse.lsp.cobol.lsp.handlers.workspace.ExecuteCommandHandler;
+import org.eclipse.lsp.cobol.lsp.handlers.workspace.WorkspaceSymbolHandler;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
 /**
@@ -48,6 +51,8 @@ public class CobolWorkspaceServiceImpl extends LspEventConsumer implements Works
   private final DidChangeConfigurationHandler didChangeConfigurationHandler;
   private final AsyncAnalysisService asyncAnalysisService;
   private final UriDecodeService uriDecodeService;
+  private final WorkspaceSymbolHandler workspaceSymbolHandler;
+  private final DocumentRetentionService documentRetentionService;
 
   @Inject
   public CobolWorkspaceServiceImpl(
@@ -56,13 +61,20 @@ public class CobolWorkspaceServiceImpl extends LspEventConsumer implements Works
       SourceUnitGraph sourceUnitGraph,
       DidChangeConfigurationHandler didChangeConfigurationHandler,
       AsyncAnalysisService asyncAnalysisService,
-      UriDecodeService uriDecodeService) {
+      UriDecodeService uriDecodeService,
+      WorkspaceSymbolHandler workspaceSymbolHandler,
+      DocumentRetentionService documentRetentionService) {
     super(lspMessageBroker);
     this.executeCommandHandler = executeCommandHandler;
     this.sourceUnitGraph = sourceUnitGraph;
     this.didChangeConfigurationHandler = didChangeConfigurationHandler;
     this.asyncAnalysisService = asyncAnalysisService;
     this.uriDecodeService = uriDecodeService;
+    this.workspaceSymbolHandler = workspaceSymbolHandler;
+    this.documentRetentionService = documentRetentionService;
+    asyncAnalysisService.register(ImmutableList.of(
+        (state, model, eventSource) -> onAnalysisState(state),
+        workspaceSymbolHandler::onAnalysisState));
   }
 
   /**
@@ -79,6 +91,18 @@ public class CobolWorkspaceServiceImpl extends LspEventConsumer implements Works
     return getLspMessageBroker().query(new ExecuteCommandQuery(params, executeCommandHandler));
   }
 
+  /**
+   * Find the symbols of the analyzed programs of the workspace that match the query.
+   *
+   * @param params - the query of the symbols
+   * @return the programs, sections, paragraphs and copybook variables matching the query
+   */
+  @Override
+  public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(
+      WorkspaceSymbolParams params) {
+    return getLspMessageBroker().query(workspaceSymbolHandler.createEvent(params));
+  }
+
   /**
    * Process changed configuration on the client state. This notification triggered automatically
    * when the user modify configuration settings in the client. Invalidate all the caches to avoid
@@ -107,6 +131,9 @@ public class CobolWorkspaceServiceImpl extends LspEventConsumer implements Works
           if ("file".equals(uri.getScheme())) {
             Path path = Paths.get(uri);
             if (file.getType() == FileChangeType.Deleted) {
+              String deletedUri = uriDecodeService.decode(file.getUri());
+              workspaceSymbolHandler.onDocumentDeleted(deletedUri);
+              documentRetentionService.documentDeleted(deletedUri);
               path = path.getParent();
             }
             String uriString = uriDecodeService.decode(path.toUri().toString());
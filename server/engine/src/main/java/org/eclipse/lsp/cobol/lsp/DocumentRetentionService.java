@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.*;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.common.AnalysisResult;
+import org.eclipse.lsp.cobol.common.copybook.CopybookService;
+import org.eclipse.lsp.cobol.core.engine.symbols.SymbolsRepository;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockParser;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel;
+import org.eclipse.lsp.cobol.service.DocumentModelService;
+import org.eclipse.lsp.cobol.service.copybooks.CopybookServiceImpl;
+import org.eclipse.lsp.cobol.service.settings.CachingConfigurationService;
+
+/**
+ * Decides how long the state of the closed documents is kept. The text, the analysis results, the
+ * symbol tables, the cached content, the settings, the copybook cleanups and the parsed EXEC blocks
+ * of a closed document are kept while the closed documents fit into the soft limits, so reopening a
+ * recent document is cheap. When a limit is exceeded, the documents closed first are released. The
+ * state of a deleted document is released at once.
+ */
+@Slf4j
+@Singleton
+public class DocumentRetentionService {
+  private static final long BYTES_IN_MB = 1024 * 1024;
+  // A rough size of a syntax tree node with its locality, name and links
+  private static final int ESTIMATED_NODE_SIZE = 512;
+  private static final int ESTIMATED_DIAGNOSTIC_SIZE = 256;
+
+  private final DocumentModelService documentModelService;
+  private final SymbolsRepository symbolsRepository;
+  private final SourceUnitGraph sourceUnitGraph;
+  private final CopybookService copybookService;
+  private final CachingConfigurationService configurationService;
+  private final int maxClosedDocuments;
+  private final long maxClosedBytes;
+  // the closed documents in the closing order with their estimated sizes
+  private final LinkedHashMap<String, Long> closedDocuments = new LinkedHashMap<>();
+  private long closedBytes;
+  private long releasedDocuments;
+
+  @Inject
+  public DocumentRetentionService(DocumentModelService documentModelService,
+                                  SymbolsRepository symbolsRepository,
+                                  SourceUnitGraph sourceUnitGraph,
+                                  CopybookService copybookService,
+                                  CachingConfigurationService configurationService,
+                                  @Named("RETAINED-CLOSED-DOCUMENTS") int maxClosedDocuments,
+                                  @Named("RETAINED-CLOSED-DOCUMENTS-MB") int maxClosedMegabytes) {
+    this.documentModelService = documentModelService;
+    this.symbolsRepository = symbolsRepository;
+    this.sourceUnitGraph = sourceUnitGraph;
+    this.copybookService = copybookService;
+    this.configurationService = configurationService;
+    this.maxClosedDocuments = Math.max(0, maxClosedDocuments);
+    this.maxClosedBytes = Math.max(0, maxClosedMegabytes) * BYTES_IN_MB;
+  }
+
+  /**
+   * Keep the state of the opened document until it is closed again
+   *
+   * @param uri document uri
+   */
+  public synchronized void documentOpened(String uri) {
+    Long size = closedDocuments.remove(uri);
+    if (size != null) {
+      closedBytes -= size;
+    }
+  }
+
+  /**
+   * Retain the state of the closed document and release the documents closed first if the limits
+   * are exceeded
+   *
+   * @param uri document uri
+   */
+  public synchronized void documentClosed(String uri) {
+    documentOpened(uri);
+    long size = estimateSize(uri);
+    closedDocuments.put(uri, size);
+    closedBytes += size;
+    Iterator<Map.Entry<String, Long>> iterator = closedDocuments.entrySet().iterator();
+    while (iterator.hasNext() && (closedDocuments.size() > maxClosedDocuments || closedBytes > maxClosedBytes)) {
+      Map.Entry<String, Long> eldest = iterator.next();
+      iterator.remove();
+      closedBytes -= eldest.getValue();
+      release(eldest.getKey());
+    }
+  }
+
+  /**
+   * Release the state of the deleted document if it is not opened
+   *
+   * @param uri document uri
+   */
+  public synchronized void documentDeleted(String uri) {
+    documentOpened(uri);
+    CobolDocumentModel document = documentModelService.get(uri);
+    if (document == null || !document.isOpened()) {
+      release(uri);
+    }
+  }
+
+  /**
+   * Returns the retained state of the documents
+   *
+   * @return the retention metrics
+   */
+  public synchronized Metrics getMetrics() {
+    List<DocumentMetrics> documents = documentModelService.getAll().stream()
+        .map(document -> new DocumentMetrics(document.getUri(), document.isOpened(), estimateSize(document)))
+        .sorted(Comparator.comparingLong(DocumentMetrics::getRetainedBytes).reversed())
+        .collect(Collectors.toList());
+    return new Metrics(maxClosedDocuments, maxClosedBytes, closedDocuments.size(), closedBytes,
+        documents.stream().mapToLong(DocumentMetrics::getRetainedBytes).sum(), symbolsRepository.size(),
+        releasedDocuments, documents);
+  }
+
+  private void release(String uri) {
+    if (!documentModelService.removeDocument(uri) && documentModelService.get(uri) != null) {
+      return;
+    }
+    releasedDocuments++;
+    symbolsRepository.release(uri);
+    sourceUnitGraph.releaseContent(uri);
+    if (copybookService instanceof CopybookServiceImpl) {
+      ((CopybookServiceImpl) copybookService).releaseCopybookUsage(uri);
+    }
+    configurationService.release(uri);
+    ExecBlockParser.release(uri);
+    LOG.debug("The state of the closed document {} is released", uri);
+  }
+
+  private long estimateSize(String uri) {
+    return Optional.ofNullable(documentModelService.get(uri)).map(this::estimateSize).orElse(0L);
+  }
+
+  /** An estimation of the text copies and the analysis results of the document, two bytes per character */
+  private long estimateSize(CobolDocumentModel document) {
+    long size = 2L * (document.getSnapshot().length() + sourceUnitGraph.getContentLength(document.getUri()));
+    Set<AnalysisResult> results = Collections.newSetFromMap(new IdentityHashMap<>());
+    Optional.ofNullable(document.getAnalysisResult()).ifPresent(results::add);
+    Optional.ofNullable(document.getLastAnalysisResult()).ifPresent(results::add);
+    for (AnalysisResult result : results) {
+      if (result.getRootNode() != null) {
+        size += ESTIMATED_NODE_SIZE * result.getRootNode().getDepthFirstStream().count();
+      }
+      if (result.getDiagnostics() != null) {
+        size += ESTIMATED_DIAGNOSTIC_SIZE * result.getDiagnostics().values().stream().mapToLong(List::size).sum();
+      }
+    }
+    return size;
+  }
+
+  /** The retained state of all the documents */
+  @Value
+  public static class Metrics {
+    int maxClosedDocuments;
+    long maxClosedBytes;
+    int closedDocuments;
+    long closedBytes;
+    long retainedBytes;
+    int symbolTables;
+    long releasedDocuments;
+    List<DocumentMetrics> documents;
+  }
+
+  /** The estimated retained size of a document */
+  @Value
+  public static class DocumentMetrics {
+    String uri;
+    boolean opened;
+    long retainedBytes;
+  }
+}
@@ -19,12 +19,21 @@ import static org.eclipse.lsp.cobol.lsp.LspMessageBroker.POISON_PILL;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.lsp.analysis.AnalysisState;
 
 /** A consumer of {@link LspMessageBroker} */
 @Slf4j
 public class LspEventConsumer {
+  private static final int READ_ONLY_POOL_SIZE = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  private static final long WAKE_UP_INTERVAL_MILLIS = 500;
+
   @Getter private final LspMessageBroker lspMessageBroker;
   private final ExecutorService singleThreadExecutor =
       Executors.newSingleThreadExecutor(r -> new Thread(r, "LSP Event Consumer"));
@@ -32,6 +41,10 @@ public class LspEventConsumer {
           Executors.newSingleThreadExecutor(r -> new Thread(r, "LSP Notification Consumer"));
   private final ExecutorService queryThreadExecutor =
           Executors.newSingleThreadExecutor(r -> new Thread(r, "LSP Query Consumer"));
+  private final ExecutorService readOnlyQueryExecutor =
+          Executors.newFixedThreadPool(READ_ONLY_POOL_SIZE, new DaemonThreadFactory("LSP Read-Only Query Consumer #"));
+  private final ScheduledExecutorService wakeUpExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("LSP Event Wake Up #"));
 
   protected LspEventConsumer(LspMessageBroker lspMessageBroker) {
     this.lspMessageBroker = lspMessageBroker;
@@ -44,11 +57,13 @@ public class LspEventConsumer {
    */
   private void handle(LspEvent event) {
     if (event instanceof LspNotification) {
-      CompletableFuture.runAsync(((LspNotification) event)::execute, notificationThreadExecutor);
+      CompletableFuture.runAsync(((LspNotification) event)::execute, notificationThreadExecutor)
+          .whenComplete((result, error) -> lspMessageBroker.wakeUp());
       return;
     }
     if (event instanceof LspQuery) {
-      CompletableFuture.runAsync(() -> handle((LspQuery<?>) event), queryThreadExecutor);
+      LspQuery<?> query = (LspQuery<?>) event;
+      CompletableFuture.runAsync(() -> handle(query), query.isReadOnly() ? readOnlyQueryExecutor : queryThreadExecutor);
     }
   }
 
@@ -58,6 +73,7 @@ public class LspEventConsumer {
       return;
     }
     try {
+      long generation = lspMessageBroker.getGeneration();
       if (!event.getDependencies().stream().allMatch(LspEventDependency::isSatisfied)) {
         boolean isCanceled =
             event.getCancelConditions().stream()
@@ -66,7 +82,7 @@ public class LspEventConsumer {
           LOG.debug("cancel event: " + event);
           event.getResult().cancel(true);
         } else {
-          this.lspMessageBroker.putBack(event);
+          this.lspMessageBroker.park(event, generation);
         }
         return;
       }
@@ -88,6 +104,12 @@ public class LspEventConsumer {
    * Start the {@link LspEvent} consumer
    */
   public void startConsumer() {
+    // a safety net for the dependencies that are not followed by any wake-up signal
+    wakeUpExecutor.scheduleWithFixedDelay(() -> {
+      if (lspMessageBroker.parkedSize() > 0) {
+        lspMessageBroker.wakeUp();
+      }
+    }, WAKE_UP_INTERVAL_MILLIS, WAKE_UP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
     CompletableFuture.supplyAsync(
         () -> {
           try {
@@ -96,10 +118,37 @@ public class LspEventConsumer {
             throw new RuntimeException(e);
           } finally {
             LOG.info("LSP Consumer shutting down");
+            wakeUpExecutor.shutdown();
             singleThreadExecutor.shutdown();
           }
           return null;
         },
         singleThreadExecutor);
   }
+
+  /**
+   * Wakes up the parked events once the analysis of a document is finished, as it is what the most of
+   * event dependencies are waiting for
+   *
+   * @param state analysis state
+   */
+  protected void onAnalysisState(AnalysisState state) {
+    if (state == AnalysisState.COMPLETED || state == AnalysisState.SKIPPED
+        || state == AnalysisState.EXCEPTIONALLY_FINISHED) {
+      lspMessageBroker.wakeUp();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
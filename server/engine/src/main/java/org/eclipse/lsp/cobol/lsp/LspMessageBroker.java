@@ -15,6 +15,8 @@
 package org.eclipse.lsp.cobol.lsp;
 
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,6 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 public class LspMessageBroker {
   public static final LspNotification POISON_PILL = () -> {};
   private final BlockingDeque<LspEvent> eventQueue = new LinkedBlockingDeque<>();
+  private final List<LspEvent> parkedEvents = new ArrayList<>();
+  private long generation;
 
 
   /**
@@ -46,18 +50,53 @@ public class LspMessageBroker {
   }
 
   /**
-   * Put backs an event to the end of queue
-   * @param nextEven
-   * @param <Q>
-   * @throws InterruptedException
+   * Return count of the events waiting for their dependencies
+   * @return parked events count
+   */
+  public synchronized int parkedSize() {
+    return parkedEvents.size();
+  }
+
+  /**
+   * Returns the current wake-up generation. The value should be taken before the dependencies of an event
+   * are checked and passed to {@link #park(LspQuery, long)} to not miss a wake-up happened in between.
+   *
+   * @return wake-up generation
+   */
+  public synchronized long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Parks an event until the next {@link #wakeUp()}. If a wake-up happened after the given generation was
+   * observed, the event is put back to the end of queue immediately.
+   *
+   * @param event the event with not satisfied dependencies
+   * @param observedGeneration the generation observed before checking the dependencies
+   * @param <Q> type of the event result
    */
-  public <Q> void putBack(LspQuery<Q> nextEven) throws InterruptedException {
-    LOG.debug("putBack: " + nextEven);
-    if (!eventQueue.offer(nextEven)) {
-      LOG.warn("Event " + nextEven + " dropped");
+  public synchronized <Q> void park(LspQuery<Q> event, long observedGeneration) {
+    LOG.debug("park: " + event);
+    if (observedGeneration != generation) {
+      offer(event);
+    } else {
+      parkedEvents.add(event);
+    }
+  }
+
+  /**
+   * Put back all parked events to the end of queue, so their dependencies will be checked again
+   */
+  public synchronized void wakeUp() {
+    generation++;
+    parkedEvents.forEach(this::offer);
+    parkedEvents.clear();
+  }
+
+  private void offer(LspEvent event) {
+    if (!eventQueue.offer(event)) {
+      LOG.warn("Event " + event + " dropped");
     }
-    // save the CPU
-    TimeUnit.MILLISECONDS.sleep(100);
   }
 
   /**
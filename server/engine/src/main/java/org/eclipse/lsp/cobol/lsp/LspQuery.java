@@ -51,6 +51,15 @@ public interface LspQuery<T> extends LspEvent {
     return ImmutableList.of();
   }
 
+  /**
+   * Read-only queries do not change the server state and may be executed in parallel with each other.
+   *
+   * @return true if the query is read-only
+   */
+  default boolean isReadOnly() {
+    return false;
+  }
+
   /**
    *
    * @return CompletableFuture for a {@link LspQuery}
@@ -14,13 +14,15 @@
  */
 package org.eclipse.lsp.cobol.lsp;
 
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.IOException;
 import java.net.URI;
-import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -30,6 +32,7 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.file.WorkspaceFileService;
 import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
@@ -47,6 +50,8 @@ import org.eclipse.lsp4j.Position;
 @Singleton
 @Slf4j
 public class SourceUnitGraph implements AnalysisStateListener {
+  private static final Interner<String> KEYS = Interners.newWeakInterner();
+
   private final WorkspaceFileService fileService;
   private final UriDecodeService uriDecodeService;
 
@@ -58,9 +63,22 @@ public class SourceUnitGraph implements AnalysisStateListener {
   // copy-a-uri <--> copy-a node
   private final Map<String, NodeV> objectRef = new ConcurrentHashMap<>();
 
-  // copy-2-uri <--> doc-a-uri, doc-1-uri
-  private final Map<String, List<String>> documentGraphIndexedByCopybook =
-      new ConcurrentHashMap<>();
+  // The links below use normalized uri keys, see toKey
+  // copy-2-key <--> doc-a-key, copy-1-key
+  private final Map<String, Set<String>> includedBy = new ConcurrentHashMap<>();
+
+  // doc-a-key <--> copy-a-key, copy-b-key
+  private final Map<String, Set<String>> includes = new ConcurrentHashMap<>();
+
+  // doc-a-key <--> the links found by the doc-a analysis, the same link may be found by many programs
+  private final Map<String, Set<Link>> programLinks = new ConcurrentHashMap<>();
+  private final Multiset<Link> linkCounts = ConcurrentHashMultiset.create();
+
+  // copy-2-key <--> doc-a-uri, doc-1-uri
+  private final Map<String, List<String>> dependentPrograms = new ConcurrentHashMap<>();
+
+  // doc-a-key <--> doc-a-uri
+  private final Map<String, String> uris = new ConcurrentHashMap<>();
 
   @Inject
   public SourceUnitGraph(
@@ -117,6 +135,7 @@ public class SourceUnitGraph implements AnalysisStateListener {
             .map(CopyNode.class::cast)
             .collect(Collectors.toList());
     List<NodeV> references = new ArrayList<>();
+    Set<Link> links = new HashSet<>();
     for (CopyNode copyNode : copyNodes) {
       String parentUri = copyNode.getLocality().getUri();
       NodeV copyNodeV = getNode(copyNode, eventSource);
@@ -131,22 +150,77 @@ public class SourceUnitGraph implements AnalysisStateListener {
         objectRef.putIfAbsent(copyNode.getUri(), copyNodeV);
         references.add(copyNodeV);
         String decodedUri = uriDecodeService.decode(copyNode.getUri());
-        documentGraphIndexedByCopybook.putIfAbsent(decodedUri, new ArrayList<>());
-        List<String> strings = documentGraphIndexedByCopybook.get(decodedUri);
-        if (!strings.contains(parentUri)) {
-          strings.add(parentUri);
-        }
+        links.add(new Link(register(parentUri), register(decodedUri)));
       }
     }
+    links.forEach(this::addLink);
+    programLinks.put(toKey(model.getUri()), links);
     documentGraph.remove(model.getUri());
     documentGraph.put(model.getUri(), references);
   }
 
+  private void addLink(Link link) {
+    if (linkCounts.add(link, 1) == 0) {
+      includedBy.computeIfAbsent(link.getCopybook(), k -> ConcurrentHashMap.newKeySet()).add(link.getParent());
+      includes.computeIfAbsent(link.getParent(), k -> ConcurrentHashMap.newKeySet()).add(link.getCopybook());
+      invalidateDependentPrograms(link.getCopybook());
+    }
+  }
+
+  private void removeLinks(String programUri) {
+    Optional.ofNullable(programLinks.remove(toKey(programUri))).ifPresent(links -> links.forEach(this::removeLink));
+  }
+
+  private void removeLink(Link link) {
+    if (linkCounts.remove(link, 1) == 1) {
+      removeFromIndex(includedBy, link.getCopybook(), link.getParent());
+      removeFromIndex(includes, link.getParent(), link.getCopybook());
+      invalidateDependentPrograms(link.getCopybook());
+    }
+  }
+
+  private static void removeFromIndex(Map<String, Set<String>> index, String key, String value) {
+    index.computeIfPresent(key, (k, values) -> {
+      values.remove(value);
+      return values.isEmpty() ? null : values;
+    });
+  }
+
+  /** A link change affects the dependent programs of the linked copybook and the copybooks it includes */
+  private void invalidateDependentPrograms(String copybookKey) {
+    Set<String> visited = new HashSet<>();
+    Deque<String> queue = new ArrayDeque<>();
+    queue.add(copybookKey);
+    while (!queue.isEmpty()) {
+      String key = queue.poll();
+      if (visited.add(key)) {
+        dependentPrograms.remove(key);
+        queue.addAll(includes.getOrDefault(key, Collections.emptySet()));
+      }
+    }
+  }
+
+  private String register(String uri) {
+    String key = toKey(uri);
+    uris.putIfAbsent(key, uri);
+    return key;
+  }
+
+  /**
+   * Normalize the uri, so the different forms of the same file uri give the same key. The keys are
+   * interned, so the copies of the same uri don't waste memory.
+   */
+  private static String toKey(String uri) {
+    String key = uri.replace(" ", "%20");
+    int fragment = key.indexOf('#');
+    return KEYS.intern(fragment < 0 ? key : key.substring(0, fragment));
+  }
+
   private void invalidateGraphLinks(String uri) {
+    removeLinks(uri);
     if (documentGraph.containsKey(uri)) {
       List<NodeV> prevLinks = documentGraph.get(uri);
       for (NodeV prevLink : prevLinks) {
-        invalidateCopybookIndexedCache(uri, prevLink.getUri());
         Optional.ofNullable(objectRef.get(prevLink.getUri()))
             .ifPresent(
                 nodeV -> {
@@ -162,15 +236,6 @@ public class SourceUnitGraph implements AnalysisStateListener {
     }
   }
 
-  private void invalidateCopybookIndexedCache(String referUri, String copybookUri) {
-    documentGraphIndexedByCopybook.computeIfPresent(
-        copybookUri,
-        (k, v) -> {
-          v.remove(referUri);
-          return v;
-        });
-  }
-
   /**
    * Is the passed uri treated as copybook by LSP engine
    *
@@ -178,16 +243,7 @@ public class SourceUnitGraph implements AnalysisStateListener {
    * @return true if copybook, false otherwise.
    */
   public boolean isCopybook(String uri) {
-    return documentGraphIndexedByCopybook.keySet().stream().anyMatch(copyUri -> {
-      try {
-        String decodeUri = uri.replace(" ", "%20");
-        copyUri = copyUri.replace(" ", "%20");
-        return new URL(decodeUri).sameFile(new URL(copyUri));
-      } catch (IOException e) {
-        LOG.error("IOException encountered while comparing paths {} and {}", copyUri, uri);
-        return false;
-      }
-    });
+    return includedBy.containsKey(toKey(uri));
   }
 
   private void updateGraphNodes(CobolDocumentModel model, EventSource eventSource) {
@@ -266,17 +322,37 @@ public class SourceUnitGraph implements AnalysisStateListener {
    *     is returned if uri is not a copybook
    */
   public List<String> getAllAssociatedFilesForACopybook(String uri) {
-    List<String> result = new ArrayList<>();
-    List<String> linkedUris =
-        documentGraphIndexedByCopybook.getOrDefault(uri, Collections.emptyList());
-    linkedUris.remove(uri);
-    for (String linkedUri : linkedUris) {
-      if (documentGraphIndexedByCopybook.containsKey(linkedUri)) {
-        result.addAll(getAllAssociatedFilesForACopybook(linkedUri));
-      } else {
-        result.add(linkedUri);
+    String key = toKey(uri);
+    List<String> result = dependentPrograms.get(key);
+    if (result != null) {
+      return result;
+    }
+    return includedBy.containsKey(key) ? collectDependentPrograms(key) : ImmutableList.of();
+  }
+
+  /** Walk the links up to the programs, reusing the programs already collected for the copybooks on the way */
+  private synchronized List<String> collectDependentPrograms(String copybookKey) {
+    Set<String> programs = new LinkedHashSet<>();
+    Set<String> visited = new HashSet<>();
+    Deque<String> queue = new ArrayDeque<>();
+    visited.add(copybookKey);
+    queue.add(copybookKey);
+    while (!queue.isEmpty()) {
+      for (String parent : includedBy.getOrDefault(queue.poll(), Collections.emptySet())) {
+        if (!includedBy.containsKey(parent)) {
+          programs.add(uris.getOrDefault(parent, parent));
+        } else if (visited.add(parent)) {
+          List<String> known = dependentPrograms.get(parent);
+          if (known == null) {
+            queue.add(parent);
+          } else {
+            programs.addAll(known);
+          }
+        }
       }
     }
+    List<String> result = ImmutableList.copyOf(programs);
+    dependentPrograms.put(copybookKey, result);
     return result;
   }
 
@@ -312,22 +388,20 @@ public class SourceUnitGraph implements AnalysisStateListener {
    */
   public synchronized void remove(String uri) {
     if (documentGraph.containsKey(uri)) {
+      removeLinks(uri);
       documentGraph
           .get(uri)
-          .forEach(
-              node ->
-                  Optional.ofNullable(documentGraphIndexedByCopybook.get(node.uri))
-                      .ifPresent(
-                          strings -> {
-                            strings.remove(uri);
-                            if (strings.isEmpty()) {
-                              documentGraphIndexedByCopybook.remove(node.uri);
-                              updateReferences(uri, node);
-                            }
-                          }));
+          .stream()
+          .filter(node -> !isCopybook(uriDecodeService.decode(node.uri)))
+          .forEach(node -> updateReferences(uri, node));
       documentGraph.remove(uri);
       if (documentGraph.isEmpty()) {
-        documentGraphIndexedByCopybook.clear();
+        includedBy.clear();
+        includes.clear();
+        programLinks.clear();
+        linkCounts.clear();
+        dependentPrograms.clear();
+        uris.clear();
         objectRef.clear();
       }
     }
@@ -335,12 +409,37 @@ public class SourceUnitGraph implements AnalysisStateListener {
   }
 
   private void updateReferences(String uri, NodeV node) {
-    NodeV nodeV = objectRef.get(node.getUri());
-    Set<Location> updatedReferences =
-        nodeV.getReferencedLocation().stream()
-            .filter(loc -> !loc.getUri().equals(uri))
-            .collect(Collectors.toSet());
-    nodeV.setReferencedLocation(updatedReferences);
+    Optional.ofNullable(objectRef.get(node.getUri()))
+        .ifPresent(
+            nodeV ->
+                nodeV.setReferencedLocation(
+                    nodeV.getReferencedLocation().stream()
+                        .filter(loc -> !loc.getUri().equals(uri))
+                        .collect(Collectors.toSet())));
+  }
+
+  /**
+   * Drop the cached content of a closed document, so the content is read from the file system when it
+   * is needed again
+   *
+   * @param uri document uri
+   */
+  public synchronized void releaseContent(String uri) {
+    Optional.ofNullable(objectRef.get(uri))
+        .ifPresent(node -> {
+          node.setOpenInIde(false);
+          node.setContent(null);
+        });
+  }
+
+  /**
+   * Returns the length of the cached content of the document
+   *
+   * @param uri document uri
+   * @return the number of the cached characters or 0 if the content is not cached
+   */
+  public int getContentLength(String uri) {
+    return Optional.ofNullable(objectRef.get(uri)).map(NodeV::getContent).map(String::length).orElse(0);
   }
 
   /**
@@ -363,15 +462,9 @@ public class SourceUnitGraph implements AnalysisStateListener {
   public List<NodeV> getInjectedCopybookNode(String uri, Position usage) {
     List<NodeV> result = new ArrayList<>();
     List<NodeV> cobolDocLinks = documentGraph.get(uri);
-    List<Map.Entry<String, List<String>>> containedCopybook =
-        this.documentGraphIndexedByCopybook.entrySet().stream()
-            .filter(enn -> enn.getValue().contains(uri))
-            .collect(Collectors.toList());
-    for (Map.Entry<String, List<String>> entry : containedCopybook) {
-      if (objectRef.containsKey(entry.getKey())) {
-        NodeV nodeV = objectRef.get(entry.getKey());
-        if (isContainedInside(usage, nodeV)) result.add(nodeV);
-      }
+    for (String copybookKey : includes.getOrDefault(toKey(uri), Collections.emptySet())) {
+      NodeV nodeV = objectRef.get(uris.getOrDefault(copybookKey, copybookKey));
+      if (nodeV != null && isContainedInside(usage, nodeV)) result.add(nodeV);
     }
     if (cobolDocLinks != null) {
       Optional<NodeV> linkedNode =
@@ -407,10 +500,9 @@ public class SourceUnitGraph implements AnalysisStateListener {
   public List<String> getCopybookUriInsideFolder(String parentFolder) {
     List<String> result = new ArrayList<>();
     Path parentPath = Paths.get(URI.create(parentFolder));
-    Set<String> allCopybooks = documentGraphIndexedByCopybook.keySet();
-    for (String copybookUri : allCopybooks) {
-      Path copybookPath = Paths.get(URI.create(copybookUri));
-      if (copybookPath.startsWith(parentPath)) result.add(copybookUri);
+    for (String copybookKey : includedBy.keySet()) {
+      Path copybookPath = Paths.get(URI.create(copybookKey));
+      if (copybookPath.startsWith(parentPath)) result.add(uris.getOrDefault(copybookKey, copybookKey));
     }
     return result;
   }
@@ -429,6 +521,13 @@ public class SourceUnitGraph implements AnalysisStateListener {
     @Setter private boolean isOpenInIde;
   }
 
+  /** A link from a document to a copybook it includes, the uris are normalized keys */
+  @Value
+  private static class Link {
+    String parent;
+    String copybook;
+  }
+
   /** Represent different source for event for the LSP server */
   public enum EventSource {
     FILE_SYSTEM,
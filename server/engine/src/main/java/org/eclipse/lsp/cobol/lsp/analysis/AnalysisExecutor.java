@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.analysis;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs document analysis tasks on a bounded pool of worker threads. Tasks of the same document are executed
+ * one by one in the submission order, and documents with interactive tasks are served before the documents
+ * that are only reanalysed in background. A queued document is moved ahead when it gets an interactive task.
+ */
+@Slf4j
+@Singleton
+public class AnalysisExecutor {
+  private final ThreadPoolExecutor pool;
+  private final Map<String, Lane> lanes = new HashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong startedTasks = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  @Inject
+  public AnalysisExecutor(@Named("ANALYSIS-POOL-SIZE") int poolSize) {
+    int size = Math.max(1, poolSize);
+    pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), new AnalysisThreadFactory());
+    pool.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Creates an executor that runs the tasks in the lane of the given document
+   *
+   * @param uri      document uri
+   * @param priority priority of the tasks
+   * @return the executor
+   */
+  public Executor forDocument(String uri, Priority priority) {
+    return task -> execute(uri, priority, task);
+  }
+
+  /**
+   * Schedule a task for the given document
+   *
+   * @param uri      document uri
+   * @param priority priority of the task
+   * @param task     the task
+   */
+  public synchronized void execute(String uri, Priority priority, Runnable task) {
+    Lane lane = lanes.computeIfAbsent(uri, Lane::new);
+    lane.pending.add(new Task(task, priority, System.nanoTime()));
+    if (lane.running == null && (lane.scheduled == null || priority.compareTo(lane.scheduled.priority) < 0)) {
+      schedule(lane);
+    }
+  }
+
+  /**
+   * Drop the pending tasks of the document and interrupt the running one. Waits for the running task to finish.
+   *
+   * @param uri     document uri
+   * @param timeout the maximum time to wait
+   * @param unit    the time unit of the timeout argument
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized void cancel(String uri, long timeout, TimeUnit unit) throws InterruptedException {
+    Lane lane = lanes.get(uri);
+    if (lane == null) {
+      return;
+    }
+    lane.pending.clear();
+    if (lane.running != null) {
+      lane.running.interrupt();
+      long deadline = System.nanoTime() + unit.toNanos(timeout);
+      long left = deadline - System.nanoTime();
+      while (lane.running != null && left > 0) {
+        TimeUnit.NANOSECONDS.timedWait(this, left);
+        left = deadline - System.nanoTime();
+      }
+    }
+  }
+
+  /**
+   * Returns the current state of the executor
+   *
+   * @return the executor metrics
+   */
+  public synchronized Metrics getMetrics() {
+    int queueDepth = lanes.values().stream().mapToInt(lane -> lane.pending.size()).sum();
+    long started = startedTasks.get();
+    return new Metrics(pool.getMaximumPoolSize(), pool.getActiveCount(), queueDepth, started,
+        started == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / started),
+        TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+  }
+
+  /** Queue the lane with the highest priority of its pending tasks, replacing the runner queued before */
+  private void schedule(Lane lane) {
+    Priority priority = Priority.BACKGROUND;
+    for (Task task : lane.pending) {
+      if (task.priority.compareTo(priority) < 0) {
+        priority = task.priority;
+      }
+    }
+    if (lane.scheduled != null) {
+      pool.remove(lane.scheduled);
+    }
+    lane.scheduled = new LaneRunner(lane, priority, sequence.incrementAndGet());
+    pool.execute(lane.scheduled);
+  }
+
+  private void runNext(LaneRunner runner) {
+    Lane lane = runner.lane;
+    Task task;
+    synchronized (this) {
+      if (lane.scheduled != runner) {
+        // the lane was queued again with a higher priority
+        return;
+      }
+      lane.scheduled = null;
+      task = lane.pending.poll();
+      if (task == null) {
+        lanes.remove(lane.uri, lane);
+        return;
+      }
+      lane.running = Thread.currentThread();
+    }
+    long wait = System.nanoTime() - task.submitted;
+    startedTasks.incrementAndGet();
+    totalWaitNanos.addAndGet(wait);
+    maxWaitNanos.accumulateAndGet(wait, Math::max);
+    LOG.debug("[AnalysisExecutor] start task for {} after {} ms in queue", lane.uri, TimeUnit.NANOSECONDS.toMillis(wait));
+    try {
+      task.runnable.run();
+    } finally {
+      synchronized (this) {
+        lane.running = null;
+        if (lane.pending.isEmpty()) {
+          lanes.remove(lane.uri, lane);
+        } else {
+          schedule(lane);
+        }
+        notifyAll();
+      }
+      // the interruption was addressed to the finished task only
+      Thread.interrupted();
+    }
+  }
+
+  /** Priority of an analysis task, the interactive tasks go first */
+  public enum Priority {
+    INTERACTIVE,
+    BACKGROUND
+  }
+
+  /** Snapshot of the executor state */
+  @Value
+  public static class Metrics {
+    int poolSize;
+    int activeTasks;
+    int queueDepth;
+    long startedTasks;
+    long averageWaitMillis;
+    long maxWaitMillis;
+  }
+
+  @RequiredArgsConstructor
+  private static class Lane {
+    private final String uri;
+    private final Deque<Task> pending = new ArrayDeque<>();
+    private Thread running;
+    private LaneRunner scheduled;
+  }
+
+  @RequiredArgsConstructor
+  private static class Task {
+    private final Runnable runnable;
+    private final Priority priority;
+    private final long submitted;
+  }
+
+  @RequiredArgsConstructor
+  private class LaneRunner implements Runnable, Comparable<LaneRunner> {
+    private final Lane lane;
+    private final Priority priority;
+    private final long order;
+
+    @Override
+    public void run() {
+      runNext(this);
+    }
+
+    @Override
+    public int compareTo(LaneRunner other) {
+      int result = priority.compareTo(other.priority);
+      return result != 0 ? result : Long.compare(order, other.order);
+    }
+  }
+
+  private static class AnalysisThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "Analysis thread #" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
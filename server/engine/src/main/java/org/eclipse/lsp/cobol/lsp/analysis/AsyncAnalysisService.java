@@ -48,32 +48,25 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
 
   private final Map<String, CompletableFuture<CobolDocumentModel>> analysisResults = Collections.synchronizedMap(new HashMap<>());
   private final Map<String, Integer> analysisResultsRevisions = Collections.synchronizedMap(new HashMap<>());
-  private final Map<String, ExecutorService> analysisExecutors = Collections.synchronizedMap(new HashMap<>());
+  private final AnalysisExecutor analysisExecutor;
 
   private final List<AnalysisStateListener> analysisStateListeners;
 
-  private static final ThreadFactory THREAD_FACTORY = new ThreadFactory() {
-    private int counter = 0;
-
-    public Thread newThread(Runnable r) {
-      return new Thread(r, "Analysis thread #" + counter++);
-    }
-  };
-
-
   @Inject
   public AsyncAnalysisService(TrueDialectService dialectService,
                               DocumentModelService documentModelService,
                               AnalysisService analysisService,
                               CopybookService copybookService,
                               SubroutineService subroutineService,
-                              Communications communications) {
+                              Communications communications,
+                              AnalysisExecutor analysisExecutor) {
     this.dialectService = dialectService;
     this.documentModelService = documentModelService;
     this.analysisService = analysisService;
     this.copybookService = copybookService;
     this.subroutineService = subroutineService;
     this.communications = communications;
+    this.analysisExecutor = analysisExecutor;
     analysisStateListeners = new ArrayList<>();
   }
 
@@ -115,6 +108,11 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
    * @return document model with analysis result
    */
   public synchronized CompletableFuture<CobolDocumentModel> scheduleAnalysis(String uri, String text, Integer currentRevision, boolean open, boolean force, SourceUnitGraph.EventSource eventSource) {
+    return scheduleAnalysis(uri, text, currentRevision, open, force, eventSource, AnalysisExecutor.Priority.INTERACTIVE);
+  }
+
+  private synchronized CompletableFuture<CobolDocumentModel> scheduleAnalysis(String uri, String text, Integer currentRevision, boolean open, boolean force,
+                                                                              SourceUnitGraph.EventSource eventSource, AnalysisExecutor.Priority priority) {
     notifyAllListeners(AnalysisState.SCHEDULED, documentModelService.get(uri), eventSource);
     String id = makeId(uri, currentRevision);
     Integer prevId = analysisResultsRevisions.put(uri, currentRevision);
@@ -122,7 +120,6 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
       notifyAllListeners(AnalysisState.SKIPPED, documentModelService.get(uri), eventSource);
       return analysisResults.get(id);
     }
-    Executor analysisExecutor = getExecutor(uri);
     CompletableFuture<CobolDocumentModel> value = CompletableFuture.supplyAsync(() -> {
       if (currentRevision < analysisResultsRevisions.get(uri) && !force) {
         notifyAllListeners(AnalysisState.SKIPPED, documentModelService.get(uri), eventSource);
@@ -145,7 +142,7 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
         }
         communications.notifyProgressEnd(uri);
       }
-    }, analysisExecutor);
+    }, analysisExecutor.forDocument(uri, priority));
     analysisResults.put(id, value);
     if (prevId != null && !force) {
       Optional.ofNullable(analysisResults.get(makeId(uri, prevId))).ifPresent(cf -> cf.cancel(true));
@@ -154,17 +151,6 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
   }
 
 
-  private Executor getExecutor(String uri) {
-    synchronized (analysisExecutors) {
-      ExecutorService analysisExecutor = analysisExecutors.computeIfAbsent(uri, u -> Executors.newSingleThreadExecutor(THREAD_FACTORY));
-      if (analysisExecutor.isShutdown()) {
-        analysisExecutor = Executors.newSingleThreadExecutor(THREAD_FACTORY);
-        analysisExecutors.put(uri, analysisExecutor);
-      }
-      return analysisExecutor;
-    }
-  }
-
   private static String makeId(String uri, Integer revision) {
     return revision + "#" + uri;
   }
@@ -193,7 +179,8 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
     subroutineService.invalidateCache();
     LOG.info("Cache invalidated");
     openDocuments
-            .forEach(doc -> scheduleAnalysis(doc.getUri(), doc.getText(), analysisResultsRevisions.getOrDefault(doc.getUri(), 0), false, true, SourceUnitGraph.EventSource.IDE));
+            .forEach(doc -> scheduleAnalysis(doc.getUri(), doc.getText(), analysisResultsRevisions.getOrDefault(doc.getUri(), 0), false, true,
+                SourceUnitGraph.EventSource.IDE, AnalysisExecutor.Priority.BACKGROUND));
   }
 
   private void cancelRunningAnalysis(List<CobolDocumentModel> openDocuments) {
@@ -236,10 +223,11 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
                 }
               });
 
-      subroutineService.invalidateCache();
-      LOG.info("Cache invalidated");
+      // a copybook cannot change how the subroutines are resolved, so their cache is kept
+      LOG.info("Copybook cache invalidated for {}", uri);
       CobolDocumentModel document = documentModelService.get(uri);
-      scheduleAnalysis(uri, document.getText(), analysisResultsRevisions.get(document.getUri()), false, true, eventSource);
+      scheduleAnalysis(uri, document.getText(), analysisResultsRevisions.get(document.getUri()), false, true, eventSource,
+          AnalysisExecutor.Priority.BACKGROUND);
     }
   }
 
@@ -250,13 +238,7 @@ public class AsyncAnalysisService implements AnalysisStateNotifier {
    */
   public void cancelAnalysis(String uri) throws InterruptedException {
     analysisResultsRevisions.remove(uri);
-    synchronized (analysisExecutors) {
-      ExecutorService service = analysisExecutors.remove(uri);
-      if (service != null) {
-        service.shutdownNow();
-        service.awaitTermination(1, TimeUnit.SECONDS);
-      }
-    }
+    analysisExecutor.cancel(uri, 1, TimeUnit.SECONDS);
     LOG.debug("[stopAnalysis] Document " + uri + " publish diagnostic: " + documentModelService.getOpenedDiagnostic());
     communications.publishDiagnostics(documentModelService.getOpenedDiagnostic());
   }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.events.queries;
+
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.lsp.cobol.lsp.LspQuery;
+import org.eclipse.lsp.cobol.lsp.handlers.text.CompletionHandler;
+import org.eclipse.lsp4j.CompletionItem;
+
+/**
+ * `completionItem/resolve` language server event
+ */
+public class CompletionItemResolveQuery implements LspQuery<CompletionItem> {
+  final CompletableFuture<CompletionItem> result;
+  private final CompletionItem item;
+  private final CompletionHandler completionHandler;
+
+  public CompletionItemResolveQuery(CompletionItem item, CompletionHandler completionHandler) {
+    this.item = item;
+    this.completionHandler = completionHandler;
+    result = new CompletableFuture<>();
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  @Override
+  public CompletableFuture<CompletionItem> getResult() {
+    return result;
+  }
+
+  @Override
+  public CompletionItem query() {
+    return completionHandler.resolveCompletionItem(item);
+  }
+}
@@ -42,6 +42,11 @@ public class DocumentHighlightQuery implements LspQuery<List<? extends DocumentH
     return documentHighlightHandler.getDocumentHighlightDependency(params);
   }
 
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<List<? extends DocumentHighlight>> getResult() {
     return result;
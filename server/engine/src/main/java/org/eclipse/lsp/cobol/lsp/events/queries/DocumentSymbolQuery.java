@@ -48,6 +48,11 @@ public class DocumentSymbolQuery implements LspQuery<List<Either<SymbolInformati
     return documentSymbolHandler.getDependencies(params);
   }
 
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> getResult() {
     return result;
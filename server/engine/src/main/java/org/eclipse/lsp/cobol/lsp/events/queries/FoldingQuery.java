@@ -50,6 +50,11 @@ public class FoldingQuery implements LspQuery<List<FoldingRange>> {
     return foldingRangeHandler.getCancelConditions(uri);
   }
 
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<List<FoldingRange>> getResult() {
     return result;
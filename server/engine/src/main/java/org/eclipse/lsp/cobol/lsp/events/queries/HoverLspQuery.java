@@ -42,6 +42,11 @@ public class HoverLspQuery implements LspQuery<Hover> {
     return hoverHandler.getDependencies(params);
   }
 
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
   @Override
   public CompletableFuture<Hover> getResult() {
     return result;
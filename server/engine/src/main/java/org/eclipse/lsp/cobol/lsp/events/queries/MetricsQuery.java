@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.events.queries;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.lsp.cobol.lsp.LspQuery;
+import org.eclipse.lsp.cobol.lsp.handlers.extended.MetricsHandler;
+
+/**
+ * Metrics request event triggered by custom cobol LS request supplied by {@link org.eclipse.lsp.cobol.lsp.jrpc.ExtendedApi}
+ */
+public class MetricsQuery implements LspQuery<JsonObject> {
+  final CompletableFuture<JsonObject> result;
+  private final MetricsHandler metricsHandler;
+
+  public MetricsQuery(MetricsHandler metricsHandler) {
+    this.metricsHandler = metricsHandler;
+    result = new CompletableFuture<>();
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  @Override
+  public CompletableFuture<JsonObject> getResult() {
+    return result;
+  }
+
+  @Override
+  public JsonObject query() {
+    return metricsHandler.metrics();
+  }
+}
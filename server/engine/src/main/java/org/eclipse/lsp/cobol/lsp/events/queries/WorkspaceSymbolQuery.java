@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.events.queries;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.lsp.cobol.lsp.LspQuery;
+import org.eclipse.lsp.cobol.lsp.handlers.workspace.WorkspaceSymbolHandler;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/**
+ * `workspace/symbol` language server event
+ */
+public class WorkspaceSymbolQuery
+    implements LspQuery<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> {
+  final CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> result;
+  private final WorkspaceSymbolParams params;
+  private final WorkspaceSymbolHandler workspaceSymbolHandler;
+
+  public WorkspaceSymbolQuery(WorkspaceSymbolParams params, WorkspaceSymbolHandler workspaceSymbolHandler) {
+    this.params = params;
+    this.workspaceSymbolHandler = workspaceSymbolHandler;
+    result = new CompletableFuture<>();
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  @Override
+  public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> getResult() {
+    return result;
+  }
+
+  @Override
+  public Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> query() {
+    return workspaceSymbolHandler.symbol(params);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.handlers.extended;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.inject.Inject;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
+import org.eclipse.lsp.cobol.lsp.DocumentRetentionService;
+import org.eclipse.lsp.cobol.lsp.LspQuery;
+import org.eclipse.lsp.cobol.lsp.analysis.AnalysisExecutor;
+import org.eclipse.lsp.cobol.lsp.events.queries.MetricsQuery;
+
+/**
+ * Our Extension to LSP Metrics Handler. Exposes the analysis latency statistics of the running server.
+ */
+public class MetricsHandler {
+  private final BenchmarkService benchmarkService;
+  private final AnalysisExecutor analysisExecutor;
+  private final DocumentRetentionService documentRetentionService;
+
+  @Inject
+  public MetricsHandler(BenchmarkService benchmarkService, AnalysisExecutor analysisExecutor,
+                        DocumentRetentionService documentRetentionService) {
+    this.benchmarkService = benchmarkService;
+    this.analysisExecutor = analysisExecutor;
+    this.documentRetentionService = documentRetentionService;
+  }
+
+  /**
+   * Handle metrics request from our LSP extension
+   *
+   * @return the pipeline stage statistics, the analysis executor state, the parser DFA caches and the retained
+   *     state of the documents
+   */
+  public JsonObject metrics() {
+    JsonObject result = benchmarkService.getMetrics();
+    result.add("analysisExecutor", new Gson().toJsonTree(analysisExecutor.getMetrics()));
+    result.add("parser", new Gson().toJsonTree(ParserRuntime.getMetrics()));
+    result.add("retention", new Gson().toJsonTree(documentRetentionService.getMetrics()));
+    return result;
+  }
+
+  /**
+   * Create LSP metrics event.
+   *
+   * @return LspQuery.
+   */
+  public LspQuery<JsonObject> createEvent() {
+    return new MetricsQuery(this);
+  }
+}
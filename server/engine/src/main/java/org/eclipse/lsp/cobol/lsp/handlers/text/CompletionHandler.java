@@ -15,6 +15,8 @@
 package org.eclipse.lsp.cobol.lsp.handlers.text;
 
 import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.inject.Inject;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -22,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.lsp.LspEventDependency;
 import org.eclipse.lsp.cobol.lsp.LspQuery;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
+import org.eclipse.lsp.cobol.lsp.events.queries.CompletionItemResolveQuery;
 import org.eclipse.lsp.cobol.lsp.events.queries.CompletionQuery;
 import org.eclipse.lsp.cobol.service.DocumentModelService;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
@@ -71,6 +74,31 @@ public class CompletionHandler {
     return new CompletionQuery(params, this);
   }
 
+  /**
+   * Handle completionItem/resolve LSP request. The item data keeps the uri of the document the item
+   * was collected for.
+   *
+   * @param item the completion item to add the documentation to.
+   * @return the resolved completion item.
+   */
+  public CompletionItem resolveCompletionItem(CompletionItem item) {
+    String uri = null;
+    if (item.getData() instanceof JsonObject) {
+      JsonElement element = ((JsonObject) item.getData()).get("uri");
+      uri = element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+    return completions.resolve(item, uri == null ? null : documentModelService.get(uri));
+  }
+
+  /**
+   * Handle completionItem/resolve LSP request.
+   * @param item the completion item.
+   * @return LspQuery.
+   */
+  public LspQuery<CompletionItem> createEvent(CompletionItem item) {
+    return new CompletionItemResolveQuery(item, this);
+  }
+
   /**
    * Document highlight dependency
    * @param params
@@ -19,6 +19,7 @@ import com.google.inject.Inject;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.core.engine.symbols.WorkspaceSymbolIndex;
 import org.eclipse.lsp.cobol.lsp.LspEventDependency;
 import org.eclipse.lsp.cobol.lsp.LspQuery;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
@@ -41,17 +42,21 @@ public class DefinitionHandler {
   private final DocumentModelService documentModelService;
   private final Occurrences occurrences;
   private final UriDecodeService uriDecodeService;
+  private final WorkspaceSymbolIndex workspaceSymbolIndex;
 
   @Inject
-  public DefinitionHandler(AsyncAnalysisService asyncAnalysisService, DocumentModelService documentModelService, Occurrences occurrences, UriDecodeService uriDecodeService) {
+  public DefinitionHandler(AsyncAnalysisService asyncAnalysisService, DocumentModelService documentModelService, Occurrences occurrences, UriDecodeService uriDecodeService,
+                           WorkspaceSymbolIndex workspaceSymbolIndex) {
     this.asyncAnalysisService = asyncAnalysisService;
     this.documentModelService = documentModelService;
     this.occurrences = occurrences;
     this.uriDecodeService = uriDecodeService;
+    this.workspaceSymbolIndex = workspaceSymbolIndex;
   }
 
   /**
-   * Handle definition LSP }request.
+   * Handle definition LSP }request. A called program that is not resolved by the subroutine settings is
+   * searched among the programs of the workspace.
    *
    * @param params DefinitionParams.
    * @return Either list of locations or list of location links.
@@ -59,8 +64,14 @@ public class DefinitionHandler {
    * @throws InterruptedException forward exception.
    */
   public Either<List<? extends Location>, List<? extends LocationLink>> definition(DefinitionParams params) throws ExecutionException, InterruptedException {
-    CobolDocumentModel doc = documentModelService.get(uriDecodeService.decode(params.getTextDocument().getUri()));
+    String uri = uriDecodeService.decode(params.getTextDocument().getUri());
+    CobolDocumentModel doc = documentModelService.get(uri);
     List<Location> definitions = occurrences.findDefinitions(doc, params);
+    if (definitions.isEmpty()) {
+      definitions = HandlerUtility.findSubroutineName(doc, uri, params.getPosition())
+              .map(node -> workspaceSymbolIndex.findPrograms(node.getName()))
+              .orElse(definitions);
+    }
     return Either.forLeft(HandlerUtility.mapToOriginalLocation(definitions, uriDecodeService));
   }
 
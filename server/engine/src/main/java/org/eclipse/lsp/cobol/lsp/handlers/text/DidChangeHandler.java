@@ -20,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.lsp.SourceUnitGraph;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.lsp.handlers.HandlerUtility;
+import org.eclipse.lsp.cobol.service.DocumentModelService;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 
@@ -31,13 +32,16 @@ public class DidChangeHandler {
   private final AsyncAnalysisService asyncAnalysisService;
   private final SourceUnitGraph sourceUnitGraph;
   private final UriDecodeService uriDecodeService;
+  private final DocumentModelService documentModelService;
 
   @Inject
   public DidChangeHandler(
-          AsyncAnalysisService asyncAnalysisService, SourceUnitGraph sourceUnitGraph, UriDecodeService uriDecodeService) {
+          AsyncAnalysisService asyncAnalysisService, SourceUnitGraph sourceUnitGraph, UriDecodeService uriDecodeService,
+          DocumentModelService documentModelService) {
     this.asyncAnalysisService = asyncAnalysisService;
     this.sourceUnitGraph = sourceUnitGraph;
     this.uriDecodeService = uriDecodeService;
+    this.documentModelService = documentModelService;
   }
 
   /**
@@ -52,7 +56,10 @@ public class DidChangeHandler {
     if (!HandlerUtility.isUriSupported(uri)) {
       return;
     }
-    String text = params.getContentChanges().get(0).getText();
+    String text = documentModelService.applyChanges(uri, params.getContentChanges());
+    if (text == null) {
+      return;
+    }
     if (sourceUnitGraph.isCopybook(uri)) {
       sourceUnitGraph.updateContent(uri, text);
       List<String> allAssociatedFilesForACopybook = sourceUnitGraph.getAllAssociatedFilesForACopybook(uri);
@@ -21,6 +21,7 @@ import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.copybook.CopybookService;
 import org.eclipse.lsp.cobol.lsp.DisposableLSPStateService;
+import org.eclipse.lsp.cobol.lsp.DocumentRetentionService;
 import org.eclipse.lsp.cobol.lsp.SourceUnitGraph;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.service.DocumentModelService;
@@ -41,10 +42,12 @@ public class DidCloseHandler {
   private final CopybookService copybookService;
   private final UriDecodeService uriDecodeService;
   private final SourceUnitGraph sourceUnitGraph;
+  private final DocumentRetentionService documentRetentionService;
 
   @Inject
   public DidCloseHandler(DisposableLSPStateService disposableLSPStateService,
-                         AsyncAnalysisService asyncAnalysisService, DocumentModelService documentModelService, WatcherService watcherService, CopybookService copybookService, SourceUnitGraph sourceUnitGraph, UriDecodeService uriDecodeService) {
+                         AsyncAnalysisService asyncAnalysisService, DocumentModelService documentModelService, WatcherService watcherService, CopybookService copybookService, SourceUnitGraph sourceUnitGraph, UriDecodeService uriDecodeService,
+                         DocumentRetentionService documentRetentionService) {
     this.disposableLSPStateService = disposableLSPStateService;
     this.asyncAnalysisService = asyncAnalysisService;
     this.documentModelService = documentModelService;
@@ -52,6 +55,7 @@ public class DidCloseHandler {
     this.copybookService = copybookService;
     this.uriDecodeService = uriDecodeService;
     this.sourceUnitGraph = sourceUnitGraph;
+    this.documentRetentionService = documentRetentionService;
   }
 
   /**
@@ -80,6 +84,7 @@ public class DidCloseHandler {
               copybookModel -> copybookServiceImpl.invalidateCache(copybookModel.getCopybookId()));
     }
     asyncAnalysisService.cancelAnalysis(uri);
+    documentRetentionService.documentClosed(uri);
     uriDecodeService.invalidate(uri);
   }
 }
@@ -16,6 +16,7 @@ package org.eclipse.lsp.cobol.lsp.handlers.text;
 
 import com.google.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.lsp.DocumentRetentionService;
 import org.eclipse.lsp.cobol.lsp.LspNotification;
 import org.eclipse.lsp.cobol.lsp.SourceUnitGraph;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
@@ -34,12 +35,15 @@ public class DidOpenHandler {
   private final AsyncAnalysisService asyncAnalysisService;
   private final WatcherService watcherService;
   private final UriDecodeService uriDecodeService;
+  private final DocumentRetentionService documentRetentionService;
 
   @Inject
-  public DidOpenHandler(AsyncAnalysisService asyncAnalysisService, WatcherService watcherService, UriDecodeService uriDecodeService) {
+  public DidOpenHandler(AsyncAnalysisService asyncAnalysisService, WatcherService watcherService, UriDecodeService uriDecodeService,
+                        DocumentRetentionService documentRetentionService) {
     this.asyncAnalysisService = asyncAnalysisService;
     this.watcherService = watcherService;
     this.uriDecodeService = uriDecodeService;
+    this.documentRetentionService = documentRetentionService;
   }
 
   /**
@@ -54,6 +58,7 @@ public class DidOpenHandler {
       return;
     }
     watcherService.addRuntimeWatchers(uri);
+    documentRetentionService.documentOpened(uri);
     asyncAnalysisService.openDocument(uri, params.getTextDocument().getText(), params.getTextDocument().getLanguageId());
     asyncAnalysisService.scheduleAnalysis(uri, params.getTextDocument().getText(), params.getTextDocument().getVersion(), true, eventSource);
   }
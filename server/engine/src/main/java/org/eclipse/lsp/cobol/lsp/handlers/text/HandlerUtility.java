@@ -15,10 +15,14 @@
 package org.eclipse.lsp.cobol.lsp.handlers.text;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
+import org.eclipse.lsp.cobol.common.model.tree.SubroutineNameNode;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
 
 /**
  * Class with utility methods for {@link org.eclipse.lsp.cobol.lsp.LspEvent} handlers
@@ -37,4 +41,19 @@ public class HandlerUtility {
             return loc;
         }).collect(Collectors.toList());
     }
+
+    /**
+     * Finds the name of a called program at the given position of the last analysis result.
+     * @param document the document model, may be null
+     * @param uri the decoded document uri
+     * @param position the position in the document
+     * @return the name of a called program at the position
+     */
+    Optional<SubroutineNameNode> findSubroutineName(CobolDocumentModel document, String uri, Position position) {
+        return Optional.ofNullable(document)
+                .map(CobolDocumentModel::getLastAnalysisResult)
+                .flatMap(result -> result.findNodeByPosition(uri, position))
+                .filter(SubroutineNameNode.class::isInstance)
+                .map(SubroutineNameNode.class::cast);
+    }
 }
@@ -16,12 +16,16 @@ package org.eclipse.lsp.cobol.lsp.handlers.text;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import org.eclipse.lsp.cobol.core.engine.symbols.WorkspaceSymbolIndex;
 import org.eclipse.lsp.cobol.lsp.LspEventDependency;
 import org.eclipse.lsp.cobol.lsp.LspQuery;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.lsp.events.queries.ReferenceQuery;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp.cobol.service.DocumentModelService;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp.cobol.service.delegates.references.Occurrences;
@@ -36,17 +40,21 @@ public class ReferencesHandler {
   private final Occurrences occurrences;
   private final DocumentModelService documentModelService;
   private final UriDecodeService uriDecodeService;
+  private final WorkspaceSymbolIndex workspaceSymbolIndex;
 
   @Inject
-  public ReferencesHandler(AsyncAnalysisService asyncAnalysisService, Occurrences occurrences, DocumentModelService documentModelService, UriDecodeService uriDecodeService) {
+  public ReferencesHandler(AsyncAnalysisService asyncAnalysisService, Occurrences occurrences, DocumentModelService documentModelService, UriDecodeService uriDecodeService,
+                           WorkspaceSymbolIndex workspaceSymbolIndex) {
     this.asyncAnalysisService = asyncAnalysisService;
     this.occurrences = occurrences;
     this.documentModelService = documentModelService;
     this.uriDecodeService = uriDecodeService;
+    this.workspaceSymbolIndex = workspaceSymbolIndex;
   }
 
   /**
-   * LSP References Handler logic.
+   * LSP References Handler logic. The references of a called program include its calls from the other
+   * programs of the workspace.
    *
    * @param params LSP ReferenceParams object.
    * @return List of references.
@@ -55,7 +63,16 @@ public class ReferencesHandler {
    */
   public List<? extends Location> references(ReferenceParams params) throws ExecutionException, InterruptedException {
     String uri = uriDecodeService.decode(params.getTextDocument().getUri());
-    List<Location> references = occurrences.findReferences(documentModelService.get(uri), params, params.getContext());
+    CobolDocumentModel doc = documentModelService.get(uri);
+    List<Location> references = occurrences.findReferences(doc, params, params.getContext());
+    List<Location> calls = HandlerUtility.findSubroutineName(doc, uri, params.getPosition())
+            .map(node -> workspaceSymbolIndex.findCalls(node.getName()))
+            .orElse(ImmutableList.of());
+    if (!calls.isEmpty()) {
+      Set<Location> allReferences = new LinkedHashSet<>(references);
+      allReferences.addAll(calls);
+      references = ImmutableList.copyOf(allReferences);
+    }
     return HandlerUtility.mapToOriginalLocation(references, uriDecodeService);
   }
 
@@ -19,6 +19,7 @@ import static org.eclipse.lsp.cobol.service.settings.SettingsParametersEnum.*;
 
 import com.google.inject.Inject;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.message.LocaleStore;
 import org.eclipse.lsp.cobol.common.message.MessageService;
@@ -28,6 +29,7 @@ import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.service.WatcherService;
 import org.eclipse.lsp.cobol.service.copybooks.CopybookNameService;
 import org.eclipse.lsp.cobol.service.delegates.completions.Keywords;
+import org.eclipse.lsp.cobol.service.settings.ConfigurationService;
 import org.eclipse.lsp.cobol.service.settings.SettingsService;
 import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
@@ -46,6 +48,7 @@ public class DidChangeConfigurationHandler {
   private final MessageService messageService;
   private final AsyncAnalysisService asyncAnalysisService;
   private final CodeLayoutStore codeLayoutStore;
+  private final ConfigurationService configurationService;
 
   @Inject
   public DidChangeConfigurationHandler(DisposableLSPStateService disposableLSPStateService,
@@ -56,7 +59,8 @@ public class DidChangeConfigurationHandler {
                                        Keywords keywords,
                                        MessageService messageService,
                                        AsyncAnalysisService asyncAnalysisService,
-                                       CodeLayoutStore codeLayoutStore) {
+                                       CodeLayoutStore codeLayoutStore,
+                                       ConfigurationService configurationService) {
     this.disposableLSPStateService = disposableLSPStateService;
     this.settingsService = settingsService;
     this.copybookNameService = copybookNameService;
@@ -66,6 +70,7 @@ public class DidChangeConfigurationHandler {
     this.messageService = messageService;
     this.asyncAnalysisService = asyncAnalysisService;
     this.codeLayoutStore = codeLayoutStore;
+    this.configurationService = configurationService;
   }
 
   /**
@@ -77,9 +82,11 @@ public class DidChangeConfigurationHandler {
       return;
     }
 
+    CompletableFuture<Void> settingsRefreshed = configurationService.invalidateCache();
     messageService.reloadMessages();
     copybookNameService
         .copybookLocalFolders(null)
+        .thenCombine(settingsRefreshed, (localFolders, refreshed) -> localFolders)
         .thenAccept(
             localFolders -> {
               try {
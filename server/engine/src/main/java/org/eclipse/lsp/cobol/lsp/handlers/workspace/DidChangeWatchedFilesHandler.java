@@ -49,7 +49,7 @@ public class DidChangeWatchedFilesHandler {
   public void didChangeWatchedFiles(@NonNull DidChangeWatchedFilesParams params) throws InterruptedException {
     if (disposableLSPStateService.isServerShutdown()) return;
     if (isRelevant(params.getChanges())) {
-      copybookNameService.collectLocalCopybookNames();
+      copybookNameService.updateLocalCopybookNames(params.getChanges());
       asyncAnalysisService.reanalyseOpenedPrograms();
     }
   }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.handlers.workspace;
+
+import static java.util.stream.Collectors.toList;
+
+import com.google.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.lsp.cobol.core.engine.symbols.WorkspaceSymbolIndex;
+import org.eclipse.lsp.cobol.lsp.LspQuery;
+import org.eclipse.lsp.cobol.lsp.SourceUnitGraph;
+import org.eclipse.lsp.cobol.lsp.analysis.AnalysisState;
+import org.eclipse.lsp.cobol.lsp.events.queries.WorkspaceSymbolQuery;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel;
+import org.eclipse.lsp.cobol.service.UriDecodeService;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/**
+ * LSP WorkspaceSymbol Handler. Searches the symbols of the analyzed programs in the {@link
+ * WorkspaceSymbolIndex} and keeps the index up to date with the analysis results.
+ */
+public class WorkspaceSymbolHandler {
+  private static final int MAX_SYMBOLS = 1000;
+
+  private final WorkspaceSymbolIndex workspaceSymbolIndex;
+  private final UriDecodeService uriDecodeService;
+
+  @Inject
+  public WorkspaceSymbolHandler(WorkspaceSymbolIndex workspaceSymbolIndex, UriDecodeService uriDecodeService) {
+    this.workspaceSymbolIndex = workspaceSymbolIndex;
+    this.uriDecodeService = uriDecodeService;
+  }
+
+  /**
+   * Handle LSP workspace/symbol request.
+   *
+   * @param params WorkspaceSymbolParams.
+   * @return The list of the workspace symbols matching the query.
+   */
+  public Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> symbol(WorkspaceSymbolParams params) {
+    String query = Optional.ofNullable(params.getQuery()).orElse("");
+    List<WorkspaceSymbol> symbols = workspaceSymbolIndex.search(query, MAX_SYMBOLS).stream()
+        .map(this::toWorkspaceSymbol)
+        .collect(toList());
+    return Either.forRight(symbols);
+  }
+
+  /**
+   * Update the index with the result of a completed analysis
+   *
+   * @param state the analysis state
+   * @param model the analyzed document
+   * @param eventSource the source of the analysis
+   */
+  public void onAnalysisState(AnalysisState state, CobolDocumentModel model, SourceUnitGraph.EventSource eventSource) {
+    if (state == AnalysisState.COMPLETED && model != null && model.getAnalysisResult() != null
+        && model.getAnalysisResult().getRootNode() != null) {
+      workspaceSymbolIndex.update(model.getUri(), model.getText(), model.getAnalysisResult().getRootNode());
+    }
+  }
+
+  /**
+   * Remove the symbols of a deleted document
+   *
+   * @param uri the document URI
+   */
+  public void onDocumentDeleted(String uri) {
+    workspaceSymbolIndex.remove(uri);
+  }
+
+  /**
+   * Create LSP workspace/symbol event.
+   *
+   * @param params WorkspaceSymbolParams.
+   * @return LspQuery.
+   */
+  public LspQuery<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> createEvent(
+      WorkspaceSymbolParams params) {
+    return new WorkspaceSymbolQuery(params, this);
+  }
+
+  private WorkspaceSymbol toWorkspaceSymbol(WorkspaceSymbolIndex.IndexedSymbol symbol) {
+    Location location = new Location(
+        uriDecodeService.getOriginalUri(symbol.getLocation().getUri()), symbol.getLocation().getRange());
+    WorkspaceSymbol workspaceSymbol = new WorkspaceSymbol();
+    workspaceSymbol.setName(symbol.getName());
+    workspaceSymbol.setKind(symbol.getCategory().getSymbolKind());
+    workspaceSymbol.setLocation(Either.forLeft(location));
+    workspaceSymbol.setContainerName(symbol.getContainer());
+    return workspaceSymbol;
+  }
+}
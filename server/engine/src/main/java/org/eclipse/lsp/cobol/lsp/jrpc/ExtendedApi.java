@@ -36,4 +36,11 @@ public interface ExtendedApi {
   */
   @JsonRequest
   CompletableFuture<ExtendedApiResult> analysis(@NonNull JsonObject json);
+
+  /**
+   * Retrieves the analysis latency statistics of the running server
+   * @return Future object with the metrics in the json format
+   */
+  @JsonRequest
+  CompletableFuture<JsonObject> metrics();
 }
@@ -21,6 +21,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ import org.eclipse.lsp.cobol.common.LanguageEngineFacade;
 import org.eclipse.lsp.cobol.common.copybook.CopybookProcessingMode;
 import org.eclipse.lsp.cobol.common.copybook.CopybookService;
 import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel.CopybookClassification;
 import org.eclipse.lsp.cobol.service.copybooks.CopybookIdentificationService;
 import org.eclipse.lsp.cobol.service.settings.ConfigurationService;
 
@@ -61,7 +63,8 @@ public class AnalysisService {
   }
 
   /**
-   * Check if given document is copybook or not
+   * Check if given document is copybook or not. The result is kept in the document model until the
+   * text of the document changes.
    *
    * @param uri - document uri
    * @param text - document text
@@ -73,7 +76,18 @@ public class AnalysisService {
       LOG.info("Waiting for extension config..");
     }
     waitConfig.await();
-    return copybookIdentificationService.isCopybook(uri, text, copybookExtensions);
+    String content = Optional.ofNullable(text).orElse("");
+    List<String> extensions = copybookExtensions;
+    CobolDocumentModel document = documentService.get(uri);
+    CopybookClassification classification = document == null ? null : document.getCopybookClassification();
+    if (classification != null && classification.matches(content, extensions)) {
+      return classification.isCopybook();
+    }
+    boolean copybook = copybookIdentificationService.isCopybook(uri, text, extensions);
+    if (document != null) {
+      document.setCopybookClassification(new CopybookClassification(content, extensions, copybook));
+    }
+    return copybook;
   }
 
   /**
@@ -114,13 +128,13 @@ public class AnalysisService {
       CopybookProcessingMode copybookProcessingMode = CopybookProcessingMode.getCopybookProcessingMode(uri, CopybookProcessingMode.ENABLED);
       AnalysisConfig config = configurationService.getConfig(uri, copybookProcessingMode);
       AnalysisResult result = engine.analyze(uri, text, config, documentService.get(uri).getLanguageId());
-      documentService.processAnalysisResult(uri, result, text);
+      documentService.processAnalysisResult(uri, result);
       ThreadInterruptionUtil.checkThreadInterrupted();
       copybookService.sendCopybookDownloadRequest(
               uri, DocumentServiceHelper.extractCopybookUris(result), copybookProcessingMode);
       LOG.debug("[doAnalysis] Document " + uri + " analyzed: " + result.getDiagnostics());
     } catch (Exception e) {
-      documentService.processAnalysisResult(uri, AnalysisResult.builder().build(), text);
+      documentService.processAnalysisResult(uri, AnalysisResult.builder().build());
       LOG.debug(format("An exception thrown while applying %s for %s:", "analysis", uri));
       LOG.error(format("An exception thrown while applying %s for %s:", "analysis", uri), e);
       throw e;
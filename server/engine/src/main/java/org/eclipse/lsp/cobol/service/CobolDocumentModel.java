@@ -14,47 +14,48 @@
  */
 package org.eclipse.lsp.cobol.service;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Objects;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.AnalysisResult;
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 /**
  * This class stores a COBOL program text to be processed. Provides a list of lines and text tokens
  * by position.
  */
 @Getter
-@RequiredArgsConstructor
 @Slf4j
 public class CobolDocumentModel {
   private static final String DELIMITER = "[ .\\[\\]()<>,*\"']+";
-  private final List<Line> lines = new CopyOnWriteArrayList<>();
-  private String text;
+  @Getter(AccessLevel.NONE)
+  private volatile TextBuffer buffer;
   private final String uri;
   @Setter private volatile boolean opened = true;
   @Setter private String languageId;
   private volatile AnalysisResult analysisResult;
   private volatile AnalysisResult lastAnalysisResult;
   @Setter private volatile List<DocumentSymbol> outlineResult;
+  @Setter private volatile CopybookClassification copybookClassification;
 
   public CobolDocumentModel(String uri, String text, AnalysisResult analysisResult) {
+    this(uri, TextBuffer.of(text), analysisResult);
+  }
+
+  public CobolDocumentModel(String uri, TextBuffer buffer, AnalysisResult analysisResult) {
     this.uri = uri;
-    this.text = text;
+    this.buffer = buffer;
     this.analysisResult = analysisResult;
     this.lastAnalysisResult = analysisResult;
-    parse(text);
   }
 
   public CobolDocumentModel(String uri, String text) {
-    this.text = text;
     this.uri = uri;
-    parse(text);
+    this.buffer = TextBuffer.of(text);
   }
 
   public boolean isDocumentSynced() {
@@ -62,7 +63,43 @@ public class CobolDocumentModel {
   }
 
   Line getLine(int number) {
-    return lines.stream().filter(line -> line.getNumber() == number).findFirst().orElse(null);
+    TextBuffer snapshot = buffer;
+    String line = snapshot.getLine(number);
+    return line == null || isTrailingEmptyLine(snapshot, number) ? null : new Line(number, line);
+  }
+
+  /**
+   * Returns the current document text
+   *
+   * @return the document text
+   */
+  public String getText() {
+    return buffer.toString();
+  }
+
+  /**
+   * Returns an immutable snapshot of the current document text
+   *
+   * @return the text buffer
+   */
+  public TextBuffer getSnapshot() {
+    return buffer;
+  }
+
+  /**
+   * Returns the lines of the document, a line break at the end of the text doesn't start a new line
+   *
+   * @return the list of lines
+   */
+  public List<Line> getLines() {
+    TextBuffer snapshot = buffer;
+    List<Line> result = new ArrayList<>(snapshot.getLineCount());
+    for (int i = 0; i < snapshot.getLineCount(); i++) {
+      if (!isTrailingEmptyLine(snapshot, i)) {
+        result.add(new Line(i, snapshot.getLine(i)));
+      }
+    }
+    return result;
   }
 
   /**
@@ -98,11 +135,25 @@ public class CobolDocumentModel {
    * @param text - the new document text
    */
   public void update(String text) {
-    this.text = text;
-    parse(text);
+    buffer = TextBuffer.of(text);
     analysisResult = null;
   }
 
+  /**
+   * Apply text changes sent by the client. A change without a range replaces the whole text.
+   *
+   * @param changes - the list of changes in the order they were made
+   * @return the updated text buffer
+   */
+  public synchronized TextBuffer applyChanges(List<TextDocumentContentChangeEvent> changes) {
+    TextBuffer result = buffer;
+    for (TextDocumentContentChangeEvent change : changes) {
+      result = result.apply(change.getRange(), change.getText());
+    }
+    buffer = result;
+    return result;
+  }
+
   String getFullTokenAtPosition(Position position) {
     Line route = getLine(position.getLine());
     if (route == null) {
@@ -111,19 +162,8 @@ public class CobolDocumentModel {
     return retrieveToken(position, route);
   }
 
-  private void parse(String text) {
-    lines.clear();
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String lineText;
-      int lineNumber = 0;
-
-      while ((lineText = reader.readLine()) != null) {
-        lines.add(new Line(lineNumber, lineText));
-        lineNumber++;
-      }
-    } catch (IOException e) {
-      LOG.error(e.getMessage());
-    }
+  private static boolean isTrailingEmptyLine(TextBuffer snapshot, int number) {
+    return number == snapshot.getLineCount() - 1 && snapshot.getLine(number).isEmpty();
   }
 
   private String retrieveToken(Position position, Line route) {
@@ -164,6 +204,37 @@ public class CobolDocumentModel {
         && DELIMITER.contains(String.valueOf(route.getText().charAt(position.getCharacter() - 1)));
   }
 
+  /** The result of the copybook identification for a revision of the document text */
+  @Value
+  public static class CopybookClassification {
+    @Getter(AccessLevel.NONE)
+    String text;
+    int fingerprint;
+    List<String> copybookExtensions;
+    boolean copybook;
+
+    public CopybookClassification(String text, List<String> copybookExtensions, boolean copybook) {
+      this.text = text;
+      this.fingerprint = text.hashCode();
+      this.copybookExtensions = copybookExtensions;
+      this.copybook = copybook;
+    }
+
+    /**
+     * Check if the classification was made for the given text and extension config. The hash of a
+     * string is cached by the string itself, so the full comparison runs only if the fingerprints
+     * are equal and the text is a different instance.
+     *
+     * @param text the document text
+     * @param copybookExtensions the copybook extension config
+     * @return true if the classification is valid for the given text
+     */
+    public boolean matches(String text, List<String> copybookExtensions) {
+      return (this.text == text || (fingerprint == text.hashCode() && this.text.equals(text)))
+          && Objects.equals(this.copybookExtensions, copybookExtensions);
+    }
+  }
+
   /** A value object to store program lines */
   @Value
   public static class Line {
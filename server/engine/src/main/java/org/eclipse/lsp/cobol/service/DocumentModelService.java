@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.AnalysisResult;
 import org.eclipse.lsp.cobol.service.utils.BuildOutlineTreeFromSyntaxTree;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 /**
  * Provides document model management functionality
@@ -43,7 +44,13 @@ public class DocumentModelService {
    */
   @Synchronized
   public void openDocument(String uri, String text, String languageId) {
-    CobolDocumentModel model = docs.computeIfAbsent(uri, u -> new CobolDocumentModel(uri, text));
+    CobolDocumentModel model = docs.get(uri);
+    if (model == null) {
+      model = new CobolDocumentModel(uri, text);
+      docs.put(uri, model);
+    } else if (!model.getText().equals(text)) {
+      model.applyChanges(ImmutableList.of(new TextDocumentContentChangeEvent(text)));
+    }
     Optional.ofNullable(languageId).ifPresent(model::setLanguageId);
     model.setOpened(true);
   }
@@ -60,14 +67,33 @@ public class DocumentModelService {
   }
 
   /**
-   * Process analysis result and store diagnostics
+   * Apply client text changes to the document
+   *
+   * @param uri     - document uri
+   * @param changes - the list of text changes
+   * @return the updated document text or null if the document is unknown and the changes are not full text
+   */
+  @Synchronized
+  public String applyChanges(String uri, List<TextDocumentContentChangeEvent> changes) {
+    CobolDocumentModel document = docs.get(uri);
+    if (document != null) {
+      return document.applyChanges(changes).toString();
+    }
+    LOG.warn("Can't apply changes to the unknown document " + uri);
+    return changes.isEmpty() || changes.get(changes.size() - 1).getRange() != null
+        ? null
+        : changes.get(changes.size() - 1).getText();
+  }
+
+  /**
+   * Process analysis result and store diagnostics. The document keeps its latest text, because it could be
+   * changed while the analysis was running.
    *
    * @param uri            - document uri
    * @param analysisResult - analysis result
-   * @param text           - updated text
    */
   @Synchronized
-  public void processAnalysisResult(String uri, AnalysisResult analysisResult, String text) {
+  public void processAnalysisResult(String uri, AnalysisResult analysisResult) {
     CobolDocumentModel document = docs.get(uri);
     if (document == null) {
       LOG.warn("Can't process analysis result of " + uri);
@@ -75,8 +101,9 @@ public class DocumentModelService {
     }
     removeAllRelatedDiagnostics(document);
     updateDiagnosticRepo(uri, analysisResult.getDiagnostics());
-    CobolDocumentModel updatedModel = new CobolDocumentModel(uri, text, analysisResult);
+    CobolDocumentModel updatedModel = new CobolDocumentModel(uri, document.getSnapshot(), analysisResult);
     updatedModel.setLanguageId(document.getLanguageId());
+    updatedModel.setCopybookClassification(document.getCopybookClassification());
     updatedModel.setOutlineResult(BuildOutlineTreeFromSyntaxTree.convert(analysisResult.getRootNode(), uri));
     docs.put(uri, updatedModel);
   }
@@ -145,6 +172,33 @@ public class DocumentModelService {
     diagnosticRepo.computeIfPresent(uri, (k, v) -> Collections.emptyList());
   }
 
+  /**
+   * Forget the closed document with its text and analysis results. An opened document is kept.
+   *
+   * @param uri - document uri
+   * @return true if the document was removed
+   */
+  @Synchronized
+  public boolean removeDocument(String uri) {
+    CobolDocumentModel document = docs.get(uri);
+    if (document == null || document.isOpened()) {
+      return false;
+    }
+    docs.remove(uri);
+    diagnosticRepo.remove(uri);
+    return true;
+  }
+
+  /**
+   * Returns all known documents, the opened and the closed ones
+   *
+   * @return a list of documents
+   */
+  @Synchronized
+  public List<CobolDocumentModel> getAll() {
+    return new ArrayList<>(docs.values());
+  }
+
   /**
    * Returns all opened documents
    *
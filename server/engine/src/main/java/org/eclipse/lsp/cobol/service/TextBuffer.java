@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service;
+
+import org.eclipse.lsp4j.Range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable text of a document stored as chunks of lines. Applying a range edit creates a new buffer
+ * that copies only the chunks touched by the edit and shares the rest with the previous one, so every
+ * buffer can be used as a cheap snapshot of the document. Lines keep their line terminators, so the
+ * original text can be restored exactly.
+ */
+public final class TextBuffer {
+  private static final int CHUNK_SIZE = 512;
+  private static final TextBuffer EMPTY = of("");
+
+  private final String[][] chunks;
+  private final int[] chunkStarts;
+  private final int lineCount;
+  private volatile String text;
+
+  private TextBuffer(String[][] chunks) {
+    this.chunks = chunks;
+    chunkStarts = new int[chunks.length];
+    int count = 0;
+    for (int i = 0; i < chunks.length; i++) {
+      chunkStarts[i] = count;
+      count += chunks[i].length;
+    }
+    lineCount = count;
+  }
+
+  /**
+   * Create a buffer for the given text
+   *
+   * @param text - the document text
+   * @return the text buffer
+   */
+  public static TextBuffer of(String text) {
+    if (text == null) {
+      return EMPTY;
+    }
+    TextBuffer buffer = new TextBuffer(toChunks(split(text)));
+    buffer.text = text;
+    return buffer;
+  }
+
+  /**
+   * Returns the number of lines. The text after the last line terminator is a line even if it is empty.
+   *
+   * @return the number of lines
+   */
+  public int getLineCount() {
+    return lineCount;
+  }
+
+  /**
+   * Returns the length of the text without building it
+   *
+   * @return the number of characters
+   */
+  public int length() {
+    String result = text;
+    if (result != null) {
+      return result.length();
+    }
+    int length = 0;
+    for (String[] chunk : chunks) {
+      for (String line : chunk) {
+        length += line.length();
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Returns the line text without the line terminator
+   *
+   * @param number - the line number
+   * @return the line text or null if there is no such line
+   */
+  public String getLine(int number) {
+    if (number < 0 || number >= lineCount) {
+      return null;
+    }
+    String line = getRawLine(number);
+    return line.substring(0, contentLength(line));
+  }
+
+  /**
+   * Apply an edit to the text. Positions out of the text bounds are moved to the closest valid position.
+   *
+   * @param range - the range to replace, if null the whole text is replaced
+   * @param newText - the new text for the range
+   * @return a new buffer with the edit applied
+   */
+  public TextBuffer apply(Range range, String newText) {
+    if (range == null) {
+      return of(newText);
+    }
+    int startLine = clamp(range.getStart().getLine(), lineCount - 1);
+    int endLine = Math.max(startLine, clamp(range.getEnd().getLine(), lineCount - 1));
+    String first = getRawLine(startLine);
+    String last = getRawLine(endLine);
+    int startCharacter = clamp(range.getStart().getCharacter(), contentLength(first));
+    int endCharacter = clamp(range.getEnd().getCharacter(), contentLength(last));
+    if (startLine == endLine) {
+      endCharacter = Math.max(startCharacter, endCharacter);
+    }
+
+    List<String> newLines = split(first.substring(0, startCharacter) + newText + last.substring(endCharacter));
+    if (endLine < lineCount - 1) {
+      // the last line of the edited range keeps its terminator, so the split produces an extra empty line
+      newLines.remove(newLines.size() - 1);
+    }
+    return replaceLines(startLine, endLine + 1, newLines);
+  }
+
+  @Override
+  public String toString() {
+    String result = text;
+    if (result == null) {
+      StringBuilder builder = new StringBuilder();
+      for (String[] chunk : chunks) {
+        for (String line : chunk) {
+          builder.append(line);
+        }
+      }
+      result = builder.toString();
+      text = result;
+    }
+    return result;
+  }
+
+  private TextBuffer replaceLines(int from, int to, List<String> newLines) {
+    int firstChunk = findChunk(from);
+    int lastChunk = findChunk(to - 1);
+    // merge small results with the next chunk to keep the number of chunks low
+    int size = from - chunkStarts[firstChunk] + newLines.size() + chunkStarts[lastChunk] + chunks[lastChunk].length - to;
+    if (lastChunk + 1 < chunks.length && size < CHUNK_SIZE / 4) {
+      lastChunk++;
+    }
+    List<String> lines = new ArrayList<>(Arrays.asList(chunks[firstChunk]).subList(0, from - chunkStarts[firstChunk]));
+    lines.addAll(newLines);
+    for (int i = firstChunk; i <= lastChunk; i++) {
+      int start = Math.max(to - chunkStarts[i], 0);
+      if (start < chunks[i].length) {
+        lines.addAll(Arrays.asList(chunks[i]).subList(start, chunks[i].length));
+      }
+    }
+    String[][] replacement = toChunks(lines);
+    String[][] result = new String[chunks.length - (lastChunk - firstChunk + 1) + replacement.length][];
+    System.arraycopy(chunks, 0, result, 0, firstChunk);
+    System.arraycopy(replacement, 0, result, firstChunk, replacement.length);
+    System.arraycopy(chunks, lastChunk + 1, result, firstChunk + replacement.length, chunks.length - lastChunk - 1);
+    return new TextBuffer(result);
+  }
+
+  private String getRawLine(int number) {
+    int chunk = findChunk(number);
+    return chunks[chunk][number - chunkStarts[chunk]];
+  }
+
+  private int findChunk(int line) {
+    int index = Arrays.binarySearch(chunkStarts, line);
+    return index < 0 ? -index - 2 : index;
+  }
+
+  private static String[][] toChunks(List<String> lines) {
+    int count = Math.max(1, (lines.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    String[][] result = new String[count][];
+    for (int i = 0; i < count; i++) {
+      result[i] = lines.subList(i * CHUNK_SIZE, Math.min(lines.size(), (i + 1) * CHUNK_SIZE)).toArray(new String[0]);
+    }
+    return result;
+  }
+
+  private static List<String> split(String text) {
+    List<String> lines = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char character = text.charAt(i);
+      if (character == '\n' || character == '\r') {
+        if (character == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+          i++;
+        }
+        lines.add(text.substring(start, i + 1));
+        start = i + 1;
+      }
+    }
+    lines.add(text.substring(start));
+    return lines;
+  }
+
+  private static int contentLength(String line) {
+    int length = line.length();
+    if (length > 0 && line.charAt(length - 1) == '\n') {
+      length--;
+    }
+    if (length > 0 && line.charAt(length - 1) == '\r') {
+      length--;
+    }
+    return length;
+  }
+
+  private static int clamp(int value, int max) {
+    return Math.max(0, Math.min(value, max));
+  }
+}
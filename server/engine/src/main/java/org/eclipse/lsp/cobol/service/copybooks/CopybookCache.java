@@ -19,19 +19,25 @@ import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import org.eclipse.lsp.cobol.common.CleanerPreprocessor;
+import org.eclipse.lsp.cobol.common.ResultWithErrors;
 import org.eclipse.lsp.cobol.common.copybook.CopybookId;
 import org.eclipse.lsp.cobol.common.copybook.CopybookModel;
 
 /**
- * Implements copybook cache functionality
+ * Implements copybook cache functionality. The copybooks are cached per program, and the cleanup
+ * results are cached per copybook file, both with the same size and expiration limits.
  */
 @Singleton
 public class CopybookCache {
 
   private final Cache<CopybookId, CopybookModel> cache;
+  private final Cache<String, CleanCopybook> cleanCopybooks;
 
   @Inject
   public CopybookCache(
@@ -43,6 +49,11 @@ public class CopybookCache {
             .expireAfterWrite(duration, TimeUnit.valueOf(timeUnitName))
             .maximumSize(cacheSize)
             .build();
+    cleanCopybooks =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(duration, TimeUnit.valueOf(timeUnitName))
+            .maximumSize(cacheSize)
+            .build();
   }
 
   /**
@@ -50,6 +61,7 @@ public class CopybookCache {
    */
   public void invalidateAll() {
     cache.invalidateAll();
+    cleanCopybooks.invalidateAll();
   }
 
   /**
@@ -78,4 +90,42 @@ public class CopybookCache {
   public void invalidate(CopybookId copybookId) {
     cache.invalidate(copybookId);
   }
+
+  /**
+   * Gets the last cleanup result of a copybook file
+   * @param key the copybook file key
+   * @return the cleanup result or null if it is not cached
+   */
+  public CleanCopybook getCleanCopybook(String key) {
+    return cleanCopybooks.getIfPresent(key);
+  }
+
+  /**
+   * Store the cleanup result of a copybook file
+   * @param key the copybook file key
+   * @param cleanCopybook the cleanup result
+   */
+  public void storeCleanCopybook(String key, CleanCopybook cleanCopybook) {
+    cleanCopybooks.put(key, cleanCopybook);
+  }
+
+  /**
+   * Invalidate the cleanup result of a copybook file
+   * @param key the copybook file key
+   */
+  public void invalidateCleanCopybook(String key) {
+    cleanCopybooks.invalidate(key);
+  }
+
+  /** The last cleanup result of a copybook file with the content and the preprocessor it was made with */
+  @Value
+  public static class CleanCopybook {
+    String content;
+    CleanerPreprocessor preprocessor;
+    ResultWithErrors<CopybookModel> result;
+
+    boolean matches(String otherContent, CleanerPreprocessor otherPreprocessor) {
+      return preprocessor == otherPreprocessor && Objects.equals(content, otherContent);
+    }
+  }
 }
@@ -14,27 +14,27 @@
  */
 package org.eclipse.lsp.cobol.service.copybooks;
 
-import com.google.common.collect.ImmutableList;
 import com.google.inject.Singleton;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-/** Identifies a copybook based on the content. */
+/**
+ * Identifies a copybook based on the content. The text is scanned line by line, and the scan of a
+ * line stops at the first word after the indicator area, so a document is read only up to its first
+ * uncommented PROGRAM-ID or IDENTIFICATION DIVISION. A program declares itself at the beginning, so
+ * only the first lines are scanned, and a long copybook is not read to its end.
+ */
 @Singleton
 public class CopybookIdentificationServiceBasedOnContent implements CopybookIdentificationService {
+  static final int MAX_SCANNED_LINES = 1000;
+  private static final int INDICATOR_AREA = 6;
+  private static final int MAX_PROGRAM_NAME_LENGTH = 30;
+  private static final String PROGRAM_ID = "PROGRAM-ID";
+  private static final String IDENTIFICATION = "IDENTIFICATION";
+  private static final String ID = "ID";
+  private static final String DIVISION = "DIVISION";
 
-  private final List<Pattern> patterns = new LinkedList<>();
-  public CopybookIdentificationServiceBasedOnContent() {
-    patterns.add(Pattern.compile(
-        "(?i)^(?<sequence>.{0,6})(?<indicator>.?)\\h*(PROGRAM-ID)\\s*\\.?\\s*(?<programName>.{1,30})\\s*\\.?$",
-        Pattern.MULTILINE | Pattern.CASE_INSENSITIVE));
-    patterns.add(Pattern.compile("(?i)^(?<sequence>.{0,6})(?<indicator>.?)\\s*((IDENTIFICATION|ID)\\s+DIVISION)\\s*\\.",
-        Pattern.MULTILINE | Pattern.CASE_INSENSITIVE));
-  }
   /**
    * Identifies a copybook based on the content. If the text contains a valid program-id, we detect
    * it as a cobol program, else it's a copybook.
@@ -46,15 +46,117 @@ public class CopybookIdentificationServiceBasedOnContent implements CopybookIden
    */
   @Override
   public boolean isCopybook(String uri, String text, List<String> config) throws UndeterminedDocumentException {
-    String copybookContent = Optional.ofNullable(text).orElse("");
-    for (Pattern pattern : patterns) {
-      Matcher matcher = pattern.matcher(copybookContent);
-      while (matcher.find()) {
-        if (!ImmutableList.of("*", "/").contains(matcher.group("indicator"))) {
-          return false;
-        }
+    String content = Optional.ofNullable(text).orElse("");
+    int lineStart = 0;
+    for (int line = 0; line < MAX_SCANNED_LINES && lineStart <= content.length(); line++) {
+      int lineEnd = findLineEnd(content, lineStart);
+      if (declaresProgram(content, lineStart, lineEnd)) {
+        return false;
       }
+      lineStart = skipLineBreak(content, lineEnd);
     }
     return true;
   }
+
+  /**
+   * A keyword declares a program if it starts within the sequence area, or if it is the first word
+   * after the indicator area that doesn't contain a comment indicator.
+   */
+  private static boolean declaresProgram(String content, int lineStart, int lineEnd) {
+    int indicator = lineStart + INDICATOR_AREA;
+    for (int position = lineStart; position <= indicator && position < lineEnd; position++) {
+      if (startsDeclaration(content, position, lineEnd)) {
+        return true;
+      }
+    }
+    if (indicator >= lineEnd) {
+      return false;
+    }
+    int word = skipSpaces(content, indicator + 1, lineEnd);
+    char indicatorChar = content.charAt(indicator);
+    return indicatorChar != '*' && indicatorChar != '/' && startsDeclaration(content, word, lineEnd);
+  }
+
+  private static boolean startsDeclaration(String content, int position, int lineEnd) {
+    if (matches(content, position, lineEnd, PROGRAM_ID)) {
+      return hasProgramName(content, position + PROGRAM_ID.length());
+    }
+    if (matches(content, position, lineEnd, IDENTIFICATION)) {
+      return isDivisionHeader(content, position + IDENTIFICATION.length());
+    }
+    return matches(content, position, lineEnd, ID) && isDivisionHeader(content, position + ID.length());
+  }
+
+  /**
+   * The program name follows the keyword and an optional separator period, it may start on the next
+   * line. Any text that ends a line before the name counts as a name as well.
+   */
+  private static boolean hasProgramName(String content, int position) {
+    int name = skipWhitespace(content, position);
+    if (name < content.length() && content.charAt(name) == '.') {
+      name = skipWhitespace(content, name + 1);
+    }
+    for (int i = position + 1; i <= name && i <= content.length(); i++) {
+      if ((i == content.length() || isLineBreak(content.charAt(i))) && !isLineBreak(content.charAt(i - 1))) {
+        return true;
+      }
+    }
+    return name < content.length() && isProgramName(content, name, findLineEnd(content, name));
+  }
+
+  private static boolean isProgramName(String content, int start, int lineEnd) {
+    int end = lineEnd;
+    if (end > start && content.charAt(end - 1) == '.') {
+      end--;
+    }
+    while (end > start && Character.isWhitespace(content.charAt(end - 1))) {
+      end--;
+    }
+    return end - start <= MAX_PROGRAM_NAME_LENGTH;
+  }
+
+  private static boolean isDivisionHeader(String content, int position) {
+    int division = skipWhitespace(content, position);
+    if (division == position || !matches(content, division, content.length(), DIVISION)) {
+      return false;
+    }
+    int period = skipWhitespace(content, division + DIVISION.length());
+    return period < content.length() && content.charAt(period) == '.';
+  }
+
+  private static boolean matches(String content, int position, int lineEnd, String keyword) {
+    return position + keyword.length() <= lineEnd && content.regionMatches(true, position, keyword, 0, keyword.length());
+  }
+
+  private static int skipSpaces(String content, int position, int lineEnd) {
+    while (position < lineEnd && Character.isWhitespace(content.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static int skipWhitespace(String content, int position) {
+    return skipSpaces(content, position, content.length());
+  }
+
+  private static int findLineEnd(String content, int position) {
+    while (position < content.length() && !isLineBreak(content.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static boolean isLineBreak(char character) {
+    return character == '\n' || character == '\r';
+  }
+
+  private static int skipLineBreak(String content, int lineEnd) {
+    if (lineEnd == content.length()) {
+      return lineEnd + 1;
+    }
+    if (content.charAt(lineEnd) == '\r' && lineEnd + 1 < content.length() && content.charAt(lineEnd + 1) == '\n') {
+      return lineEnd + 2;
+    }
+    return lineEnd + 1;
+  }
 }
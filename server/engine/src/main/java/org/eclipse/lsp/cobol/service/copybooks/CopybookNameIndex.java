@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.copybooks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.common.file.FileSystemService;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the file names of the local copybook folders in memory, so the copybook names are resolved
+ * without listing the folders on every request. A folder is listed when it is requested for the
+ * first time or scanned in advance, and then it is kept current by the file change events. The
+ * names are sorted ignoring the case, so the names that start with a prefix are found without
+ * looking at the other names of the folder.
+ */
+@Slf4j
+class CopybookNameIndex {
+  private static final Comparator<String> ORDER =
+      String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+  private final FileSystemService files;
+  private final Map<String, Folder> folders = new ConcurrentHashMap<>();
+
+  CopybookNameIndex(FileSystemService files) {
+    this.files = files;
+  }
+
+  /**
+   * Get the names of the files in the folder that start with the given prefix, ignoring the case
+   *
+   * @param folder the folder path as it is passed to {@link FileSystemService#listFilesInDirectory}
+   * @param prefix the file name prefix, an empty prefix matches all the files
+   * @return the file names in the case-insensitive order
+   */
+  List<String> getFileNames(String folder, String prefix) {
+    List<String> result = new ArrayList<>();
+    for (String name : folders.computeIfAbsent(folder, Folder::new).getNames().tailSet(prefix.toUpperCase(Locale.ROOT))) {
+      if (!name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+        break;
+      }
+      result.add(name);
+    }
+    return result;
+  }
+
+  /**
+   * List the given folders in parallel, so the later requests don't wait for the file system
+   *
+   * @param folderPaths the folder paths to list
+   */
+  void scan(Collection<String> folderPaths) {
+    folderPaths.parallelStream()
+        .distinct()
+        .forEach(folder -> folders.computeIfAbsent(folder, Folder::new).getNames());
+    LOG.debug("Copybook folders indexed: {}", folders.keySet());
+  }
+
+  /**
+   * Apply the file system changes to the listed folders. The created and deleted files are added to
+   * or removed from their folder, and the folders that may be affected in any other way are listed
+   * again on the next request.
+   *
+   * @param changes the file events sent by the client
+   */
+  void update(List<FileEvent> changes) {
+    for (FileEvent change : changes) {
+      if (change.getType() == FileChangeType.Changed) {
+        continue;
+      }
+      Path path = files.getPathFromURI(change.getUri());
+      if (path == null) {
+        folders.clear();
+        return;
+      }
+      folders.values().removeIf(folder -> !folder.apply(path.normalize(), change.getType()));
+    }
+  }
+
+  /** Forget all the listed folders */
+  void clear() {
+    folders.clear();
+  }
+
+  /** The file names of a folder that are listed on the first access */
+  private final class Folder {
+    private final String folderPath;
+    private final Path directory;
+    private final boolean pattern;
+    private volatile NavigableSet<String> names;
+
+    Folder(String folderPath) {
+      this.folderPath = folderPath;
+      int wildcard = indexOfWildcard(folderPath);
+      this.pattern = wildcard >= 0;
+      this.directory = pattern ? toPath(folderPath.substring(0, folderPath.lastIndexOf('/', wildcard) + 1)) : toPath(folderPath);
+    }
+
+    NavigableSet<String> getNames() {
+      NavigableSet<String> result = names;
+      if (result == null) {
+        synchronized (this) {
+          result = names;
+          if (result == null) {
+            result = new ConcurrentSkipListSet<>(ORDER);
+            result.addAll(files.listFilesInDirectory(folderPath));
+            names = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Apply a file creation or deletion to the folder
+     *
+     * @return false if the folder cannot be updated and it should be listed again
+     */
+    synchronized boolean apply(Path path, FileChangeType type) {
+      if (directory == null) {
+        return false;
+      }
+      if (pattern) {
+        return !path.startsWith(directory) && !directory.startsWith(path);
+      }
+      if (directory.startsWith(path)) {
+        return false;
+      }
+      if (names != null && Objects.equals(path.getParent(), directory)) {
+        String name = path.getFileName().toString();
+        if (type == FileChangeType.Deleted) {
+          names.remove(name);
+        } else if (Files.isRegularFile(path)) {
+          names.add(name);
+        }
+      }
+      return true;
+    }
+
+    private int indexOfWildcard(String path) {
+      int asterisk = path.indexOf('*');
+      int placeholder = path.indexOf("${");
+      return asterisk < 0 || (placeholder >= 0 && placeholder < asterisk) ? placeholder : asterisk;
+    }
+
+    private Path toPath(String path) {
+      if (path.isEmpty()) {
+        return null;
+      }
+      try {
+        return Paths.get(path).normalize();
+      } catch (InvalidPathException e) {
+        LOG.debug("Copybook folder {} cannot be watched", path, e);
+        return null;
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.lsp.cobol.service.copybooks;
 
 import org.eclipse.lsp.cobol.common.copybook.CopybookName;
+import org.eclipse.lsp4j.FileEvent;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -33,6 +34,15 @@ public interface CopybookNameService {
    */
   List<CopybookName> getNames(@Nullable String documentUri);
 
+  /**
+   * Get resolved copybook names that start with the given prefix, ignoring the case
+   * @param documentUri the URI to the current document in case we will have a program name variable in path list.
+   * @param prefix the beginning of the copybook name
+   *
+   * @return List of resolved copybook names
+   */
+  List<CopybookName> getNamesByPrefix(@Nullable String documentUri, String prefix);
+
   /**
    * Get copybook folders paths based on local settings (paths, dialects etc)
    * @param documentUri URI of main program file. If it's null the method will return no file specific settings
@@ -51,4 +61,10 @@ public interface CopybookNameService {
 
   /** Resolves the paths defined in Settings.json for cobol-lsp.cpy-manager.paths-local */
   void collectLocalCopybookNames();
+
+  /**
+   * Update the collected copybook names with the file system changes
+   * @param changes the file events sent by the client
+   */
+  void updateLocalCopybookNames(List<FileEvent> changes);
 }
@@ -24,6 +24,7 @@ import org.eclipse.lsp.cobol.common.copybook.CopybookService;
 import org.eclipse.lsp.cobol.common.file.FileSystemService;
 import org.eclipse.lsp.cobol.lsp.jrpc.CobolLanguageClient;
 import org.eclipse.lsp.cobol.service.settings.SettingsService;
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.WorkspaceFolder;
 
 import javax.annotation.Nullable;
@@ -46,7 +47,8 @@ import static org.eclipse.lsp.cobol.service.settings.SettingsParametersEnum.*;
 
 /**
  * This service processes all the copybook names present in the local directory. The service also
- * caches copybook to reduce filesystem load.
+ * caches the names of the files in the copybook folders to reduce filesystem load. The download
+ * folder is filled by the client without file change events, so it is listed on every request.
  */
 @Slf4j
 @Singleton
@@ -55,6 +57,7 @@ public class CopybookNameServiceImpl implements CopybookNameService {
   private final FileSystemService files;
   private final Provider<CobolLanguageClient> clientProvider;
   private final SettingsService settingsService;
+  private final CopybookNameIndex index;
   private Set<String> fullCopybookFoldersList;
 
   private static final String CPY_DOWNLOAD_FOLDER_PATH = ".c4z/.copybooks";
@@ -67,18 +70,25 @@ public class CopybookNameServiceImpl implements CopybookNameService {
     this.settingsService = settingsService;
     this.files = files;
     this.clientProvider = clientProvider;
+    this.index = new CopybookNameIndex(files);
     this.fullCopybookFoldersList = singleton(CPY_DOWNLOAD_FOLDER_PATH);
   }
 
   @Override
   public List<CopybookName> getNames(String uri) {
-    List<CopybookName> copybookNamesList = createCopybookNamesList(uri, n -> true);
+    List<CopybookName> copybookNamesList = createCopybookNamesList(uri, "", n -> true);
     return ImmutableList.copyOf(copybookNamesList);
   }
 
+  @Override
+  public List<CopybookName> getNamesByPrefix(String uri, String prefix) {
+    return createCopybookNamesList(uri, prefix,
+            copybookName -> copybookName.getDisplayName().regionMatches(true, 0, prefix, 0, prefix.length()));
+  }
+
   @Override
   public Optional<CopybookName> findByName(String uri, final String displayName) {
-    List<CopybookName> copybookNamesList = createCopybookNamesList(uri,
+    List<CopybookName> copybookNamesList = createCopybookNamesList(uri, displayName,
             copybookName -> displayName.equalsIgnoreCase(copybookName.getDisplayName()));
     return copybookNamesList.isEmpty() ? Optional.empty() : Optional.of(copybookNamesList.get(0));
   }
@@ -104,7 +114,23 @@ public class CopybookNameServiceImpl implements CopybookNameService {
 
   @Override
   public void collectLocalCopybookNames() {
-    // TODO cache invalidation if we will have cache
+    index.clear();
+    clientProvider.get().workspaceFolders()
+            .thenCombine(copybookLocalFolders(null), (workspaces, copybookFolders) -> copybookFolders.stream()
+                    .filter(folder -> !folder.contains(CopybookService.FILE_BASENAME_VARIABLE))
+                    .map(folder -> resolveFolderPaths(workspaces, folder))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()))
+            .thenAcceptAsync(index::scan)
+            .exceptionally(e -> {
+              LOG.warn("Cannot collect the local copybook names", e);
+              return null;
+            });
+  }
+
+  @Override
+  public void updateLocalCopybookNames(List<FileEvent> changes) {
+    index.update(changes);
   }
 
   private String extractProgramName(@Nullable String uri) {
@@ -129,6 +155,7 @@ public class CopybookNameServiceImpl implements CopybookNameService {
           final List<String> copybookFolders,
           final List<String> copybookExtensions,
           String programName,
+          String prefix,
           Predicate<CopybookName> predicate) {
 
     List<String> copybookExtensionsWithoutDot = copybookExtensions.stream()
@@ -146,7 +173,7 @@ public class CopybookNameServiceImpl implements CopybookNameService {
     try {
       return ImmutableList.copyOf(
               fullCopybookFoldersList.stream()
-                      .map(copybookFolder -> listExistedFiles(workspaceFolderList, copybookFolder))
+                      .map(copybookFolder -> listExistedFiles(workspaceFolderList, copybookFolder, prefix))
                       .flatMap(List::stream)
                       .map(nameAndExtension -> nameAndExtension.split("\\."))
                       .map(nameAndExtension -> CopybookName
@@ -175,27 +202,33 @@ public class CopybookNameServiceImpl implements CopybookNameService {
 
   private List<String> listExistedFiles(
           final List<WorkspaceFolder> workspaces,
-          final String copybookPath) {
+          final String copybookPath,
+          final String prefix) {
+    return resolveFolderPaths(workspaces, copybookPath).stream()
+            .map(copybookFinalPath -> CPY_DOWNLOAD_FOLDER_PATH.equals(copybookPath)
+                    ? files.listFilesInDirectory(copybookFinalPath)
+                    : index.getFileNames(copybookFinalPath, prefix))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+  }
+
+  private List<String> resolveFolderPaths(final List<WorkspaceFolder> workspaces, final String copybookPath) {
     return Optional.ofNullable(workspaces).orElse(emptyList()).stream()
             .map(workspace -> files.getPathFromURI(workspace.getUri()))
-            .map(workspacePath -> {
-              String copybookFinalPath = Paths.get(copybookPath.replace("*", "tmp")).isAbsolute() ? copybookPath
-                      : String.join("/",
-                      Optional.ofNullable(workspacePath)
-                              .orElseThrow(IllegalArgumentException::new)
-                              .toString(), copybookPath);
-              return files.listFilesInDirectory(copybookFinalPath);
-            })
-            .flatMap(List::stream)
+            .map(workspacePath -> Paths.get(copybookPath.replace("*", "tmp")).isAbsolute() ? copybookPath
+                    : String.join("/",
+                    Optional.ofNullable(workspacePath)
+                            .orElseThrow(IllegalArgumentException::new)
+                            .toString(), copybookPath))
             .collect(Collectors.toList());
   }
 
-  private List<CopybookName> createCopybookNamesList(String uri, Predicate<CopybookName> predicate) {
+  private List<CopybookName> createCopybookNamesList(String uri, String prefix, Predicate<CopybookName> predicate) {
     CobolLanguageClient cobolLanguageClient = clientProvider.get();
     CompletableFuture<List<WorkspaceFolder>> copybookWorkspaces = cobolLanguageClient.workspaceFolders();
     CompletableFuture<List<String>> copybooksExtensions = settingsService.fetchTextConfigurationWithScope(uri, CPY_EXTENSIONS.label);
     CompletableFuture<List<String>> copybookLocalFolders = copybookLocalFolders(uri);
     return resolveNames(copybookWorkspaces.join(), copybookLocalFolders.join(), copybooksExtensions.join(),
-            extractProgramName(uri), predicate);
+            extractProgramName(uri), prefix, predicate);
   }
 }
@@ -44,6 +44,7 @@ import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
 import org.eclipse.lsp.cobol.core.semantics.CopybooksRepository;
 import org.eclipse.lsp.cobol.lsp.jrpc.CobolLanguageClient;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
+import org.eclipse.lsp.cobol.service.copybooks.CopybookCache.CleanCopybook;
 
 /**
  * This service processes copybook requests and returns content by its name. The service also caches
@@ -65,15 +66,18 @@ public class CopybookServiceImpl implements CopybookService {
       new ConcurrentHashMap<>(8, 0.9f, 1);
 
   private final CopybookCache copybookCache;
+  private final PersistentCopybookStore persistentStore;
 
   @Inject
   public CopybookServiceImpl(Provider<CobolLanguageClient> clientProvider,
       FileSystemService files,
       CopybookCache copybookCache,
+      PersistentCopybookStore persistentStore,
       UriDecodeService uriDecodeService) {
     this.files = files;
     this.clientProvider = clientProvider;
     this.copybookCache = copybookCache;
+    this.persistentStore = persistentStore;
     this.uriDecodeService = uriDecodeService;
   }
 
@@ -122,7 +126,7 @@ public class CopybookServiceImpl implements CopybookService {
       ThreadInterruptionUtil.checkThreadInterrupted();
 
       CopybookModel copybookModel = getFromCache(programDocumentUri, copybookId, copybookName, preprocessor);
-      copybookUsage.computeIfAbsent(programDocumentUri, k -> new HashSet<>()).add(copybookModel);
+      copybookUsage.computeIfAbsent(programDocumentUri, k -> ConcurrentHashMap.newKeySet()).add(copybookModel);
 
       List<SyntaxError> errors = Optional.ofNullable(copybookModel.getUri())
           .map(d -> preprocessCopybookErrors.getOrDefault(d, Collections.emptyList()))
@@ -190,7 +194,43 @@ public class CopybookServiceImpl implements CopybookService {
     }
   }
 
+  /**
+   * The cache entries are kept per program, but the cleanup result depends only on the copybook
+   * file, its content and the preprocessor. So the last cleanup of each copybook file is reused for
+   * all the programs that include it, e.g. when a copybook is edited and its programs are reanalysed.
+   */
   private ResultWithErrors<CopybookModel> cleanupCopybook(CopybookModel dirtyCopybook, CleanerPreprocessor preprocessor) {
+    String key = getCleanCopybookKey(dirtyCopybook);
+    CleanCopybook cleanCopybook = copybookCache.getCleanCopybook(key);
+    if (cleanCopybook == null || !cleanCopybook.matches(dirtyCopybook.getContent(), preprocessor)) {
+      cleanCopybook = new CleanCopybook(dirtyCopybook.getContent(), preprocessor, loadOrCleanupCopybook(dirtyCopybook, preprocessor));
+      copybookCache.storeCleanCopybook(key, cleanCopybook);
+    }
+    ResultWithErrors<CopybookModel> result = cleanCopybook.getResult();
+    return new ResultWithErrors<>(
+        new CopybookModel(dirtyCopybook.getCopybookId(), dirtyCopybook.getCopybookName(), dirtyCopybook.getUri(), result.getResult().getContent()),
+        result.getErrors());
+  }
+
+  private static boolean hasCleanCopybook(CopybookModel copybook) {
+    return copybook.getUri() != null && copybook.getCopybookName() != null;
+  }
+
+  private static String getCleanCopybookKey(CopybookModel copybook) {
+    return copybook.getUri() + "#" + copybook.getCopybookName().getDialectType();
+  }
+
+  private ResultWithErrors<CopybookModel> loadOrCleanupCopybook(CopybookModel dirtyCopybook, CleanerPreprocessor preprocessor) {
+    Optional<ResultWithErrors<CopybookModel>> storedCopybook = persistentStore.load(dirtyCopybook);
+    if (storedCopybook.isPresent()) {
+      return storedCopybook.get();
+    }
+    ResultWithErrors<CopybookModel> cleanCopybook = cleanupCopybookContent(dirtyCopybook, preprocessor);
+    persistentStore.store(dirtyCopybook, cleanCopybook);
+    return cleanCopybook;
+  }
+
+  private ResultWithErrors<CopybookModel> cleanupCopybookContent(CopybookModel dirtyCopybook, CleanerPreprocessor preprocessor) {
     ResultWithErrors<ExtendedText> textTransformationsResultWithErrors = preprocessor.cleanUpCode(dirtyCopybook.getUri(), dirtyCopybook.getContent());
     String cleanText = CharMatcher.whitespace().trimTrailingFrom(textTransformationsResultWithErrors.getResult().toString());
     CopybookModel copybookModel = new CopybookModel(dirtyCopybook.getCopybookId(), dirtyCopybook.getCopybookName(), dirtyCopybook.getUri(), cleanText);
@@ -302,6 +342,29 @@ public class CopybookServiceImpl implements CopybookService {
     return Collections.unmodifiableSet(copybookUsage.getOrDefault(documentUri, ImmutableSet.of()));
   }
 
+  /**
+   * Forget the copybooks used by a closed document and drop the cleanup results of the copybooks that
+   * no other document uses
+   *
+   * @param documentUri the document uri
+   */
+  public void releaseCopybookUsage(String documentUri) {
+    Set<CopybookModel> released = copybookUsage.remove(documentUri);
+    if (released == null) {
+      return;
+    }
+    Set<String> used = new HashSet<>();
+    copybookUsage.values().forEach(copybooks -> copybooks.stream()
+        .filter(CopybookServiceImpl::hasCleanCopybook)
+        .map(CopybookServiceImpl::getCleanCopybookKey)
+        .forEach(used::add));
+    released.stream()
+        .filter(CopybookServiceImpl::hasCleanCopybook)
+        .map(CopybookServiceImpl::getCleanCopybookKey)
+        .filter(key -> !used.contains(key))
+        .forEach(copybookCache::invalidateCleanCopybook);
+  }
+
   @VisibleForTesting
   Map<String, Set<CopybookName>> getCopybooksForDownloading() {
     return ImmutableMap.copyOf(copybooksForDownloading);
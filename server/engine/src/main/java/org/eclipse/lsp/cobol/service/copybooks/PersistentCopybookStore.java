@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.copybooks;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.lsp.cobol.common.ResultWithErrors;
+import org.eclipse.lsp.cobol.common.copybook.CopybookModel;
+import org.eclipse.lsp.cobol.common.error.SyntaxError;
+import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
+
+/**
+ * Keeps the copybooks cleaned up by the dialect preprocessor on disk, so they survive the server
+ * restarts and the cache invalidation. The store is enabled by the "copybook.cache.path" system
+ * property that points to the storage folder. Each entry is a file named after the copybook URI and
+ * dialect, and it is valid only while the hash of the copybook content and the code layout stays the
+ * same.
+ */
+@Slf4j
+@Singleton
+public class PersistentCopybookStore {
+  private static final String CACHE_PATH_SYSTEM_PROPERTY = "copybook.cache.path";
+  private static final String ENTRY_EXTENSION = ".json";
+
+  private final Gson gson = new Gson();
+  private final CodeLayoutStore layoutStore;
+  private final Path folder;
+
+  @Inject
+  public PersistentCopybookStore(CodeLayoutStore layoutStore) {
+    this(layoutStore, Optional.ofNullable(System.getProperty(CACHE_PATH_SYSTEM_PROPERTY)).map(Paths::get).orElse(null));
+  }
+
+  PersistentCopybookStore(CodeLayoutStore layoutStore, Path folder) {
+    this.layoutStore = layoutStore;
+    this.folder = folder;
+  }
+
+  /**
+   * Load the cleaned up copybook stored for the given dirty copybook. The stored entry is ignored if
+   * the copybook content or the code layout has changed since it was written.
+   *
+   * @param dirtyCopybook the copybook as it was read from the workspace
+   * @return the cleaned up copybook with the preprocessing errors, or empty if there is no valid entry
+   */
+  public Optional<ResultWithErrors<CopybookModel>> load(CopybookModel dirtyCopybook) {
+    if (folder == null) {
+      return Optional.empty();
+    }
+    Path file = getEntryFile(dirtyCopybook);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      Entry entry = gson.fromJson(reader, Entry.class);
+      if (entry == null || !Objects.equals(entry.getHash(), getHash(dirtyCopybook))) {
+        return Optional.empty();
+      }
+      return Optional.of(new ResultWithErrors<>(
+          new CopybookModel(dirtyCopybook.getCopybookId(), dirtyCopybook.getCopybookName(), dirtyCopybook.getUri(), entry.getText()),
+          entry.getErrors()));
+    } catch (IOException | JsonParseException e) {
+      LOG.warn("Cannot read the stored copybook {}", dirtyCopybook.getUri(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Store the cleaned up copybook for the given dirty copybook
+   *
+   * @param dirtyCopybook the copybook as it was read from the workspace
+   * @param cleanCopybook the result of the copybook preprocessing
+   */
+  public void store(CopybookModel dirtyCopybook, ResultWithErrors<CopybookModel> cleanCopybook) {
+    if (folder == null || !cleanCopybook.getErrors().stream().allMatch(this::isRestorable)) {
+      return;
+    }
+    Path file = getEntryFile(dirtyCopybook);
+    Entry entry = new Entry(getHash(dirtyCopybook), cleanCopybook.getResult().getContent(), cleanCopybook.getErrors());
+    try {
+      Files.createDirectories(folder);
+      Path tempFile = Files.createTempFile(folder, file.getFileName().toString(), null);
+      try {
+        Files.write(tempFile, gson.toJson(entry).getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException e) {
+      LOG.warn("Cannot store the copybook {}", dirtyCopybook.getUri(), e);
+    }
+  }
+
+  /** Message template arguments and error codes are not typed, so they cannot be restored from JSON */
+  private boolean isRestorable(SyntaxError error) {
+    return error.getMessageTemplate() == null && error.getErrorCode() == null;
+  }
+
+  private Path getEntryFile(CopybookModel copybook) {
+    String key = copybook.getUri() + "#" + copybook.getCopybookName().getDialectType();
+    return folder.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + ENTRY_EXTENSION);
+  }
+
+  private String getHash(CopybookModel copybook) {
+    String layout = layoutStore.getCodeLayout().map(gson::toJson).orElse("");
+    return Hashing.sha256().newHasher()
+        .putString(layout, StandardCharsets.UTF_8)
+        .putString(copybook.getContent(), StandardCharsets.UTF_8)
+        .hash()
+        .toString();
+  }
+
+  /** A stored copybook preprocessing result */
+  @Value
+  @AllArgsConstructor
+  private static class Entry {
+    String hash;
+    String text;
+    List<SyntaxError> errors;
+  }
+}
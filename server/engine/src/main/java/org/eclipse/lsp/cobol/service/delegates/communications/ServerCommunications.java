@@ -22,11 +22,14 @@ import static org.eclipse.lsp4j.MessageType.Info;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.Singleton;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.file.FileSystemService;
@@ -55,9 +58,13 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
  * cleaned by removing line breaks to prevent incorrect parsing.
  */
 @Slf4j
+@Singleton
 public class ServerCommunications implements Communications {
 
   private final Set<String> uriInProgress = new HashSet<>();
+  private final Map<String, List<Diagnostic>> publishedDiagnostics = new ConcurrentHashMap<>();
+  private final Map<String, List<Diagnostic>> pendingDiagnostics = new HashMap<>();
+  private boolean publishingDiagnostics;
   private final MessageService messageService;
   private final Provider<CobolLanguageClient> provider;
   private final FileSystemService files;
@@ -105,20 +112,55 @@ public class ServerCommunications implements Communications {
 
   /**
    * This method raise a diagnostic message to the client with syntax error retrieved by the COBOL
-   * LSP server for related files.
+   * LSP server for related files. Only the documents which diagnostics differ from the last
+   * published ones are sent. If another thread is publishing at the moment, the diagnostics are
+   * left to it, so a burst of analysis results is sent in one pass with the latest values.
    *
    * @param diagnostics map of URIs and errors populated by the language engine
    */
   public void publishDiagnostics(Map<String, List<Diagnostic>> diagnostics) {
-    diagnostics.forEach(
-            (uri, diagnostic) -> {
-              PublishDiagnosticsParams diagnostics1 = new PublishDiagnosticsParams(uriDecodeService.getOriginalUri(uri), clean(diagnostic));
-              LOG.debug("publishDiagnostics " + diagnostics1);
-              getClient().publishDiagnostics(diagnostics1);
-            }
-    );
+    synchronized (pendingDiagnostics) {
+      pendingDiagnostics.putAll(diagnostics);
+      if (publishingDiagnostics) {
+        return;
+      }
+      publishingDiagnostics = true;
+    }
+    boolean drained = false;
+    try {
+      while (!drained) {
+        Map<String, List<Diagnostic>> batch;
+        synchronized (pendingDiagnostics) {
+          batch = new HashMap<>(pendingDiagnostics);
+          pendingDiagnostics.clear();
+          drained = batch.isEmpty();
+          publishingDiagnostics = !drained;
+        }
+        batch.forEach(this::publishIfChanged);
+      }
+    } finally {
+      if (!drained) {
+        synchronized (pendingDiagnostics) {
+          publishingDiagnostics = false;
+        }
+      }
+    }
   }
 
+  private void publishIfChanged(String uri, List<Diagnostic> diagnostics) {
+    List<Diagnostic> cleanDiagnostics = clean(diagnostics);
+    if (cleanDiagnostics.equals(publishedDiagnostics.getOrDefault(uri, ImmutableList.of()))) {
+      return;
+    }
+    if (cleanDiagnostics.isEmpty()) {
+      publishedDiagnostics.remove(uri);
+    } else {
+      publishedDiagnostics.put(uri, cleanDiagnostics);
+    }
+    PublishDiagnosticsParams params = new PublishDiagnosticsParams(uriDecodeService.getOriginalUri(uri), cleanDiagnostics);
+    LOG.debug("publishDiagnostics {}", params);
+    getClient().publishDiagnostics(params);
+  }
 
   @Override
   public void notifyProgressBegin(String uri) {
@@ -40,6 +40,18 @@ public interface Completion {
   Collection<CompletionItem> getCompletionItems(
       @NonNull String token, @Nullable CobolDocumentModel document);
 
+  /**
+   * Fill in the documentation of a completion item created by this provider. The items are sent
+   * without documentation, so it is computed only for the item the client shows.
+   *
+   * @param item - the completion item sent by the client
+   * @param document - the document the item was collected for. May be null.
+   * @return true if the item was created by this provider
+   */
+  default boolean resolve(@NonNull CompletionItem item, @Nullable CobolDocumentModel document) {
+    return false;
+  }
+
   /**
    * Checks if the supplied document is ready for collection based on weather document is analysis.
    *
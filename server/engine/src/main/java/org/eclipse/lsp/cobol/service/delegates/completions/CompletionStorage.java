@@ -15,24 +15,26 @@
 package org.eclipse.lsp.cobol.service.delegates.completions;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.service.settings.SettingsService;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.eclipse.lsp.cobol.service.settings.SettingsParametersEnum.DIALECTS;
 
 /**
  * This class represents a storage for static completion content, e.g. keywords. It provides
- * elements as strings and documentation for them if provided.
+ * elements as strings and documentation for them if provided. The labels are kept in a {@link
+ * PrefixTrie}, so the storage is rebuilt only when the source of the data changes.
  */
 @Slf4j
 public abstract class CompletionStorage<T> {
-  private List<String> dialectType = ImmutableList.of();
-  private Map<String, T> storage;
+  private volatile List<String> dialectType = ImmutableList.of();
+  private volatile Content<T> content;
   private final SettingsService settingsService;
 
   CompletionStorage(final SettingsService settingsService) {
@@ -47,14 +49,34 @@ public abstract class CompletionStorage<T> {
 
   protected abstract Map<String, T> getDataMap(List<String> dialectType);
 
+  /**
+   * Return an object that is equal for the same data of the dialects, so the storage is not reloaded
+   * if the data has not changed. By default, the data depends only on the dialect names.
+   *
+   * @param dialectType - the enabled dialects
+   * @return the version of the data
+   */
+  protected Object getDataVersion(List<String> dialectType) {
+    return dialectType;
+  }
+
   /**
    * Return a full set of the registered keywords
    *
    * @return A set of keywords
    */
   Set<String> getLabels() {
-    resetStorage();
-    return storage.keySet();
+    return getContent().storage.keySet();
+  }
+
+  /**
+   * Return the registered keywords starting with the prefix, ignoring the case
+   *
+   * @param prefix - the beginning of the keywords
+   * @return the matching keywords ordered by name
+   */
+  List<String> findLabels(final String prefix) {
+    return getContent().labels.findByPrefix(prefix);
   }
 
   /**
@@ -64,12 +86,7 @@ public abstract class CompletionStorage<T> {
    * @return description
    */
   String getInformationFor(final String label) {
-    return (String) storage.get(label);
-  }
-
-  private void fillInStorage(final Map<String, T> props) {
-    this.storage =
-        props.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return (String) getContent().storage.get(label);
   }
 
   private void updateDialects(final List<String> dialects) {
@@ -77,10 +94,31 @@ public abstract class CompletionStorage<T> {
     resetStorage();
   }
 
-  private void resetStorage() {
-    Map<String, T> dataMap;
-    dataMap = getDataMap(this.dialectType);
-    fillInStorage(dataMap);
+  private Content<T> getContent() {
+    Content<T> current = content;
+    if (!current.version.equals(getDataVersion(current.dialectType)) || current.dialectType != dialectType) {
+      resetStorage();
+      current = content;
+    }
+    return current;
+  }
+
+  private synchronized void resetStorage() {
+    List<String> dialects = this.dialectType;
+    Object version = getDataVersion(dialects);
+    Map<String, T> storage = ImmutableMap.copyOf(getDataMap(dialects));
+    PrefixTrie<String> labels = new PrefixTrie<>();
+    storage.keySet().forEach(label -> labels.put(label, label));
+    content = new Content<>(dialects, version, storage, labels);
     LOG.info("The properties file has been loaded successfully");
   }
+
+  /** The data of the storage for the enabled dialects */
+  @AllArgsConstructor
+  private static final class Content<T> {
+    private final List<String> dialectType;
+    private final Object version;
+    private final Map<String, T> storage;
+    private final PrefixTrie<String> labels;
+  }
 }
@@ -72,6 +72,23 @@ public class Completions {
     return new CompletionList(false, items);
   }
 
+  /**
+   * Fill in the documentation of a completion item by the provider that created it.
+   *
+   * @param item - the completion item sent by the client
+   * @param document - the document the item was collected for. May be null.
+   * @return the item with documentation if the provider could resolve it
+   */
+  @NonNull
+  public CompletionItem resolve(@NonNull CompletionItem item, @Nullable CobolDocumentModel document) {
+    for (Completion provider : providers) {
+      if (provider.resolve(item, document)) {
+        break;
+      }
+    }
+    return item;
+  }
+
   @NonNull
   private List<CompletionItem> collectCompletions(
           @Nullable CobolDocumentModel document, @NonNull CompletionParams params) {
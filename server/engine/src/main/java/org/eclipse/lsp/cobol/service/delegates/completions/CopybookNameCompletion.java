@@ -49,10 +49,9 @@ public class CopybookNameCompletion implements Completion {
   public @NonNull Collection<CompletionItem> getCompletionItems(
       @NonNull String token, @Nullable CobolDocumentModel document) {
 
-    List<CopybookName> names = copybookNameService.getNames(document == null ? null : document.getUri());
+    List<CopybookName> names = copybookNameService.getNamesByPrefix(document == null ? null : document.getUri(), token);
     return names.stream()
             .map(CopybookName::getQualifiedName)
-            .filter(DocumentationUtils.startsWithIgnoreCase(token))
             .map(CopybookNameCompletion::toCopybookCompletion)
             .collect(toList());
   }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.delegates.completions;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.NonNull;
+import org.eclipse.lsp.cobol.common.AnalysisResult;
+import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
+
+import java.util.function.BiConsumer;
+
+import static org.eclipse.lsp.cobol.common.model.NodeType.PROGRAM;
+import static org.eclipse.lsp.cobol.common.model.tree.Node.hasType;
+
+/**
+ * The completion candidates of the documents. The candidates of an analysis result are collected
+ * into a {@link PrefixTrie} on the first completion request, and reused until the document is
+ * analyzed again. The results are weak keys, so the candidates are dropped with the replaced
+ * analysis results.
+ *
+ * @param <T> the type of the candidates
+ */
+final class DocumentCandidates<T> {
+  private final LoadingCache<AnalysisResult, PrefixTrie<T>> tries;
+
+  /**
+   * Create the candidates store
+   *
+   * @param loader - adds the candidates of a program to the tree
+   */
+  DocumentCandidates(@NonNull BiConsumer<ProgramNode, PrefixTrie<T>> loader) {
+    tries = CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(result -> {
+      PrefixTrie<T> trie = new PrefixTrie<>();
+      if (result.getRootNode() != null) {
+        result.getRootNode().getDepthFirstStream()
+            .filter(hasType(PROGRAM))
+            .map(ProgramNode.class::cast)
+            .forEach(program -> loader.accept(program, trie));
+      }
+      return trie;
+    }));
+  }
+
+  /**
+   * Returns the candidates of the analysis result
+   *
+   * @param result - the analysis result of a document
+   * @return the candidates
+   */
+  @NonNull
+  PrefixTrie<T> get(@NonNull AnalysisResult result) {
+    return tries.getUnchecked(result);
+  }
+}
@@ -28,7 +28,10 @@ import static java.util.stream.Collectors.toList;
 import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrder.KEYWORDS;
 import static org.eclipse.lsp4j.CompletionItemKind.Keyword;
 
-/** This completion provider resolves keywords and documentation for them as static content */
+/**
+ * This completion provider resolves keywords and documentation for them as static content. The
+ * documentation is added when the item is resolved.
+ */
 @Singleton
 public class KeywordCompletion implements Completion {
   private CompletionStorage<String> keywords;
@@ -41,17 +44,23 @@ public class KeywordCompletion implements Completion {
   @Override
   public @NonNull Collection<CompletionItem> getCompletionItems(
           @NonNull String token, @Nullable CobolDocumentModel document) {
-    return keywords.getLabels().stream()
-            .filter(DocumentationUtils.startsWithIgnoreCase(token))
+    return keywords.findLabels(token).stream()
             .map(this::toKeywordCompletion)
             .collect(toList());
   }
 
+  @Override
+  public boolean resolve(@NonNull CompletionItem item, @Nullable CobolDocumentModel document) {
+    if (item.getKind() != Keyword) return false;
+    String information = keywords.getInformationFor(item.getLabel());
+    if (information != null) item.setDocumentation(DocumentationUtils.wrapWithMarkup(information));
+    return true;
+  }
+
   private CompletionItem toKeywordCompletion(String name) {
     CompletionItem item = new CompletionItem(name);
     item.setLabel(name);
     item.setInsertText(name);
-    item.setDocumentation(DocumentationUtils.wrapWithMarkup(keywords.getInformationFor(name)));
     item.setSortText(KEYWORDS.prefix + name);
     item.setKind(Keyword);
     return item;
@@ -23,6 +23,7 @@ import org.eclipse.lsp.cobol.core.engine.dialects.DialectService;
 import org.eclipse.lsp.cobol.service.settings.SettingsService;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /** This class is a provider for Cobol keywords and their descriptions */
 @Singleton
@@ -50,4 +51,11 @@ public class Keywords extends CompletionStorage<String> {
     return result;
   }
 
+  /** The keywords change when another dialect instance is registered with the same name */
+  @Override
+  protected Object getDataVersion(List<String> dialectTypes) {
+    return dialectTypes.stream()
+        .map(dialectType -> dialectService.getDialectByName(dialectType))
+        .collect(Collectors.toList());
+  }
 }
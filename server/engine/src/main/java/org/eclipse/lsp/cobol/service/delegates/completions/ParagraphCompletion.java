@@ -17,19 +17,15 @@ package org.eclipse.lsp.cobol.service.delegates.completions;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import lombok.NonNull;
-import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
 import org.eclipse.lsp.cobol.core.engine.symbols.SymbolsRepository;
 import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp4j.CompletionItem;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.Map;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
-import static org.eclipse.lsp.cobol.common.model.tree.Node.hasType;
-import static org.eclipse.lsp.cobol.common.model.NodeType.PROGRAM;
 import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrder.PARAGRAPHS;
 import static org.eclipse.lsp4j.CompletionItemKind.Method;
 
@@ -37,27 +33,21 @@ import static org.eclipse.lsp4j.CompletionItemKind.Method;
 @Singleton
 public class ParagraphCompletion implements Completion {
 
-  private final SymbolsRepository symbolsRepository;
+  private final DocumentCandidates<String> candidates;
 
   @Inject
   public ParagraphCompletion(SymbolsRepository symbolsRepository) {
-    this.symbolsRepository = symbolsRepository;
+    candidates = new DocumentCandidates<>((program, trie) -> symbolsRepository.getParagraphMap(program).keySet()
+        .forEach(name -> trie.put(name, name)));
   }
 
   @Override
   public @NonNull Collection<CompletionItem> getCompletionItems(
       @NonNull String token, @Nullable CobolDocumentModel document) {
     if (!isDocumentReadyForSemanticCollection(document)) return emptyList();
-    return document
-        .getLastAnalysisResult()
-        .getRootNode()
-        .getDepthFirstStream()
-        .filter(hasType(PROGRAM))
-        .map(ProgramNode.class::cast)
-        .map(symbolsRepository::getParagraphMap)
-        .map(Map::keySet)
-        .flatMap(Collection::stream)
-        .filter(DocumentationUtils.startsWithIgnoreCase(token))
+    return candidates.get(document.getLastAnalysisResult())
+        .findByPrefix(token)
+        .stream()
         .map(this::toParagraphCompletion)
         .collect(toList());
   }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.delegates.completions;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A prefix tree of the completion candidates with case-insensitive keys. Finding the candidates for a
+ * token walks only the characters of the token and the subtree of the matching keys, so the cost does
+ * not depend on the number of the other candidates. The candidates are returned in the order of their
+ * keys, the candidates with the same key in the order they were added. The tree is not thread-safe for
+ * writes, so it should be filled before it is shared.
+ *
+ * @param <T> the type of the candidates
+ */
+final class PrefixTrie<T> {
+  private final TrieNode<T> root = new TrieNode<>();
+  private int size;
+
+  /**
+   * Add a candidate
+   *
+   * @param key - the name to find the candidate by
+   * @param value - the candidate
+   */
+  void put(@NonNull String key, @NonNull T value) {
+    TrieNode<T> node = root;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.getOrCreateChild(Character.toUpperCase(key.charAt(i)));
+    }
+    node.addValue(value);
+    size++;
+  }
+
+  /**
+   * Find the candidates whose keys start with the prefix, ignoring the case
+   *
+   * @param prefix - the beginning of the keys, all the candidates match an empty prefix
+   * @return the matching candidates
+   */
+  @NonNull
+  List<T> findByPrefix(@NonNull String prefix) {
+    TrieNode<T> node = find(prefix);
+    if (node == null) {
+      return Collections.emptyList();
+    }
+    List<T> result = new ArrayList<>();
+    node.collect(result);
+    return result;
+  }
+
+  /**
+   * Find the candidates with the key, ignoring the case
+   *
+   * @param key - the name of the candidates
+   * @return the candidates with the key
+   */
+  @NonNull
+  List<T> get(@NonNull String key) {
+    TrieNode<T> node = find(key);
+    return node == null || node.values == null ? Collections.emptyList() : Collections.unmodifiableList(node.values);
+  }
+
+  /**
+   * Returns the number of the candidates
+   *
+   * @return the number of the candidates
+   */
+  int size() {
+    return size;
+  }
+
+  private TrieNode<T> find(String key) {
+    TrieNode<T> node = root;
+    for (int i = 0; i < key.length() && node != null; i++) {
+      node = node.getChild(Character.toUpperCase(key.charAt(i)));
+    }
+    return node;
+  }
+
+  /** The children are kept in arrays sorted by character, names have few distinct characters per position */
+  private static final class TrieNode<T> {
+    private static final char[] NO_CHARACTERS = new char[0];
+
+    private char[] characters = NO_CHARACTERS;
+    private TrieNode<T>[] children;
+    private List<T> values;
+
+    private TrieNode<T> getChild(char character) {
+      int index = Arrays.binarySearch(characters, character);
+      return index < 0 ? null : children[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private TrieNode<T> getOrCreateChild(char character) {
+      int index = Arrays.binarySearch(characters, character);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertion = -index - 1;
+      char[] newCharacters = new char[characters.length + 1];
+      TrieNode<T>[] newChildren = new TrieNode[characters.length + 1];
+      System.arraycopy(characters, 0, newCharacters, 0, insertion);
+      System.arraycopy(characters, insertion, newCharacters, insertion + 1, characters.length - insertion);
+      if (children != null) {
+        System.arraycopy(children, 0, newChildren, 0, insertion);
+        System.arraycopy(children, insertion, newChildren, insertion + 1, characters.length - insertion);
+      }
+      TrieNode<T> child = new TrieNode<>();
+      newCharacters[insertion] = character;
+      newChildren[insertion] = child;
+      characters = newCharacters;
+      children = newChildren;
+      return child;
+    }
+
+    private void addValue(T value) {
+      if (values == null) {
+        values = new ArrayList<>(1);
+      }
+      values.add(value);
+    }
+
+    private void collect(List<T> result) {
+      if (values != null) {
+        result.addAll(values);
+      }
+      for (int i = 0; i < characters.length; i++) {
+        children[i].collect(result);
+      }
+    }
+  }
+}
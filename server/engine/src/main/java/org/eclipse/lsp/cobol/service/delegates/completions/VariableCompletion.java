@@ -14,25 +14,25 @@
  */
 package org.eclipse.lsp.cobol.service.delegates.completions;
 
-import com.google.common.collect.Multimap;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import lombok.NonNull;
-import org.eclipse.lsp.cobol.common.model.tree.ProgramNode;
 import org.eclipse.lsp.cobol.common.model.tree.variable.VariableNode;
 import org.eclipse.lsp.cobol.core.engine.symbols.SymbolsRepository;
 import org.eclipse.lsp.cobol.common.utils.ImplicitCodeUtils;
 import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.Position;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.Objects;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
-import static org.eclipse.lsp.cobol.common.model.tree.Node.hasType;
-import static org.eclipse.lsp.cobol.common.model.NodeType.PROGRAM;
 import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrder.CONSTANTS;
 import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrder.VARIABLES;
 import static org.eclipse.lsp4j.CompletionItemKind.Constant;
@@ -40,46 +40,69 @@ import static org.eclipse.lsp4j.CompletionItemKind.Variable;
 
 /**
  * This completion provider returns all the defined variables as completion suggestions and their
- * definition as documentation
+ * definition as documentation. The definition is resolved only for the item the client shows, the
+ * item data keeps the document and the position of the variable to find it.
  */
 @Singleton
 public class VariableCompletion implements Completion {
+  static final String DOCUMENT_URI = "uri";
+  static final String DEFINITION_URI = "definitionUri";
+  static final String LINE = "line";
+  static final String CHARACTER = "character";
 
-  private final SymbolsRepository symbolsRepository;
+  private final DocumentCandidates<VariableNode> candidates;
 
   @Inject
   public VariableCompletion(SymbolsRepository symbolsRepository) {
-    this.symbolsRepository = symbolsRepository;
+    candidates = new DocumentCandidates<>((program, trie) -> symbolsRepository.getVariables(program).values()
+        .forEach(variable -> trie.put(variable.getName(), variable)));
   }
 
   @Override
   public @NonNull Collection<CompletionItem> getCompletionItems(
       @NonNull String token, @Nullable CobolDocumentModel document) {
     if (!isDocumentReadyForSemanticCollection(document)) return emptyList();
-    return document
-        .getLastAnalysisResult()
-        .getRootNode()
-        .getDepthFirstStream()
-        .filter(hasType(PROGRAM))
-        .map(ProgramNode.class::cast)
-        .map(symbolsRepository::getVariables)
-        .map(Multimap::values)
-        .flatMap(Collection::stream)
-        .filter(matchNames(token))
-        .map(this::toCompletionItem)
+    return candidates.get(document.getLastAnalysisResult())
+        .findByPrefix(token)
+        .stream()
+        .map(it -> toCompletionItem(it, document.getUri()))
         .collect(toList());
   }
 
-  private Predicate<VariableNode> matchNames(@NonNull String token) {
-    return it -> it.getName().regionMatches(true, 0, token, 0, token.length());
+  @Override
+  public boolean resolve(@NonNull CompletionItem item, @Nullable CobolDocumentModel document) {
+    if (item.getKind() != Variable && item.getKind() != Constant) return false;
+    if (isDocumentReadyForSemanticCollection(document)) {
+      List<VariableNode> variables = candidates.get(document.getLastAnalysisResult()).get(item.getLabel());
+      VariableNode variable = variables.stream()
+          .filter(it -> isDefinedAt(it, item.getData()))
+          .findFirst()
+          .orElse(variables.isEmpty() ? null : variables.get(0));
+      if (variable != null) item.setDocumentation(variable.getFullVariableDescription());
+    }
+    return true;
+  }
+
+  private static boolean isDefinedAt(VariableNode variable, Object data) {
+    if (!(data instanceof JsonObject)) return false;
+    JsonObject json = (JsonObject) data;
+    Position start = variable.getLocality().getRange().getStart();
+    return Objects.equals(getString(json, DEFINITION_URI), variable.getLocality().getUri())
+        && json.has(LINE) && json.get(LINE).getAsInt() == start.getLine()
+        && json.has(CHARACTER) && json.get(CHARACTER).getAsInt() == start.getCharacter();
   }
 
-  private CompletionItem toCompletionItem(VariableNode it) {
+  private static String getString(JsonObject json, String property) {
+    JsonElement element = json.get(property);
+    return element == null || element.isJsonNull() ? null : element.getAsString();
+  }
+
+  private CompletionItem toCompletionItem(VariableNode it, String documentUri) {
     String name = it.getName();
     CompletionItem item = new CompletionItem(name);
     item.setLabel(name);
     item.setInsertText(name);
-    item.setDocumentation(it.getFullVariableDescription());
+    item.setData(createData(it, documentUri));
     if (ImplicitCodeUtils.isImplicit(it.getLocality().getUri())) {
       item.setSortText(CONSTANTS.prefix + name);
       item.setKind(Constant);
@@ -89,4 +112,14 @@ public class VariableCompletion implements Completion {
     }
     return item;
   }
+
+  private static JsonObject createData(VariableNode variable, String documentUri) {
+    Position start = variable.getLocality().getRange().getStart();
+    JsonObject data = new JsonObject();
+    data.addProperty(DOCUMENT_URI, documentUri);
+    data.addProperty(DEFINITION_URI, variable.getLocality().getUri());
+    data.addProperty(LINE, start.getLine());
+    data.addProperty(CHARACTER, start.getCharacter());
+    return data;
+  }
 }
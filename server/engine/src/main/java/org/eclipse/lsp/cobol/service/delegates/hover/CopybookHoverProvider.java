@@ -19,9 +19,7 @@ import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import lombok.NonNull;
-import org.eclipse.lsp.cobol.common.AnalysisResult;
 import org.eclipse.lsp.cobol.common.model.tree.CopyNode;
-import org.eclipse.lsp.cobol.common.utils.RangeUtils;
 import org.eclipse.lsp.cobol.lsp.SourceUnitGraph;
 import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
@@ -53,8 +51,7 @@ public class CopybookHoverProvider implements HoverProvider {
     }
     return Optional.ofNullable(document)
             .map(CobolDocumentModel::getAnalysisResult)
-            .map(AnalysisResult::getRootNode)
-            .flatMap(root -> RangeUtils.findNodeByPosition(root, uri, hoverPosition))
+            .flatMap(result -> result.findNodeByPosition(uri, hoverPosition))
             .filter(CopyNode.class::isInstance)
             .map(CopyNode.class::cast)
             .filter(node -> node.getUri() != null)
@@ -16,6 +16,8 @@ package org.eclipse.lsp.cobol.service.settings;
 
 import static org.eclipse.lsp.cobol.service.settings.SettingsParametersEnum.*;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -26,26 +28,122 @@ import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.lsp.cobol.common.AnalysisConfig;
 import org.eclipse.lsp.cobol.common.copybook.CopybookProcessingMode;
 import org.eclipse.lsp.cobol.core.engine.dialects.DialectService;
+import org.eclipse.lsp.cobol.service.CobolDocumentModel;
+import org.eclipse.lsp.cobol.service.DocumentModelService;
 import org.eclipse.lsp.cobol.service.utils.ServerTypeUtil;
 
-/** This service fetches configuration settings from the client. */
+/**
+ * This service fetches configuration settings from the client. The settings are kept per scope
+ * until the client notifies about a configuration change. Then the settings of the opened documents
+ * are fetched again in the background, and the other scopes are refreshed when they are requested.
+ * The last known settings of an opened document are served while its refresh is in flight, since the
+ * document is analyzed again when the refresh completes. The other scopes wait for the new settings
+ * after a configuration change, so their next analysis does not run with the old ones.
+ */
 @Slf4j
 @Singleton
 public class CachingConfigurationService implements ConfigurationService {
+  private static final String NO_SCOPE = "";
+  private static final int MAX_CACHED_SCOPES = 256;
+
   private final SettingsService settingsService;
   private final DialectService dialectService;
+  private final DocumentModelService documentModelService;
+  private final Cache<String, CachedConfiguration> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SCOPES).build();
 
   @Inject
-  public CachingConfigurationService(SettingsService settingsService, DialectService dialectService) {
+  public CachingConfigurationService(SettingsService settingsService,
+                                     DialectService dialectService,
+                                     DocumentModelService documentModelService) {
     this.settingsService = settingsService;
     this.dialectService = dialectService;
+    this.documentModelService = documentModelService;
+  }
+
+  @Override
+  public CompletableFuture<Void> invalidateCache() {
+    List<String> dialectsSections = getDialectsSections();
+    List<CompletableFuture<ConfigurationEntity>> refreshes = new ArrayList<>();
+    for (String scope : new ArrayList<>(cache.asMap().keySet())) {
+      cache.asMap().computeIfPresent(scope, (key, cached) -> {
+        if (!isOpened(key)) {
+          return cached.toStale();
+        }
+        CachedConfiguration refreshed = refresh(toScopeURI(key), dialectsSections, cached);
+        refreshes.add(refreshed.getEntity());
+        return refreshed;
+      });
+    }
+    return CompletableFuture.allOf(refreshes.toArray(new CompletableFuture[0])).exceptionally(e -> null);
+  }
+
+  /**
+   * Forget the settings of the scope, e.g. when the state of a closed document is released
+   *
+   * @param scopeURI scope URI
+   */
+  public void release(String scopeURI) {
+    cache.invalidate(Optional.ofNullable(scopeURI).orElse(NO_SCOPE));
+  }
+
+  /**
+   * Get the settings of the scope from the cache. They are fetched from the client if the scope
+   * has not been requested yet, the settings are stale or the last request failed, or the dialects
+   * settings sections have changed since then. The last known settings are returned without waiting
+   * while they are fetched again, unless they are stale after a configuration change.
+   */
+  private ConfigurationEntity getConfigEntity(String scopeURI) throws InterruptedException, ExecutionException {
+    List<String> dialectsSections = getDialectsSections();
+    CachedConfiguration cached = cache.asMap().compute(Optional.ofNullable(scopeURI).orElse(NO_SCOPE),
+        (scope, current) -> {
+          if (current == null || current.isStale()) {
+            return refresh(scopeURI, dialectsSections, null);
+          }
+          return current.getEntity().isCompletedExceptionally() || !current.getDialectsSections().equals(dialectsSections)
+              ? refresh(scopeURI, dialectsSections, current)
+              : current;
+        });
+    CompletableFuture<ConfigurationEntity> entity = cached.getEntity();
+    if (cached.getLastKnown() == null || (entity.isDone() && !entity.isCompletedExceptionally())) {
+      return entity.get();
+    }
+    return cached.getLastKnown();
+  }
+
+  private boolean isOpened(String scope) {
+    if (NO_SCOPE.equals(scope)) {
+      return true;
+    }
+    CobolDocumentModel document = documentModelService.get(scope);
+    return document != null && document.isOpened();
+  }
+
+  /** Fetch the settings again, the known settings are kept if they were requested with the same sections */
+  private CachedConfiguration refresh(String scopeURI, List<String> dialectsSections, CachedConfiguration current) {
+    ConfigurationEntity lastKnown = current != null && current.getDialectsSections().equals(dialectsSections)
+        ? current.getLastCompleted()
+        : null;
+    return new CachedConfiguration(dialectsSections, createConfigFuture(scopeURI, dialectsSections), lastKnown, false);
   }
 
-  private CompletableFuture<ConfigurationEntity> createConfigFuture(String documentURI) {
+  private static String toScopeURI(String scope) {
+    return NO_SCOPE.equals(scope) ? null : scope;
+  }
+
+  private List<String> getDialectsSections() {
+    return Stream.concat(
+            dialectService.getSettingsSections().stream(),
+            dialectService.getImplicitDialectSettingsSections().stream())
+        .collect(Collectors.toList());
+  }
+
+  private CompletableFuture<ConfigurationEntity> createConfigFuture(String documentURI, List<String> dialectsSections) {
     List<String> settingsList = new LinkedList<>(Arrays.asList(
         DIALECTS.label,
         SUBROUTINE_LOCAL_PATHS.label,
@@ -53,11 +151,6 @@ public class CachingConfigurationService implements ConfigurationService {
         DIALECT_REGISTRY.label,
         COMPILER_OPTIONS.label));
 
-    List<String> dialectsSections = Stream.concat(
-            dialectService.getSettingsSections().stream(),
-            dialectService.getImplicitDialectSettingsSections().stream())
-            .collect(Collectors.toList());
-
     settingsList.addAll(dialectsSections);
 
     return Optional.ofNullable(settingsService.fetchConfigurations(documentURI, settingsList))
@@ -72,13 +165,13 @@ public class CachingConfigurationService implements ConfigurationService {
   @SuppressWarnings("java:S2142")
   public AnalysisConfig getConfig(String scopeURI, CopybookProcessingMode mode) {
     try {
-      AnalysisConfig config = AnalysisConfigHelper.fromConfigEntity(mode, createConfigFuture(scopeURI).get());
+      AnalysisConfig config = AnalysisConfigHelper.fromConfigEntity(mode, getConfigEntity(scopeURI));
       if (ServerTypeUtil.isNativeServerType()) {
         return config;
       }
       if (dialectService.updateDialects(config.getDialectRegistry())) {
-        // if list of dialects were changed - request config one more time
-        config = AnalysisConfigHelper.fromConfigEntity(mode, createConfigFuture(scopeURI).get());
+        // if list of dialects were changed - the settings sections are different, so the config is requested one more time
+        config = AnalysisConfigHelper.fromConfigEntity(mode, getConfigEntity(scopeURI));
       }
       return config;
     } catch (InterruptedException e) {
@@ -93,7 +186,7 @@ public class CachingConfigurationService implements ConfigurationService {
   @Override
   public List<String> getSubroutineDirectories() {
     try {
-      return createConfigFuture(null).get().getSubroutines();
+      return getConfigEntity(null).getSubroutines();
     } catch (InterruptedException e) {
       LOG.error("Issue while resolving subroutine configuration", e);
       Thread.currentThread().interrupt();
@@ -141,4 +234,24 @@ public class CachingConfigurationService implements ConfigurationService {
     }
     return result;
   }
+
+  /**
+   * Settings of a scope together with the dialects settings sections they were requested with. The
+   * last known settings are served while the entity is fetched again.
+   */
+  @Value
+  private static class CachedConfiguration {
+    List<String> dialectsSections;
+    CompletableFuture<ConfigurationEntity> entity;
+    ConfigurationEntity lastKnown;
+    boolean stale;
+
+    CachedConfiguration toStale() {
+      return new CachedConfiguration(dialectsSections, entity, lastKnown, true);
+    }
+
+    ConfigurationEntity getLastCompleted() {
+      return entity.isDone() && !entity.isCompletedExceptionally() ? entity.getNow(null) : lastKnown;
+    }
+  }
 }
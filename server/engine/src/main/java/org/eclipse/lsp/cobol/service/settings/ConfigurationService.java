@@ -31,7 +31,7 @@ public interface ConfigurationService {
 
   /**
    * Get a configuration for the analysis using the settings file and the given copybook processing
-   * mode. Blocks the execution until the configuration is resolved.
+   * mode. Blocks the execution until the configuration is resolved if it is not known yet.
    *
    * @param scopeURI scope URI
    * @param mode the mode of copybook processing for this analysis
@@ -39,6 +39,15 @@ public interface ConfigurationService {
    */
   AnalysisConfig getConfig(String scopeURI, CopybookProcessingMode mode);
 
+  /**
+   * Mark the known client settings as outdated after they were changed. The settings of the opened
+   * documents are fetched again in the background, the other scopes are fetched when requested. The
+   * last known settings are served until the new ones arrive.
+   *
+   * @return a future that completes when the settings of the opened documents are fetched
+   */
+  CompletableFuture<Void> invalidateCache();
+
   /**
    * Gets a client configuration for the Subroutine settings
    *
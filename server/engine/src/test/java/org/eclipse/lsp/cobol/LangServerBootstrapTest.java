@@ -15,7 +15,13 @@
 
 package org.eclipse.lsp.cobol;
 
+import com.google.gson.JsonObject;
 import com.google.inject.Injector;
+import java.lang.reflect.Field;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkSession;
+import org.eclipse.lsp.cobol.core.engine.CobolLanguageEngine;
+import org.eclipse.lsp.cobol.lsp.handlers.extended.MetricsHandler;
 import org.eclipse.lsp.cobol.lsp.jrpc.CobolLanguageClient;
 import org.eclipse.lsp.cobol.lsp.CobolLanguageServer;
 import org.eclipse.lsp.cobol.service.mocks.MockLanguageServer;
@@ -56,6 +62,25 @@ class LangServerBootstrapTest {
     assertNotNull(cacheSize);
   }
 
+  /** The engine records the stage timings into the same benchmark service that the metrics report */
+  @Test
+  void metricsReportEngineTimings() throws ReflectiveOperationException {
+    Injector injector = LangServerBootstrap.initCtx();
+    CobolLanguageEngine engine = injector.getInstance(CobolLanguageEngine.class);
+    MetricsHandler metricsHandler = injector.getInstance(MetricsHandler.class);
+    Field field = CobolLanguageEngine.class.getDeclaredField("benchmarkService");
+    field.setAccessible(true);
+    BenchmarkService benchmarkService = (BenchmarkService) field.get(engine);
+
+    BenchmarkSession session = benchmarkService.startSession();
+    session.measure("Parsing", () -> null);
+    benchmarkService.logTiming(session);
+
+    JsonObject metrics = metricsHandler.metrics();
+    assertEquals(1, metrics.get("sessions").getAsLong());
+    assertTrue(metrics.getAsJsonObject("stages").has("Parsing"));
+  }
+
   @Test
   void isPipeEnabledPositive() {
     String[] args = new String[] {PIPES};
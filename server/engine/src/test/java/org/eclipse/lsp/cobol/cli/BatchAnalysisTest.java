@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonObject;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.lsp.cobol.common.AnalysisConfig;
+import org.eclipse.lsp.cobol.cli.di.CliModule;
+import org.eclipse.lsp.cobol.cli.modules.CliClientProvider;
+import org.eclipse.lsp.cobol.common.AnalysisResult;
+import org.eclipse.lsp.cobol.common.benchmark.BenchmarkService;
+import org.eclipse.lsp.cobol.common.copybook.CopybookProcessingMode;
+import org.eclipse.lsp.cobol.common.dialects.CobolLanguageId;
+import org.eclipse.lsp.cobol.core.engine.CobolLanguageEngine;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test for {@link BatchAnalysis} */
+class BatchAnalysisTest {
+  @TempDir
+  Path folder;
+
+  @Test
+  void testProgramsOfFolderAndList() throws IOException {
+    File first = write("src/B.cbl", "");
+    File second = write("src/nested/A.COB", "");
+    write("src/C.cpy", "");
+    File listed = write("other/D.txt", "");
+    File list = write("list.txt", listed.getPath() + "\n\n  " + first.getPath() + "\n");
+
+    List<File> programs = BatchAnalysis.collectPrograms(folder.resolve("src").toFile(), list,
+        ImmutableList.of(".cbl", "cob"));
+
+    assertEquals(ImmutableList.of(first, second, listed), programs);
+  }
+
+  @Test
+  void testReport() throws Exception {
+    File clean = write("CLEAN.cbl", "CLEAN");
+    File broken = write("BROKEN.cbl", "BROKEN");
+    CobolLanguageEngine engine = mock(CobolLanguageEngine.class);
+    BenchmarkService benchmarkService = mock(BenchmarkService.class);
+    AnalysisConfig config = AnalysisConfig.defaultConfig(CopybookProcessingMode.ENABLED);
+    String brokenUri = broken.toURI().toString();
+    Diagnostic error = new Diagnostic(new Range(new Position(1, 2), new Position(1, 5)), "Syntax error",
+        DiagnosticSeverity.Error, "COBOL Language Support (P)");
+    when(engine.run(eq(clean.toURI().toString()), eq("CLEAN"), eq(config), eq(CobolLanguageId.COBOL)))
+        .thenReturn(AnalysisResult.builder().build());
+    when(engine.run(eq(brokenUri), eq("BROKEN"), any(), any()))
+        .thenReturn(AnalysisResult.builder().diagnostics(ImmutableMap.of(brokenUri, ImmutableList.of(error))).build());
+    when(benchmarkService.getMetrics()).thenReturn(new JsonObject());
+
+    JsonObject report = new BatchAnalysis(engine, benchmarkService, config, 2).run(ImmutableList.of(clean, broken));
+
+    JsonObject summary = report.getAsJsonObject("summary");
+    assertEquals(2, summary.get("files").getAsInt());
+    assertEquals(0, summary.get("failed").getAsInt());
+    assertEquals(1, summary.getAsJsonObject("diagnostics").get("Error").getAsInt());
+    JsonObject brokenResult = report.getAsJsonArray("files").get(1).getAsJsonObject();
+    assertEquals(brokenUri, brokenResult.get("uri").getAsString());
+    assertEquals("Syntax error", brokenResult.getAsJsonObject("diagnostics").getAsJsonArray(brokenUri)
+        .get(0).getAsJsonObject().get("message").getAsString());
+    assertFalse(BatchAnalysis.isClean(report));
+  }
+
+  @Test
+  void testFailedProgramIsReported() throws Exception {
+    File missing = folder.resolve("MISSING.cbl").toFile();
+    BenchmarkService benchmarkService = mock(BenchmarkService.class);
+    when(benchmarkService.getMetrics()).thenReturn(new JsonObject());
+
+    JsonObject report = new BatchAnalysis(mock(CobolLanguageEngine.class), benchmarkService,
+        AnalysisConfig.defaultConfig(CopybookProcessingMode.ENABLED), 1).run(ImmutableList.of(missing));
+
+    assertEquals(1, report.getAsJsonObject("summary").get("failed").getAsInt());
+    assertTrue(report.getAsJsonArray("files").get(0).getAsJsonObject().has("error"));
+    assertFalse(BatchAnalysis.isClean(report));
+  }
+
+  /** The report takes the timings from the benchmark service that the engine records into */
+  @Test
+  void testTimingsOfEngine() throws Exception {
+    File program = write("HELLO.cbl", String.join("\n",
+        "       IDENTIFICATION DIVISION.",
+        "       PROGRAM-ID. HELLO.",
+        "       PROCEDURE DIVISION.",
+        "           DISPLAY 'HELLO'.",
+        "           GOBACK."));
+    Injector injector = Guice.createInjector(new CliModule());
+    CliClientProvider clientProvider = injector.getInstance(CliClientProvider.class);
+    clientProvider.setCpyPaths(Collections.emptyList());
+    clientProvider.setCpyExt(ImmutableList.of("", ".cpy"));
+
+    JsonObject report = new BatchAnalysis(injector.getInstance(CobolLanguageEngine.class),
+        injector.getInstance(BenchmarkService.class), AnalysisConfig.defaultConfig(CopybookProcessingMode.ENABLED), 1)
+        .run(ImmutableList.of(program));
+
+    JsonObject timings = report.getAsJsonObject("timings");
+    assertEquals(0, report.getAsJsonObject("summary").get("failed").getAsInt());
+    assertEquals(1, timings.get("sessions").getAsLong());
+    assertFalse(timings.getAsJsonObject("stages").entrySet().isEmpty());
+  }
+
+  private File write(String path, String text) throws IOException {
+    Path file = folder.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, text.getBytes());
+    return file.toFile();
+  }
+}
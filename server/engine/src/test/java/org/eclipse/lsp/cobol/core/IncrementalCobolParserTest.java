@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.core.strategy.CobolErrorStrategy;
+import org.eclipse.lsp.cobol.core.visitor.InterruptingTreeListener;
+import org.eclipse.lsp.cobol.dialects.ibm.IbmTextPreprocessor;
+import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential test of {@link IncrementalCobolParser}: every edit of the paragraphs of the sample
+ * programs is parsed incrementally and from scratch, and both parses must produce the same tree,
+ * tokens and errors.
+ */
+class IncrementalCobolParserTest {
+  private static final String PROGRAM =
+      "       IDENTIFICATION DIVISION.\n"
+          + "       PROGRAM-ID. TEST1.\n"
+          + "       DATA DIVISION.\n"
+          + "       WORKING-STORAGE SECTION.\n"
+          + "       01 CNT PIC 9(4) VALUE 0.\n"
+          + "       PROCEDURE DIVISION.\n"
+          + "       MAIN-PARA.\n"
+          + "           PERFORM CALC-PARA.\n"
+          + "           DISPLAY 'DONE'.\n"
+          + "       CALC-PARA.\n"
+          + "           ADD 1 TO CNT.\n"
+          + "           IF CNT > 10\n"
+          + "              DISPLAY 'BIG'\n"
+          + "           END-IF.\n"
+          + "       OUT-SECT SECTION.\n"
+          + "       OUT-PARA.\n"
+          + "           DISPLAY CNT.\n"
+          + "           GOBACK.\n";
+
+  private final MessageService messageService =
+      mock(MessageService.class, invocation -> invocation.getMethod().getReturnType() == String.class ? "error" : null);
+
+  @Test
+  void testEditedParagraphsAreParsedAsFullParse() throws IOException, URISyntaxException {
+    int incremental = 0;
+    for (String program : getPrograms()) {
+      Parse original = parse(program, null);
+      if (!original.getSnapshot().isPresent()) {
+        continue;
+      }
+      for (String edited : getEdits(program, original.tree)) {
+        Parse full = parse(edited, null);
+        Parse partial = parse(edited, original.getSnapshot().get());
+        assertEquals(full.dump(), partial.dump(), edited);
+        assertEquals(full.errors, partial.errors, edited);
+        assertEquals(full.getSnapshot().isPresent(), partial.getSnapshot().isPresent(), edited);
+        if (partial.parser.isIncremental()) {
+          incremental++;
+        }
+      }
+    }
+    assertTrue(incremental > 0);
+  }
+
+  @Test
+  void testUnchangedTextIsCopied() {
+    Parse original = parse(PROGRAM, null);
+    Parse copy = parse(PROGRAM, original.getSnapshot().get());
+
+    assertTrue(copy.parser.isIncremental());
+    assertEquals(original.dump(), copy.dump());
+  }
+
+  @Test
+  void testEditOutsideOfParagraphsIsParsedFully() {
+    Parse original = parse(PROGRAM, null);
+    Parse edited = parse(PROGRAM.replace("VALUE 0", "VALUE 1"), original.getSnapshot().get());
+
+    assertFalse(edited.parser.isIncremental());
+    assertEquals(parse(PROGRAM.replace("VALUE 0", "VALUE 1"), null).dump(), edited.dump());
+  }
+
+  private List<String> getPrograms() throws IOException, URISyntaxException {
+    CodeLayoutStore layoutStore = mock(CodeLayoutStore.class);
+    when(layoutStore.getCodeLayout()).thenReturn(Optional.empty());
+    IbmTextPreprocessor preprocessor = new IbmTextPreprocessor(messageService, layoutStore);
+    List<String> programs = new ArrayList<>();
+    programs.add(PROGRAM);
+    Path folder = Paths.get(getClass().getResource("/cfast").toURI());
+    try (Stream<Path> files = Files.list(folder)) {
+      for (Path file : files.sorted().collect(Collectors.toList())) {
+        String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        programs.add(preprocessor.cleanUpCode(file.toUri().toString(), text).getResult().toString());
+      }
+    }
+    return programs;
+  }
+
+  /** Insert, delete and break the sentences and the paragraphs around each paragraph */
+  private static List<String> getEdits(String text, ParseTree tree) {
+    List<String> edits = new ArrayList<>();
+    List<CobolParser.ParagraphContext> paragraphs = new ArrayList<>();
+    collectParagraphs(tree, paragraphs);
+    for (CobolParser.ParagraphContext paragraph : paragraphs) {
+      int start = paragraph.getStart().getStartIndex();
+      int end = paragraph.getStop().getStopIndex() + 1;
+      edits.add(insert(text, end, "\n           DISPLAY 'INSERTED'."));
+      edits.add(insert(text, end, "\n       NEW-PARA.\n           MOVE 1 TO CNT."));
+      edits.add(insert(text, start + 1, "X"));
+      edits.add(insert(text, end, " "));
+      edits.add(text.substring(0, end - 1) + text.substring(end));
+      List<CobolParser.SentenceContext> sentences = paragraph.getRuleContexts(CobolParser.SentenceContext.class);
+      if (!sentences.isEmpty()) {
+        CobolParser.SentenceContext last = sentences.get(sentences.size() - 1);
+        edits.add(text.substring(0, last.getStart().getStartIndex()) + text.substring(last.getStop().getStopIndex() + 1));
+        edits.add(insert(text, last.getStart().getStartIndex(), "DISPLAY 'FIRST' "));
+      }
+    }
+    return edits;
+  }
+
+  private static String insert(String text, int offset, String value) {
+    return text.substring(0, offset) + value + text.substring(offset);
+  }
+
+  private static void collectParagraphs(ParseTree node, List<CobolParser.ParagraphContext> paragraphs) {
+    if (node instanceof CobolParser.ParagraphContext) {
+      paragraphs.add((CobolParser.ParagraphContext) node);
+    }
+    for (int i = 0; i < node.getChildCount(); i++) {
+      collectParagraphs(node.getChild(i), paragraphs);
+    }
+  }
+
+  private Parse parse(String text, IncrementalCobolParser.Snapshot previous) {
+    List<String> errors = new ArrayList<>();
+    BaseErrorListener listener = new BaseErrorListener() {
+      @Override
+      public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                              String msg, RecognitionException e) {
+        errors.add(line + ":" + charPositionInLine + " " + msg);
+      }
+    };
+    IncrementalCobolParser parser = new IncrementalCobolParser(text, previous, listener,
+        new CobolErrorStrategy(messageService), new InterruptingTreeListener());
+    return new Parse(parser, parser.runParser(), errors);
+  }
+
+  /** A parse result with the parser state */
+  private static final class Parse {
+    private final IncrementalCobolParser parser;
+    private final ParserRuleContext tree;
+    private final List<String> errors;
+
+    Parse(IncrementalCobolParser parser, ParserRuleContext tree, List<String> errors) {
+      this.parser = parser;
+      this.tree = tree;
+      this.errors = errors;
+    }
+
+    Optional<IncrementalCobolParser.Snapshot> getSnapshot() {
+      return parser.getSnapshot();
+    }
+
+    String dump() {
+      StringBuilder result = new StringBuilder();
+      dump(tree, null, result);
+      for (Token token : parser.getTokens().getTokens()) {
+        result.append('\n').append(describe(token));
+      }
+      return result.toString();
+    }
+
+    private static void dump(ParseTree node, ParseTree parent, StringBuilder result) {
+      assertTrue(node.getParent() == parent, "Wrong parent of " + node.getText());
+      if (node instanceof TerminalNode) {
+        result.append(' ').append(describe(((TerminalNode) node).getSymbol()));
+        return;
+      }
+      ParserRuleContext context = (ParserRuleContext) node;
+      result.append(" (").append(context.getClass().getSimpleName()).append(' ').append(context.invokingState)
+          .append(' ').append(describe(context.getStart())).append(' ').append(describe(context.getStop()));
+      for (int i = 0; i < context.getChildCount(); i++) {
+        dump(context.getChild(i), context, result);
+      }
+      result.append(')');
+    }
+
+    private static String describe(Token token) {
+      if (token == null) {
+        return "null";
+      }
+      return token.getType() + ":" + token.getText() + "@" + token.getLine() + "," + token.getCharPositionInLine()
+          + "[" + token.getStartIndex() + "-" + token.getStopIndex() + "]#" + token.getTokenIndex() + "/" + token.getChannel();
+    }
+  }
+}
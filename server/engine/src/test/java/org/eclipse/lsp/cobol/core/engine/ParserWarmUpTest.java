@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core.engine;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.core.ParserRuntime;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link ParserWarmUp} fills the DFA caches of the main grammars */
+class ParserWarmUpTest {
+  @Test
+  void testAllGrammarsAreWarmedUp() {
+    ParserRuntime.resetDfa(0);
+
+    MessageService messageService =
+        mock(MessageService.class, invocation -> invocation.getMethod().getReturnType() == String.class ? "error" : null);
+    new ParserWarmUp(messageService).warmUp();
+
+    Map<String, Integer> states = ParserRuntime.getDfaStates();
+    assertTrue(states.get("CobolPreprocessor") > 0, states::toString);
+    assertTrue(states.get("Db2SqlParser") > 0, states::toString);
+    assertTrue(states.get("CICSParser") > 0, states::toString);
+    assertTrue(states.get("CobolParser") > 0, states::toString);
+    assertTrue(states.get("CobolLexer") > 0, states::toString);
+  }
+}
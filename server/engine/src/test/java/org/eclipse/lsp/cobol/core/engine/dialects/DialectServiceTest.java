@@ -115,4 +115,27 @@ class DialectServiceTest {
     inOrder.verify(dialect2).extend(context);
     inOrder.verify(dialect1).extend(context);
   }
+
+  @Test
+  void testNextDialectsArePreparedBeforeProcessing() {
+    DialectProcessingContext context = mock(DialectProcessingContext.class);
+    when(context.getExtendedDocument()).thenReturn(mock(ExtendedDocument.class));
+
+    CobolDialect dialect1 = configureDialect(context, "1");
+    CobolDialect dialect2 = configureDialect(context, "2");
+    when(ddService.loadDialects(URI.create(""), copybookService, messageService)).thenReturn(ImmutableList.of(dialect1, dialect2));
+    dialectService.updateDialects(ImmutableList.of(
+        new DialectRegistryItem(dialect1.getName(), URI.create(""), "", "extensionId"),
+        new DialectRegistryItem(dialect2.getName(), URI.create(""), "", "extensionId")));
+
+    dialectService.process(ImmutableList.of("1", "2"), context);
+
+    InOrder inOrder = inOrder(dialect1, dialect2);
+    inOrder.verify(dialect1).processText(context);
+    inOrder.verify(dialect2).processText(context);
+    verify(dialect1, never()).prepare(any(), any());
+    InOrder preparation = inOrder(dialect2);
+    preparation.verify(dialect2).prepare(eq(context), anyString());
+    preparation.verify(dialect2).processText(context);
+  }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core.engine.symbols;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.lsp.cobol.common.model.Locality;
+import org.eclipse.lsp.cobol.common.model.tree.*;
+import org.eclipse.lsp.cobol.core.engine.symbols.WorkspaceSymbolIndex.Category;
+import org.eclipse.lsp.cobol.core.engine.symbols.WorkspaceSymbolIndex.IndexedSymbol;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test for {@link WorkspaceSymbolIndex} */
+class WorkspaceSymbolIndexTest {
+  private static final String MAIN_URI = "file:///c:/workspace/MAIN.cbl";
+  private static final String UTIL_URI = "file:///c:/workspace/UTIL.cbl";
+  private static final String TEXT = "       IDENTIFICATION DIVISION.";
+
+  @TempDir
+  Path folder;
+
+  @Test
+  void testSearchByWordPrefix() {
+    WorkspaceSymbolIndex index = new WorkspaceSymbolIndex(null, MoreExecutors.directExecutor());
+    index.update(MAIN_URI, TEXT, program(MAIN_URI, "MAIN", "READ-CUSTOMER", "UTIL"));
+    index.update(UTIL_URI, TEXT, program(UTIL_URI, "UTIL", "CUSTOMER-TOTALS", null));
+
+    assertEquals(ImmutableList.of("READ-CUSTOMER", "CUSTOMER-TOTALS"), names(index.search("cust", 10)));
+    assertEquals(ImmutableList.of("MAIN"), names(index.search("MAI", 10)));
+    assertEquals(1, index.search("", 1).size());
+    assertEquals(Category.PARAGRAPH, index.search("READ", 10).get(0).getCategory());
+    assertEquals("MAIN", index.search("READ", 10).get(0).getContainer());
+  }
+
+  @Test
+  void testCrossProgramQueries() {
+    WorkspaceSymbolIndex index = new WorkspaceSymbolIndex(null, MoreExecutors.directExecutor());
+    index.update(MAIN_URI, TEXT, program(MAIN_URI, "MAIN", "READ-CUSTOMER", "UTIL"));
+    index.update(UTIL_URI, TEXT, program(UTIL_URI, "UTIL", "CUSTOMER-TOTALS", null));
+
+    assertEquals(ImmutableList.of(location(UTIL_URI, 0)), index.findPrograms("util"));
+    assertEquals(ImmutableList.of(location(MAIN_URI, 2)), index.findCalls("Util"));
+    assertTrue(index.findPrograms("READ-CUSTOMER").isEmpty());
+  }
+
+  @Test
+  void testUpdateReplacesDocumentSymbols() {
+    WorkspaceSymbolIndex index = new WorkspaceSymbolIndex(null, MoreExecutors.directExecutor());
+    index.update(MAIN_URI, TEXT, program(MAIN_URI, "MAIN", "READ-CUSTOMER", "UTIL"));
+    index.update(MAIN_URI, TEXT, program(MAIN_URI, "MAIN", "WRITE-CUSTOMER", null));
+
+    assertEquals(ImmutableList.of("WRITE-CUSTOMER"), names(index.search("CUSTOMER", 10)));
+    assertTrue(index.findCalls("UTIL").isEmpty());
+
+    index.remove(MAIN_URI);
+    assertTrue(index.search("", 10).isEmpty());
+  }
+
+  @Test
+  void testStoredSymbolsAreLoaded() throws IOException {
+    Path index = folder.resolve("index");
+    String uri = save("MAIN.cbl", TEXT);
+    new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor())
+        .update(uri, TEXT, program(uri, "MAIN", "READ-CUSTOMER", "UTIL"));
+    WorkspaceSymbolIndex loaded = new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor());
+
+    assertEquals(ImmutableList.of("READ-CUSTOMER"), names(loaded.search("CUSTOMER", 10)));
+    assertEquals(ImmutableList.of(location(uri, 2)), loaded.findCalls("UTIL"));
+
+    loaded.remove(uri);
+    assertTrue(new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor()).search("", 10).isEmpty());
+  }
+
+  @Test
+  void testSymbolsOfChangedFileAreNotLoaded() throws IOException {
+    Path index = folder.resolve("index");
+    String uri = save("MAIN.cbl", TEXT);
+    WorkspaceSymbolIndex symbolIndex = new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor());
+    symbolIndex.update(uri, TEXT, program(uri, "MAIN", "READ-CUSTOMER", null));
+    symbolIndex.update(uri, TEXT + " ", program(uri, "MAIN", "WRITE-CUSTOMER", null));
+
+    assertEquals(ImmutableList.of("WRITE-CUSTOMER"), names(symbolIndex.search("CUSTOMER", 10)));
+    assertEquals(ImmutableList.of("READ-CUSTOMER"),
+        names(new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor()).search("CUSTOMER", 10)));
+
+    save("MAIN.cbl", TEXT + "\n");
+    assertTrue(new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor()).search("", 10).isEmpty());
+  }
+
+  @Test
+  void testPendingWritesAreCoalesced() throws IOException {
+    Path index = folder.resolve("index");
+    String uri = save("MAIN.cbl", TEXT);
+    List<Runnable> writes = new ArrayList<>();
+    WorkspaceSymbolIndex symbolIndex = new WorkspaceSymbolIndex(index, writes::add);
+    symbolIndex.update(uri, TEXT, program(uri, "MAIN", "READ-CUSTOMER", null));
+    symbolIndex.update(uri, TEXT, program(uri, "MAIN", "WRITE-CUSTOMER", null));
+
+    assertEquals(2, writes.size());
+    writes.forEach(Runnable::run);
+    assertEquals(ImmutableList.of("WRITE-CUSTOMER"),
+        names(new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor()).search("CUSTOMER", 10)));
+    try (Stream<Path> files = Files.list(index)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  void testSymbolsOfNonUtf8FileAreLoaded() throws IOException {
+    Path index = folder.resolve("index");
+    Charset charset = Charset.forName("windows-1252");
+    String text = "       DISPLAY 'CAF\u00C9'.";
+    String uri = save("MAIN.cbl", text.getBytes(charset));
+    new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor())
+        .update(uri, text, program(uri, "MAIN", "READ-CUSTOMER", null));
+
+    assertEquals(ImmutableList.of("READ-CUSTOMER"),
+        names(new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor()).search("CUSTOMER", 10)));
+  }
+
+  @Test
+  void testIndexIsUsedWhileLoading() throws IOException {
+    Path index = folder.resolve("index");
+    String uri = save("MAIN.cbl", TEXT);
+    new WorkspaceSymbolIndex(index, MoreExecutors.directExecutor())
+        .update(uri, TEXT, program(uri, "MAIN", "READ-CUSTOMER", null));
+    List<Runnable> tasks = new ArrayList<>();
+    WorkspaceSymbolIndex symbolIndex = new WorkspaceSymbolIndex(index, tasks::add);
+
+    assertTrue(symbolIndex.search("CUSTOMER", 10).isEmpty());
+    symbolIndex.update(uri, TEXT, program(uri, "MAIN", "WRITE-CUSTOMER", null));
+    assertEquals(ImmutableList.of("WRITE-CUSTOMER"), names(symbolIndex.search("CUSTOMER", 10)));
+
+    tasks.forEach(Runnable::run);
+    assertEquals(ImmutableList.of("WRITE-CUSTOMER"), names(symbolIndex.search("CUSTOMER", 10)));
+  }
+
+  private String save(String name, String text) throws IOException {
+    return save(name, text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String save(String name, byte[] content) throws IOException {
+    Path file = folder.resolve(name);
+    Files.write(file, content);
+    return file.toUri().toString();
+  }
+
+  private static Node program(String uri, String name, String paragraph, String call) {
+    RootNode root = new RootNode(locality(uri, 0));
+    ProgramNode program = new ProgramNode(locality(uri, 0));
+    program.setProgramName(name);
+    root.addChild(program);
+    program.addChild(new ProgramIdNode(locality(uri, 0), name));
+    ParagraphNode paragraphNode = new ParagraphNode(locality(uri, 1), paragraph, paragraph, locality(uri, 1));
+    program.addChild(paragraphNode);
+    if (call != null) {
+      paragraphNode.addChild(new SubroutineNameNode(locality(uri, 2), call));
+    }
+    return root;
+  }
+
+  private static Locality locality(String uri, int line) {
+    return Locality.builder().uri(uri).range(range(line)).build();
+  }
+
+  private static Location location(String uri, int line) {
+    return new Location(uri, range(line));
+  }
+
+  private static Range range(int line) {
+    return new Range(new Position(line, 7), new Position(line, 20));
+  }
+
+  private static List<String> names(List<IndexedSymbol> symbols) {
+    return symbols.stream().map(IndexedSymbol::getName).collect(Collectors.toList());
+  }
+}
@@ -216,6 +216,39 @@ class NodeProcessingTest {
     assertEquals(ImmutableList.of(ERROR_2), errors);
   }
 
+  @Test
+  void testDeepTreeIsProcessedInPreOrder() {
+    /** A node that remembers its depth */
+    class DepthNode extends Node {
+      final int depth;
+
+      DepthNode(int depth) {
+        super(null, NodeType.ROOT);
+        this.depth = depth;
+      }
+    }
+
+    DepthNode root = new DepthNode(0);
+    Node parent = root;
+    for (int depth = 1; depth < 100_000; depth++) {
+      DepthNode child = new DepthNode(depth);
+      parent.addChild(child);
+      parent = child;
+    }
+    List<Integer> visited = new ArrayList<>();
+    ProcessingContext ctx = new ProcessingContext(new ArrayList<>(), new SymbolAccumulatorService(), ImmutableMap.of());
+    ctx.register(
+        new ProcessorDescription(
+            DepthNode.class, ProcessingPhase.TRANSFORMATION, (n, c) -> visited.add(((DepthNode) n).depth)));
+
+    new AstProcessor().processSyntaxTree(ctx, root);
+
+    assertEquals(100_000, visited.size());
+    for (int i = 0; i < visited.size(); i++) {
+      assertEquals(i, (int) visited.get(i));
+    }
+  }
+
   private static SyntaxError getError(String message) {
     return SyntaxError.syntaxError().messageTemplate(MessageTemplate.of(message)).build();
   }
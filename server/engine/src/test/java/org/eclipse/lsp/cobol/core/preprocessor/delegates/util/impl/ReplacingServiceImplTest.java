@@ -24,6 +24,7 @@ import org.eclipse.lsp.cobol.common.model.Locality;
 import org.eclipse.lsp.cobol.core.preprocessor.delegates.replacement.ReplaceData;
 import org.eclipse.lsp.cobol.core.preprocessor.delegates.replacement.ReplacingService;
 import org.eclipse.lsp.cobol.core.preprocessor.delegates.replacement.ReplacingServiceImpl;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +60,20 @@ class ReplacingServiceImplTest {
     assertEquals("01 ABC.", dm2.toString());
   }
 
+  /**
+   * Test the patterns are applied one after another within the given scope only: the second pattern
+   * sees the result of the first one, and the matches outside the scope stay untouched.
+   */
+  @Test
+  void testApplyReplacingInScope() {
+    ReplacingService replacingService = new ReplacingServiceImpl(messageService);
+    ExtendedDocument document = new ExtendedDocument("A B\nA B\nA B\n", "");
+    replacingService.applyReplacing(document, new ReplaceData(ImmutableList.of(
+            Pair.of("A", "C"),
+            Pair.of("C B", "D")), "", new Range(new Position(1, 0), new Position(1, 2))));
+    assertEquals("A B\nD\nA B\n", document.toString());
+  }
+
   /**
    * Test the way service retrieves the replacing pattern from the pseudo text. It should remove all
    * the equals chars and provide a trimmed regex that matches expected token sequence ignoring the
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.implicitDialects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.eclipse.lsp.cobol.common.UserInterruptException;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link ExecBlockParser} reuses the parsed blocks, releases them and stops when the analysis is interrupted */
+class ExecBlockParserTest {
+  private static final String URI = "file:///c:/workspace/document.cbl";
+  private static final List<ExecBlock> BLOCKS = ImmutableList.of(
+      new ExecBlock(0, 10, 0, 11, "EXEC SQL COMMIT END-EXEC"),
+      new ExecBlock(20, 30, 1, 11, "EXEC SQL ROLLBACK END-EXEC"));
+
+  private final AtomicInteger parsed = new AtomicInteger();
+  private final Function<ExecBlock, ExecBlockParser.ParsedBlock<ParserRuleContext>> blockParser = block -> {
+    parsed.incrementAndGet();
+    return new ExecBlockParser.ParsedBlock<>(new ParserRuleContext(), ImmutableList.of());
+  };
+
+  @Test
+  void testParsedBlocksAreReused() {
+    ExecBlockParser<ParserRuleContext> parser = new ExecBlockParser<>(10);
+
+    List<ExecBlockParser.ParsedBlock<ParserRuleContext>> first = parser.parse(URI, BLOCKS, blockParser);
+    List<ExecBlockParser.ParsedBlock<ParserRuleContext>> second = parser.parse(URI, BLOCKS, blockParser);
+
+    assertEquals(2, parsed.get());
+    assertSame(first.get(0), second.get(0));
+    assertSame(first.get(1), second.get(1));
+  }
+
+  @Test
+  void testReleasedDocumentBlocksAreDropped() {
+    ExecBlockParser<ParserRuleContext> parser = new ExecBlockParser<>(10);
+    String otherUri = "file:///c:/workspace/other.cbl";
+    parser.parse(URI, BLOCKS, blockParser);
+    parser.parse(otherUri, BLOCKS, blockParser);
+
+    ExecBlockParser.release(URI);
+    parser.parse(URI, BLOCKS, blockParser);
+    parser.parse(otherUri, BLOCKS, blockParser);
+
+    assertEquals(6, parsed.get());
+  }
+
+  @Test
+  void testInterruptedParsingStops() {
+    ExecBlockParser<ParserRuleContext> parser = new ExecBlockParser<>(10);
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(UserInterruptException.class, () -> parser.parse(URI, BLOCKS, blockParser));
+    } finally {
+      Thread.interrupted();
+    }
+    assertEquals(0, parsed.get());
+  }
+}
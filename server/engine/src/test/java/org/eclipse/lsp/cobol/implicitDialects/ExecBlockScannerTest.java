@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.implicitDialects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link ExecBlockScanner} finds the blocks the implicit dialects parse */
+class ExecBlockScannerTest {
+  private static final ExecBlockScanner SQL =
+      new ExecBlockScanner(ImmutableList.of("SQL", "SQLIMS"), ImmutableList.of(), "--");
+  private static final ExecBlockScanner CICS =
+      new ExecBlockScanner(ImmutableList.of("CICS"), ImmutableList.of("DFHRESP", "DFHVALUE"), "*>");
+
+  @Test
+  void testBlocksWithPositions() {
+    String text = "       PROCEDURE DIVISION.\n"
+        + "           EXEC SQL\n"
+        + "             SELECT A INTO :B FROM T\n"
+        + "           END-EXEC.\n"
+        + "           DISPLAY B.\n"
+        + "           exec\n sql COMMIT end-exec\n";
+    List<ExecBlock> blocks = SQL.scan(text);
+
+    assertEquals(2, blocks.size());
+    assertEquals("EXEC SQL\n             SELECT A INTO :B FROM T\n           END-EXEC.", blocks.get(0).getText());
+    assertEquals(1, blocks.get(0).getLine());
+    assertEquals(11, blocks.get(0).getColumn());
+    assertEquals(text.indexOf("EXEC SQL"), blocks.get(0).getStart());
+    assertEquals("exec\n sql COMMIT end-exec", blocks.get(1).getText());
+    assertEquals(5, blocks.get(1).getLine());
+    assertEquals(11, blocks.get(1).getColumn());
+  }
+
+  @Test
+  void testWordsInStringsCommentsAndNamesAreSkipped() {
+    String text = "           DISPLAY 'EXEC SQL COMMIT END-EXEC'.\n"
+        + "           MOVE EXEC-SQL TO X-EXEC SQL.\n"
+        + "           EXEC SQL -- END-EXEC\n"
+        + "             SELECT \"END-EXEC\" FROM T END-EXEC\n";
+
+    assertEquals(ImmutableList.of("EXEC SQL -- END-EXEC\n             SELECT \"END-EXEC\" FROM T END-EXEC"),
+        texts(SQL.scan(text)));
+  }
+
+  @Test
+  void testBlockWithoutEndExecRunsToTheEnd() {
+    String text = "           EXEC SQLIMS COMMIT.\n           DISPLAY 'X'.\n";
+
+    assertEquals(ImmutableList.of(text.substring(11)), texts(SQL.scan(text)));
+  }
+
+  @Test
+  void testCicsFunctionsOutsideOfBlocks() {
+    String text = "           EXEC CICS RETURN RESP(WS-RESP) END-EXEC\n"
+        + "           *> EXEC CICS RETURN END-EXEC\n"
+        + "           IF WS-RESP = DFHRESP (NORMAL) AND X = DFHVALUE(')')\n"
+        + "              MOVE DFHRESP TO X.\n";
+
+    assertEquals(ImmutableList.of("EXEC CICS RETURN RESP(WS-RESP) END-EXEC", "DFHRESP (NORMAL)", "DFHVALUE(')')"),
+        texts(CICS.scan(text)));
+  }
+
+  private static List<String> texts(List<ExecBlock> blocks) {
+    return blocks.stream().map(ExecBlock::getText).collect(Collectors.toList());
+  }
+}
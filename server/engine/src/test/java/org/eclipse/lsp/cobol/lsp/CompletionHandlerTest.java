@@ -16,6 +16,7 @@ package org.eclipse.lsp.cobol.lsp;
 
 import static org.mockito.Mockito.*;
 
+import com.google.gson.JsonObject;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.lsp.cobol.lsp.analysis.AsyncAnalysisService;
 import org.eclipse.lsp.cobol.lsp.handlers.text.CompletionHandler;
@@ -23,6 +24,7 @@ import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp.cobol.service.DocumentModelService;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp.cobol.service.delegates.completions.Completions;
+import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.junit.jupiter.api.Test;
@@ -51,4 +53,23 @@ class CompletionHandlerTest {
     verify(documentModelService).get(uri);
     verify(completions).collectFor(document, params);
   }
+
+  @Test
+  void testResolve() {
+    String uri = "file:/document.cbl";
+    CobolDocumentModel document = mock(CobolDocumentModel.class);
+    Completions completions = mock(Completions.class);
+    DocumentModelService documentModelService = mock((DocumentModelService.class));
+    when(documentModelService.get(uri)).thenReturn(document);
+    CompletionHandler completionHandler = new CompletionHandler(mock(AsyncAnalysisService.class), completions,
+        documentModelService, new UriDecodeService());
+    CompletionItem item = new CompletionItem("VAR1");
+    JsonObject data = new JsonObject();
+    data.addProperty("uri", uri);
+    item.setData(data);
+
+    completionHandler.resolveCompletionItem(item);
+
+    verify(completions).resolve(item, document);
+  }
 }
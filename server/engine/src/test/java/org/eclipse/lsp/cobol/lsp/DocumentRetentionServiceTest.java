@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.eclipse.lsp.cobol.common.symbols.SymbolTable;
+import org.eclipse.lsp.cobol.core.engine.symbols.SymbolsRepository;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlock;
+import org.eclipse.lsp.cobol.implicitDialects.ExecBlockParser;
+import org.eclipse.lsp.cobol.service.DocumentModelService;
+import org.eclipse.lsp.cobol.service.copybooks.CopybookServiceImpl;
+import org.eclipse.lsp.cobol.service.settings.CachingConfigurationService;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link DocumentRetentionService} */
+class DocumentRetentionServiceTest {
+  private static final String FIRST = "file:///c:/workspace/FIRST.cbl";
+  private static final String SECOND = "file:///c:/workspace/SECOND.cbl";
+
+  private final DocumentModelService documentModelService = new DocumentModelService();
+  private final SymbolsRepository symbolsRepository = new SymbolsRepository();
+  private final SourceUnitGraph sourceUnitGraph = mock(SourceUnitGraph.class);
+  private final CopybookServiceImpl copybookService = mock(CopybookServiceImpl.class);
+  private final CachingConfigurationService configurationService = mock(CachingConfigurationService.class);
+
+  @Test
+  void testDocumentsClosedFirstAreReleased() {
+    DocumentRetentionService service = createService(1, 100);
+    open(FIRST);
+    open(SECOND);
+
+    close(service, FIRST);
+    assertNotNull(documentModelService.get(FIRST));
+    assertEquals(2, symbolsRepository.size());
+
+    close(service, SECOND);
+    assertNull(documentModelService.get(FIRST));
+    assertNotNull(documentModelService.get(SECOND));
+    assertEquals(1, symbolsRepository.size());
+    verify(sourceUnitGraph).releaseContent(FIRST);
+    verify(sourceUnitGraph, never()).releaseContent(SECOND);
+    assertEquals(1, service.getMetrics().getClosedDocuments());
+    assertEquals(1, service.getMetrics().getReleasedDocuments());
+  }
+
+  @Test
+  void testCachedStateOfReleasedDocumentIsDropped() {
+    DocumentRetentionService service = createService(1, 100);
+    ExecBlockParser<ParserRuleContext> blockParser = new ExecBlockParser<>(10);
+    List<ExecBlock> blocks = ImmutableList.of(new ExecBlock(0, 10, 0, 11, "EXEC SQL COMMIT END-EXEC"));
+    AtomicInteger parsed = new AtomicInteger();
+    open(FIRST);
+    open(SECOND);
+    blockParser.parse(FIRST, blocks, block -> parse(parsed));
+    blockParser.parse(SECOND, blocks, block -> parse(parsed));
+
+    close(service, FIRST);
+    close(service, SECOND);
+
+    verify(copybookService).releaseCopybookUsage(FIRST);
+    verify(copybookService, never()).releaseCopybookUsage(SECOND);
+    verify(configurationService).release(FIRST);
+    verify(configurationService, never()).release(SECOND);
+    blockParser.parse(FIRST, blocks, block -> parse(parsed));
+    blockParser.parse(SECOND, blocks, block -> parse(parsed));
+    assertEquals(3, parsed.get());
+  }
+
+  @Test
+  void testReopenedDocumentIsKept() {
+    DocumentRetentionService service = createService(1, 100);
+    open(FIRST);
+    open(SECOND);
+    close(service, FIRST);
+
+    open(FIRST);
+    service.documentOpened(FIRST);
+    close(service, SECOND);
+
+    assertNotNull(documentModelService.get(FIRST));
+    assertNotNull(documentModelService.get(SECOND));
+  }
+
+  @Test
+  void testSizeLimit() {
+    DocumentRetentionService service = createService(10, 0);
+    open(FIRST);
+
+    close(service, FIRST);
+
+    assertNull(documentModelService.get(FIRST));
+    assertEquals(0, symbolsRepository.size());
+  }
+
+  @Test
+  void testDeletedDocumentIsReleasedUnlessOpened() {
+    DocumentRetentionService service = createService(10, 100);
+    open(FIRST);
+    open(SECOND);
+    documentModelService.closeDocument(FIRST);
+
+    service.documentDeleted(FIRST);
+    service.documentDeleted(SECOND);
+
+    assertNull(documentModelService.get(FIRST));
+    assertNotNull(documentModelService.get(SECOND));
+  }
+
+  @Test
+  void testMetrics() {
+    DocumentRetentionService service = createService(10, 100);
+    open(FIRST);
+
+    DocumentRetentionService.Metrics metrics = service.getMetrics();
+
+    assertEquals(1, metrics.getDocuments().size());
+    assertEquals(FIRST, metrics.getDocuments().get(0).getUri());
+    assertTrue(metrics.getDocuments().get(0).isOpened());
+    assertEquals(2 * "       PROGRAM-ID. TEST.".length(), metrics.getRetainedBytes());
+  }
+
+  @Test
+  void testSymbolsOfReanalyzedDocumentAreReplaced() {
+    symbolsRepository.updateSymbols(FIRST, ImmutableMap.of("A%" + FIRST + "%1", new SymbolTable()));
+    symbolsRepository.updateSymbols(FIRST, ImmutableMap.of("A%" + FIRST + "%2", new SymbolTable()));
+
+    assertEquals(1, symbolsRepository.size());
+  }
+
+  private DocumentRetentionService createService(int maxDocuments, int maxMegabytes) {
+    return new DocumentRetentionService(documentModelService, symbolsRepository, sourceUnitGraph,
+        copybookService, configurationService, maxDocuments, maxMegabytes);
+  }
+
+  private static ExecBlockParser.ParsedBlock<ParserRuleContext> parse(AtomicInteger parsed) {
+    parsed.incrementAndGet();
+    return new ExecBlockParser.ParsedBlock<>(new ParserRuleContext(), ImmutableList.of());
+  }
+
+  private void open(String uri) {
+    documentModelService.openDocument(uri, "       PROGRAM-ID. TEST.", "COBOL");
+    symbolsRepository.updateSymbols(uri, ImmutableMap.of("TEST%" + uri, new SymbolTable()));
+  }
+
+  private void close(DocumentRetentionService service, String uri) {
+    documentModelService.closeDocument(uri);
+    service.documentClosed(uri);
+  }
+}
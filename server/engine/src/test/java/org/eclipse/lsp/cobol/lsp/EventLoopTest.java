@@ -15,11 +15,19 @@
 package org.eclipse.lsp.cobol.lsp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
 import org.eclipse.lsp4j.InitializeResult;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,4 +69,80 @@ class EventLoopTest {
     });
     assertEquals(initResult, result.get(1, TimeUnit.SECONDS));
   }
+
+  @Test
+  void testParkedQueryRunsOnWakeUp() throws ExecutionException, InterruptedException, TimeoutException {
+    AtomicBoolean satisfied = new AtomicBoolean();
+    CompletableFuture<String> result = messageBroker.query(new TestQuery<>(() -> "done", ImmutableList.of(satisfied::get), false));
+    waitUntilParked(1);
+
+    satisfied.set(true);
+    messageBroker.wakeUp();
+    assertEquals("done", result.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testParkedQueryDoesNotBlockOthers() throws ExecutionException, InterruptedException, TimeoutException {
+    CompletableFuture<String> parked = messageBroker.query(new TestQuery<>(() -> "parked", ImmutableList.of(() -> false), false));
+    CompletableFuture<String> next = messageBroker.query(new TestQuery<>(() -> "next", ImmutableList.of(), false));
+    assertEquals("next", next.get(1, TimeUnit.SECONDS));
+    assertFalse(parked.isDone());
+  }
+
+  @Test
+  void testReadOnlyQueriesRunInParallel() throws ExecutionException, InterruptedException, TimeoutException {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    TestQuery<Boolean> first = new TestQuery<>(() -> awaitOther(bothStarted), ImmutableList.of(), true);
+    TestQuery<Boolean> second = new TestQuery<>(() -> awaitOther(bothStarted), ImmutableList.of(), true);
+    messageBroker.query(first);
+    messageBroker.query(second);
+    assertTrue(first.getResult().get(2, TimeUnit.SECONDS));
+    assertTrue(second.getResult().get(2, TimeUnit.SECONDS));
+  }
+
+  private static boolean awaitOther(CountDownLatch latch) throws InterruptedException {
+    latch.countDown();
+    return latch.await(1, TimeUnit.SECONDS);
+  }
+
+  private void waitUntilParked(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 1000;
+    while (messageBroker.parkedSize() < count && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertEquals(count, messageBroker.parkedSize());
+  }
+
+  /** Query with the configurable dependencies */
+  @RequiredArgsConstructor
+  private static class TestQuery<T> implements LspQuery<T> {
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Callable<T> body;
+    private final List<LspEventDependency> dependencies;
+    private final boolean readOnly;
+
+    @Override
+    public T query() throws ExecutionException {
+      try {
+        return body.call();
+      } catch (Exception e) {
+        throw new ExecutionException(e);
+      }
+    }
+
+    @Override
+    public List<LspEventDependency> getDependencies() {
+      return dependencies;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+      return readOnly;
+    }
+
+    @Override
+    public CompletableFuture<T> getResult() {
+      return result;
+    }
+  }
 }
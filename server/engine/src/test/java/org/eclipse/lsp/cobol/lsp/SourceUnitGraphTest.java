@@ -17,6 +17,8 @@ package org.eclipse.lsp.cobol.lsp;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Stream;
@@ -117,4 +119,44 @@ class SourceUnitGraphTest {
     assertEquals(1, allAssociatedFilesForACopybook.size());
     assertEquals(URI, allAssociatedFilesForACopybook.get(0));
   }
+
+  @Test
+  void testDependentProgramsFollowLinkChanges() {
+    String otherUri = "file://other.cbl";
+    String copy1Uri = "file://copy1.cpy";
+    String copy2Uri = "file://copy2.cpy";
+    SourceUnitGraph sourceUnitGraph =
+        new SourceUnitGraph(fileService, asyncAnalysisService, uriDecodeService);
+    when(fileService.getPathFromURI(anyString())).thenReturn(Paths.get(""));
+    when(fileService.getContentByPath(any())).thenReturn("COPY TEXT");
+    // the copybooks include each other, the walk to the programs must stop
+    analyse(sourceUnitGraph, URI, copyNode(URI, copy1Uri), copyNode(copy1Uri, copy2Uri), copyNode(copy2Uri, copy1Uri));
+    analyse(sourceUnitGraph, otherUri, copyNode(otherUri, copy2Uri));
+
+    assertEquals(ImmutableSet.of(URI, otherUri), ImmutableSet.copyOf(sourceUnitGraph.getAllAssociatedFilesForACopybook(copy2Uri)));
+    assertEquals(ImmutableSet.of(URI, otherUri), ImmutableSet.copyOf(sourceUnitGraph.getAllAssociatedFilesForACopybook(copy1Uri)));
+
+    sourceUnitGraph.remove(otherUri);
+    assertEquals(ImmutableList.of(URI), sourceUnitGraph.getAllAssociatedFilesForACopybook(copy2Uri));
+
+    analyse(sourceUnitGraph, URI, copyNode(URI, copy2Uri));
+    assertFalse(sourceUnitGraph.isCopybook(copy1Uri));
+    assertTrue(sourceUnitGraph.getAllAssociatedFilesForACopybook(copy1Uri).isEmpty());
+    assertEquals(ImmutableList.of(URI), sourceUnitGraph.getAllAssociatedFilesForACopybook(copy2Uri));
+  }
+
+  private static void analyse(SourceUnitGraph sourceUnitGraph, String uri, CopyNode... copyNodes) {
+    Node rootNode = mock(Node.class);
+    when(rootNode.getDepthFirstStream()).thenReturn(Stream.of(copyNodes));
+    CobolDocumentModel model = new CobolDocumentModel(uri, "text", AnalysisResult.builder().rootNode(rootNode).build());
+    sourceUnitGraph.notifyState(AnalysisState.COMPLETED, model, SourceUnitGraph.EventSource.FILE_SYSTEM);
+  }
+
+  private static CopyNode copyNode(String parentUri, String copybookUri) {
+    return new CopyNode(
+        Locality.builder().uri(parentUri).build(),
+        new Location(parentUri, new Range(new Position(0, 7), new Position(0, 14))),
+        "COPY",
+        copybookUri);
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.lsp.analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link AnalysisExecutor}
+ */
+class AnalysisExecutorTest {
+
+  @Test
+  void testTasksOfTheSameDocumentRunInOrder() throws InterruptedException {
+    AnalysisExecutor executor = new AnalysisExecutor(4);
+    List<Integer> result = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(50);
+    for (int i = 0; i < 50; i++) {
+      int value = i;
+      executor.execute("uri", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+        result.add(value);
+        done.countDown();
+      });
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 50; i++) {
+      assertEquals(i, result.get(i));
+    }
+  }
+
+  @Test
+  void testInteractiveTasksGoFirst() throws InterruptedException {
+    AnalysisExecutor executor = new AnalysisExecutor(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch blockerStarted = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(4);
+    List<String> result = new CopyOnWriteArrayList<>();
+    executor.execute("blocker", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+      blockerStarted.countDown();
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      done.countDown();
+    });
+    assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+    executor.execute("background1", AnalysisExecutor.Priority.BACKGROUND, () -> {
+      result.add("background1");
+      done.countDown();
+    });
+    executor.execute("background2", AnalysisExecutor.Priority.BACKGROUND, () -> {
+      result.add("background2");
+      done.countDown();
+    });
+    executor.execute("edited", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+      result.add("edited");
+      done.countDown();
+    });
+    assertEquals(3, executor.getMetrics().getQueueDepth());
+    blocker.countDown();
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(ImmutableList.of("edited", "background1", "background2"), result);
+    assertEquals(4, executor.getMetrics().getStartedTasks());
+    assertEquals(0, executor.getMetrics().getQueueDepth());
+  }
+
+  @Test
+  void testInteractiveTaskMovesQueuedDocumentAhead() throws InterruptedException {
+    AnalysisExecutor executor = new AnalysisExecutor(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch blockerStarted = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(4);
+    List<String> result = new CopyOnWriteArrayList<>();
+    executor.execute("blocker", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+      blockerStarted.countDown();
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      done.countDown();
+    });
+    assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+    executor.execute("other", AnalysisExecutor.Priority.BACKGROUND, () -> {
+      result.add("other");
+      done.countDown();
+    });
+    executor.execute("edited", AnalysisExecutor.Priority.BACKGROUND, () -> {
+      result.add("edited-background");
+      done.countDown();
+    });
+    executor.execute("edited", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+      result.add("edited-interactive");
+      done.countDown();
+    });
+    blocker.countDown();
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(ImmutableList.of("edited-background", "edited-interactive", "other"), result);
+    assertEquals(4, executor.getMetrics().getStartedTasks());
+  }
+
+  @Test
+  void testCancel() throws InterruptedException {
+    AnalysisExecutor executor = new AnalysisExecutor(2);
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    AtomicBoolean pendingExecuted = new AtomicBoolean();
+    executor.execute("uri", AnalysisExecutor.Priority.INTERACTIVE, () -> {
+      started.countDown();
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+    });
+    executor.execute("uri", AnalysisExecutor.Priority.INTERACTIVE, () -> pendingExecuted.set(true));
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    executor.cancel("uri", 5, TimeUnit.SECONDS);
+    assertTrue(interrupted.get());
+    assertFalse(pendingExecuted.get());
+  }
+}
@@ -56,7 +56,7 @@ class AsyncAnalysisServiceTest {
     @BeforeEach
     void setUp() {
         asyncAnalysisService = new AsyncAnalysisService(mock(TrueDialectService.class),
-            documentModelService, analysisService, copybookService, subroutineService, communication);
+            documentModelService, analysisService, copybookService, subroutineService, communication, new AnalysisExecutor(2));
     }
 
     @Test
@@ -93,6 +93,7 @@ class AsyncAnalysisServiceTest {
         asyncAnalysisService.reanalyseCopybooksAssociatedPrograms(uris, "copybookUri", "copybookContent", eventSource);
 
         verify(cobolDocumentModel, times(2)).getText();
+        verify(subroutineService, never()).invalidateCache();
     }
 
     @Test
@@ -38,6 +38,7 @@ import org.eclipse.lsp.cobol.service.CobolLSPServerStateService;
 import org.eclipse.lsp.cobol.service.WatcherService;
 import org.eclipse.lsp.cobol.service.copybooks.CopybookNameService;
 import org.eclipse.lsp.cobol.service.delegates.completions.Keywords;
+import org.eclipse.lsp.cobol.service.settings.ConfigurationService;
 import org.eclipse.lsp.cobol.service.settings.SettingsService;
 import org.eclipse.lsp.cobol.service.settings.SettingsServiceImpl;
 import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
@@ -70,7 +71,7 @@ class DidChangeConfigurationHandlerTest {
                         localeStore,
                         keywords,
                         messageService,
-                        asyncAnalysisService, getMockLayoutStore());
+                        asyncAnalysisService, getMockLayoutStore(), getMockConfigurationService());
 
 
         when(copybookNameService.copybookLocalFolders(null))
@@ -112,7 +113,8 @@ class DidChangeConfigurationHandlerTest {
                         keywords,
                         messageService,
                         asyncAnalysisService,
-                        getMockLayoutStore());
+                        getMockLayoutStore(),
+                        getMockConfigurationService());
 
         String path = "foo/bar";
 
@@ -156,7 +158,8 @@ class DidChangeConfigurationHandlerTest {
                         keywords,
                         messageService,
                         asyncAnalysisService,
-                        getMockLayoutStore());
+                        getMockLayoutStore(),
+                        getMockConfigurationService());
 
         ArgumentCaptor<List<String>> watcherCaptor = forClass(List.class);
         String path = "foo/bar";
@@ -204,7 +207,8 @@ class DidChangeConfigurationHandlerTest {
                         keywords,
                         messageService,
                         asyncAnalysisService,
-                        getMockLayoutStore());
+                        getMockLayoutStore(),
+                        getMockConfigurationService());
         ArgumentCaptor<List<String>> watcherCaptor = forClass(List.class);
         JsonArray arr = new JsonArray();
         String path = "foo/bar";
@@ -228,6 +232,12 @@ class DidChangeConfigurationHandlerTest {
         assertEquals(path, watcherCaptor.getValue().get(0));
     }
 
+    private ConfigurationService getMockConfigurationService() {
+        ConfigurationService configurationService = mock(ConfigurationService.class);
+        when(configurationService.invalidateCache()).thenReturn(completedFuture(null));
+        return configurationService;
+    }
+
     private CodeLayoutStore getMockLayoutStore() {
         CodeLayoutStore layoutStore = mock(CodeLayoutStore.class);
         when(layoutStore.getCodeLayout()).thenReturn(Optional.ofNullable(CobolLanguageId.COBOL.getLayout()));
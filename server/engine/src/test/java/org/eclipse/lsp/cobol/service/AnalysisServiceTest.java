@@ -14,6 +14,7 @@
  */
 package org.eclipse.lsp.cobol.service;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -83,6 +84,41 @@ class AnalysisServiceTest {
     verify(copybookIdentificationService, times(1)).isCopybook(any(), any(), any());
   }
 
+  @Test
+  void testCopybookClassificationIsKeptUntilTextChanges() {
+    String uri = UUID.randomUUID().toString();
+    CobolDocumentModel document = new CobolDocumentModel(uri, "       01 A PIC X.");
+    when(documentService.get(uri)).thenReturn(document);
+    when(copybookIdentificationService.isCopybook(any(), any(), any())).thenReturn(true);
+
+    assertTrue(service.isCopybook(uri, document.getText()));
+    assertTrue(service.isCopybook(uri, document.getText()));
+    verify(copybookIdentificationService, times(1)).isCopybook(any(), any(), any());
+
+    document.update("       01 B PIC X.");
+    assertTrue(service.isCopybook(uri, document.getText()));
+    verify(copybookIdentificationService, times(2)).isCopybook(any(), any(), any());
+  }
+
+  @Test
+  void testCopybookClassificationIsKeptAfterAnalysis() {
+    String uri = UUID.randomUUID().toString();
+    String text = "       PROGRAM-ID. TEST.";
+    DocumentModelService documentModelService = new DocumentModelService();
+    documentModelService.openDocument(uri, text, "COBOL");
+    service = new AnalysisService(engine, configurationService, copybookIdentificationService,
+        copybookService, documentModelService);
+    service.setExtensionConfig(ImmutableList.of());
+    when(copybookIdentificationService.isCopybook(any(), any(), any())).thenReturn(false);
+    when(engine.analyze(any(), any(), any(), anyString())).thenReturn(prepareAnalysisResult());
+
+    service.analyzeDocument(uri, text, true);
+    service.analyzeDocument(uri, text, false);
+
+    verify(engine, times(2)).analyze(any(), any(), any(), anyString());
+    verify(copybookIdentificationService, times(1)).isCopybook(any(), any(), any());
+  }
+
   @Test
   void testAnalyzeDocument_copybook() {
     String uri = UUID.randomUUID().toString();
@@ -90,7 +126,7 @@ class AnalysisServiceTest {
     when(copybookIdentificationService.isCopybook(any(), any(), any())).thenReturn(true);
 
     service.analyzeDocument(uri, text, true);
-    verify(documentService, times(0)).processAnalysisResult(eq(uri), any(), anyString());
+    verify(documentService, times(0)).processAnalysisResult(eq(uri), any());
     verify(engine, times(0)).analyze(any(), any(), any());
   }
 
@@ -107,7 +143,7 @@ class AnalysisServiceTest {
     when(mockDocModel.getLanguageId()).thenReturn("cobol");
     when(documentService.get(uri)).thenReturn(mockDocModel);
     service.analyzeDocument(uri, text, true);
-    verify(documentService, times(1)).processAnalysisResult(eq(uri), any(), anyString());
+    verify(documentService, times(1)).processAnalysisResult(eq(uri), any());
     verify(engine, times(1)).analyze(any(), any(), any(), anyString());
   }
 
@@ -16,7 +16,7 @@ package org.eclipse.lsp.cobol.service;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.lsp.cobol.service.settings.SettingsParametersEnum.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.google.common.collect.ImmutableList;
@@ -45,7 +45,7 @@ class CachingConfigurationServiceTest {
     DialectService dialectService = mock(DialectService.class);
     when(dialectService.getSettingsSections()).thenReturn(ImmutableList.of("dialect"));
 
-    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService);
+    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
 
     assertEquals(
         new AnalysisConfig(
@@ -87,7 +87,7 @@ class CachingConfigurationServiceTest {
                 "dialect")))
         .thenReturn(supplyAsync(() -> clientConfig));
 
-    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService);
+    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
 
     assertEquals(
         new AnalysisConfig(
@@ -128,7 +128,7 @@ class CachingConfigurationServiceTest {
                 "dialect")))
         .thenReturn(supplyAsync(() -> clientConfig));
 
-    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService);
+    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
 
     assertEquals(
         new AnalysisConfig(
@@ -140,6 +140,119 @@ class CachingConfigurationServiceTest {
         configuration.getConfig("", CopybookProcessingMode.DISABLED));
   }
 
+  @Test
+  void testConfigurationIsCachedUntilInvalidated() {
+    SettingsService settingsService = spy(SettingsService.class);
+    when(settingsService.fetchConfigurations(any(), anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+    DialectService dialectService = mock(DialectService.class);
+    when(dialectService.getSettingsSections()).thenReturn(ImmutableList.of("dialect"));
+
+    CachingConfigurationService configuration =
+        new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
+
+    configuration.getConfig("document", CopybookProcessingMode.ENABLED);
+    configuration.getConfig("document", CopybookProcessingMode.DISABLED);
+    verify(settingsService, times(1)).fetchConfigurations(eq("document"), anyList());
+
+    // the document is not opened, so its settings are fetched when they are requested again
+    assertTrue(configuration.invalidateCache().isDone());
+    verify(settingsService, times(1)).fetchConfigurations(eq("document"), anyList());
+    configuration.getConfig("document", CopybookProcessingMode.ENABLED);
+    configuration.getConfig("document", CopybookProcessingMode.ENABLED);
+    verify(settingsService, times(2)).fetchConfigurations(eq("document"), anyList());
+
+    when(dialectService.getSettingsSections()).thenReturn(ImmutableList.of("dialect", "other-dialect"));
+    configuration.getConfig("document", CopybookProcessingMode.ENABLED);
+    verify(settingsService, times(3)).fetchConfigurations(eq("document"), anyList());
+
+    configuration.release("document");
+    configuration.getConfig("document", CopybookProcessingMode.ENABLED);
+    verify(settingsService, times(4)).fetchConfigurations(eq("document"), anyList());
+  }
+
+  @Test
+  void testLastKnownConfigurationIsServedWhileRefreshing() {
+    String uri = "file:///c:/workspace/document.cbl";
+    DocumentModelService documentModelService = new DocumentModelService();
+    documentModelService.openDocument(uri, "", "COBOL");
+    DialectService dialectService = mock(DialectService.class);
+    when(dialectService.getSettingsSections()).thenReturn(ImmutableList.of("dialect"));
+
+    JsonArray dialectSettings = new JsonArray();
+    dialectSettings.add("Dialect");
+    JsonArray predefinedParagraphs = new JsonArray();
+    List<Object> clientConfig =
+        Arrays.asList(
+            dialectSettings,
+            new JsonArray(),
+            new JsonPrimitive("true"),
+            new JsonArray(),
+            new JsonArray(),
+            predefinedParagraphs);
+    CompletableFuture<List<Object>> refreshedConfig = new CompletableFuture<>();
+    SettingsService settingsService = spy(SettingsService.class);
+    when(settingsService.fetchConfigurations(eq(uri), anyList()))
+        .thenReturn(CompletableFuture.completedFuture(null), refreshedConfig);
+
+    CachingConfigurationService configuration =
+        new CachingConfigurationService(settingsService, dialectService, documentModelService);
+    AnalysisConfig initial = configuration.getConfig(uri, CopybookProcessingMode.ENABLED);
+
+    CompletableFuture<Void> refreshed = configuration.invalidateCache();
+    verify(settingsService, times(2)).fetchConfigurations(eq(uri), anyList());
+    assertFalse(refreshed.isDone());
+    assertEquals(initial, configuration.getConfig(uri, CopybookProcessingMode.ENABLED));
+
+    refreshedConfig.complete(clientConfig);
+    assertTrue(refreshed.isDone());
+    assertEquals(
+        new AnalysisConfig(
+            CopybookProcessingMode.ENABLED,
+            ImmutableList.of("Dialect"),
+            true, ImmutableList.of(),
+            ImmutableMap.of("dialect", predefinedParagraphs)),
+        configuration.getConfig(uri, CopybookProcessingMode.ENABLED));
+    verify(settingsService, times(2)).fetchConfigurations(eq(uri), anyList());
+  }
+
+  @Test
+  void testClosedDocumentWaitsForChangedConfiguration() {
+    String uri = "file:///c:/workspace/document.cbl";
+    DialectService dialectService = mock(DialectService.class);
+    when(dialectService.getSettingsSections()).thenReturn(ImmutableList.of());
+
+    JsonArray dialectSettings = new JsonArray();
+    dialectSettings.add("Dialect");
+    List<Object> clientConfig =
+        Arrays.asList(
+            dialectSettings,
+            new JsonArray(),
+            new JsonPrimitive("true"),
+            new JsonArray(),
+            new JsonArray());
+    SettingsService settingsService = spy(SettingsService.class);
+    when(settingsService.fetchConfigurations(eq(uri), anyList()))
+        .thenReturn(CompletableFuture.completedFuture(null), supplyAsync(() -> {
+          try {
+            Thread.sleep(100);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return clientConfig;
+        }));
+
+    CachingConfigurationService configuration =
+        new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
+    configuration.getConfig(uri, CopybookProcessingMode.ENABLED);
+
+    assertTrue(configuration.invalidateCache().isDone());
+    verify(settingsService, times(1)).fetchConfigurations(eq(uri), anyList());
+    assertEquals(ImmutableList.of("Dialect"),
+        configuration.getConfig(uri, CopybookProcessingMode.ENABLED).getDialects());
+    verify(settingsService, times(2)).fetchConfigurations(eq(uri), anyList());
+  }
+
   @Test
   void testFetchingListConfiguration() {
     String expectedValue = "list-of-some-values-from-client";
@@ -149,7 +262,7 @@ class CachingConfigurationServiceTest {
     when(settingsService.fetchTextConfigurationWithScope(documentUri, section))
             .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(expectedValue)));
     DialectService dialectService = mock(DialectService.class);
-    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService);
+    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
     configuration.getListConfiguration(documentUri, section)
             .whenComplete((result, ex) -> {
               assertEquals(result.size(), 1);
@@ -163,7 +276,7 @@ class CachingConfigurationServiceTest {
     DialectService dialectService = mock(DialectService.class);
     String expectedResult = "dialect-watch-folders";
     when(dialectService.getWatchingFolderSettings()).thenReturn(ImmutableList.of(expectedResult));
-    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService);
+    CachingConfigurationService configuration = new CachingConfigurationService(settingsService, dialectService, new DocumentModelService());
     assertEquals(configuration.getDialectWatchingFolders().get(0), expectedResult);
   }
 }
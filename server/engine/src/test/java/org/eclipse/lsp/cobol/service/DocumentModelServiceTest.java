@@ -24,6 +24,9 @@ import java.util.UUID;
 import org.eclipse.lsp.cobol.common.AnalysisResult;
 import org.eclipse.lsp.cobol.common.model.tree.RootNode;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -73,7 +76,7 @@ class DocumentModelServiceTest {
     service.openDocument(uri, UUID.randomUUID().toString(), languageId);
     assertFalse(service.isDocumentSynced(uri));
 
-    service.processAnalysisResult(uri, AnalysisResult.builder().build(), "text");
+    service.processAnalysisResult(uri, AnalysisResult.builder().build());
     assertTrue(service.isDocumentSynced(uri));
   }
 
@@ -82,10 +85,10 @@ class DocumentModelServiceTest {
     String uri1 = UUID.randomUUID().toString();
     String uri2 = UUID.randomUUID().toString();
     service.openDocument(uri1, UUID.randomUUID().toString(), languageId);
-    service.processAnalysisResult(uri1, createAnalysisResult(uri1), "text");
+    service.processAnalysisResult(uri1, createAnalysisResult(uri1));
 
     service.openDocument(uri2, UUID.randomUUID().toString(), languageId);
-    service.processAnalysisResult(uri2, createAnalysisResult(uri2), "text");
+    service.processAnalysisResult(uri2, createAnalysisResult(uri2));
 
     service.closeDocument(uri1);
     Map<String, List<Diagnostic>> diagnostics = service.getOpenedDiagnostic();
@@ -99,7 +102,7 @@ class DocumentModelServiceTest {
   void testInvalidate() {
     String uri = UUID.randomUUID().toString();
     service.openDocument(uri, UUID.randomUUID().toString(), languageId);
-    service.processAnalysisResult(uri, createAnalysisResult(uri), "text");
+    service.processAnalysisResult(uri, createAnalysisResult(uri));
 
     Map<String, List<Diagnostic>> diagnostics = service.getOpenedDiagnostic();
     assertEquals(1, diagnostics.get(uri).size());
@@ -120,7 +123,7 @@ class DocumentModelServiceTest {
     String uri = UUID.randomUUID().toString();
     String text = UUID.randomUUID().toString();
     service.openDocument(uri, text, languageId);
-    service.processAnalysisResult(uri, createAnalysisResult(uri), text);
+    service.processAnalysisResult(uri, createAnalysisResult(uri));
 
     assertTrue(service.isDocumentSynced(uri));
   }
@@ -139,4 +142,39 @@ class DocumentModelServiceTest {
     assertNotNull(service.get(uri));
   }
 
+  @Test
+  void testApplyChangesKeepsLatestTextAfterAnalysis() {
+    String uri = UUID.randomUUID().toString();
+    service.openDocument(uri, "line 1\nline 2", languageId);
+
+    String text = service.applyChanges(uri, ImmutableList.of(
+        new TextDocumentContentChangeEvent(new Range(new Position(1, 5), new Position(1, 6)), "two")));
+    assertEquals("line 1\nline two", text);
+
+    service.applyChanges(uri, ImmutableList.of(
+        new TextDocumentContentChangeEvent(new Range(new Position(0, 0), new Position(0, 0)), "new ")));
+    service.processAnalysisResult(uri, AnalysisResult.builder().build());
+    assertEquals("new line 1\nline two", service.get(uri).getText());
+  }
+
+  @Test
+  void testApplyChangesToUnknownDocument() {
+    assertNull(service.applyChanges("unknown", ImmutableList.of(
+        new TextDocumentContentChangeEvent(new Range(new Position(0, 0), new Position(0, 0)), "text"))));
+    assertEquals("text", service.applyChanges("unknown", ImmutableList.of(new TextDocumentContentChangeEvent("text"))));
+  }
+
+  @Test
+  void testRemoveOnlyClosedDocument() {
+    String uri = UUID.randomUUID().toString();
+    service.openDocument(uri, "text", languageId);
+
+    assertFalse(service.removeDocument(uri));
+    assertEquals(1, service.getAll().size());
+
+    service.closeDocument(uri);
+    assertTrue(service.removeDocument(uri));
+    assertNull(service.get(uri));
+    assertTrue(service.getAll().isEmpty());
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+/** Test for {@link TextBuffer} */
+class TextBufferTest {
+  private static final String TEXT = "       IDENTIFICATION DIVISION.\r\n"
+      + "       PROGRAM-ID. TEST1.\r\n"
+      + "       PROCEDURE DIVISION.\n"
+      + "           STOP RUN.";
+
+  @Test
+  void testLines() {
+    TextBuffer buffer = TextBuffer.of(TEXT);
+    assertEquals(4, buffer.getLineCount());
+    assertEquals("       PROGRAM-ID. TEST1.", buffer.getLine(1));
+    assertEquals("           STOP RUN.", buffer.getLine(3));
+    assertNull(buffer.getLine(4));
+    assertNull(buffer.getLine(-1));
+    assertEquals(TEXT, buffer.toString());
+  }
+
+  @Test
+  void testSingleLineEdit() {
+    TextBuffer buffer = TextBuffer.of(TEXT);
+    TextBuffer edited = buffer.apply(range(1, 19, 1, 24), "PROG2");
+    assertEquals("       PROGRAM-ID. PROG2.", edited.getLine(1));
+    assertEquals(TEXT.replace("TEST1", "PROG2"), edited.toString());
+    assertEquals(TEXT, buffer.toString());
+  }
+
+  @Test
+  void testMultiLineEdit() {
+    TextBuffer buffer = TextBuffer.of(TEXT).apply(range(1, 7, 2, 7), "");
+    assertEquals("       IDENTIFICATION DIVISION.\r\n"
+        + "       PROCEDURE DIVISION.\n"
+        + "           STOP RUN.", buffer.toString());
+    assertEquals(3, buffer.getLineCount());
+
+    buffer = buffer.apply(range(2, 20, 2, 20), "\n           GOBACK.\n");
+    assertEquals(5, buffer.getLineCount());
+    assertEquals("           GOBACK.", buffer.getLine(3));
+    assertEquals("", buffer.getLine(4));
+  }
+
+  @Test
+  void testFullTextChange() {
+    assertEquals("NEW", TextBuffer.of(TEXT).apply(null, "NEW").toString());
+  }
+
+  @Test
+  void testRandomEditsMatchStringEdits() {
+    Random random = new Random(42);
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 3000; i++) {
+      text.append("       MOVE ").append(i).append(" TO WS-ITEM.\n");
+    }
+    String expected = text.toString();
+    TextBuffer buffer = TextBuffer.of(expected);
+    for (int i = 0; i < 500; i++) {
+      int startLine = random.nextInt(buffer.getLineCount());
+      int endLine = Math.min(buffer.getLineCount() - 1, startLine + random.nextInt(3));
+      int startCharacter = random.nextInt(buffer.getLine(startLine).length() + 1);
+      int endCharacter = startLine == endLine
+          ? startCharacter + random.nextInt(buffer.getLine(endLine).length() - startCharacter + 1)
+          : random.nextInt(buffer.getLine(endLine).length() + 1);
+      String newText = random.nextBoolean() ? "X" : "Y\nZ";
+      expected = expected.substring(0, offset(expected, startLine, startCharacter)) + newText
+          + expected.substring(offset(expected, endLine, endCharacter));
+      buffer = buffer.apply(range(startLine, startCharacter, endLine, endCharacter), newText);
+      assertEquals(expected, buffer.toString());
+    }
+  }
+
+  private static int offset(String text, int line, int character) {
+    int result = 0;
+    for (int i = 0; i < line; i++) {
+      result = text.indexOf('\n', result) + 1;
+    }
+    return result + character;
+  }
+
+  private static Range range(int startLine, int startCharacter, int endLine, int endCharacter) {
+    return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+  }
+}
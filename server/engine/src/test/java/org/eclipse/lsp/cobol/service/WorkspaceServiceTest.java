@@ -37,6 +37,7 @@ import org.eclipse.lsp.cobol.lsp.events.queries.CodeActionQuery;
 import org.eclipse.lsp.cobol.lsp.handlers.text.CodeActionHandler;
 import org.eclipse.lsp.cobol.lsp.handlers.workspace.DidChangeConfigurationHandler;
 import org.eclipse.lsp.cobol.lsp.handlers.workspace.ExecuteCommandHandler;
+import org.eclipse.lsp.cobol.lsp.handlers.workspace.WorkspaceSymbolHandler;
 import org.eclipse.lsp.cobol.service.copybooks.CopybookNameService;
 import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
 import org.eclipse.lsp.cobol.test.engine.UseCaseUtils;
@@ -80,7 +81,7 @@ class WorkspaceServiceTest {
             null,
             null,
             messageService,
-            asyncAnalysisService, getMockLayoutStore());
+            asyncAnalysisService, getMockLayoutStore(), null);
     ExecuteCommandHandler executeCommandHandler = new ExecuteCommandHandler(stateService, asyncAnalysisService);
 
     LspMessageBroker lspMessageBroker = new LspMessageBroker();
@@ -90,7 +91,8 @@ class WorkspaceServiceTest {
             documentGraph,
             didChangeConfigurationHandler,
             asyncAnalysisService,
-            uriDecodeService);
+            uriDecodeService,
+            mock(WorkspaceSymbolHandler.class), mock(DocumentRetentionService.class));
     ((LspEventConsumer) service).startConsumer();
     CompletableFuture<Object> result =
         service.executeCommand(
@@ -124,7 +126,7 @@ class WorkspaceServiceTest {
             null,
             null,
             null,
-            asyncAnalysisService, getMockLayoutStore());
+            asyncAnalysisService, getMockLayoutStore(), null);
     ExecuteCommandHandler executeCommandHandler = new ExecuteCommandHandler(stateService, asyncAnalysisService);
 
     LspMessageBroker lspMessageBroker = new LspMessageBroker();
@@ -134,7 +136,7 @@ class WorkspaceServiceTest {
             executeCommandHandler,
             documentGraph,
             didChangeConfigurationHandler,
-            asyncAnalysisService, uriDecodeService);
+            asyncAnalysisService, uriDecodeService, mock(WorkspaceSymbolHandler.class), mock(DocumentRetentionService.class));
     ((LspEventConsumer) service).startConsumer();
 
     CompletableFuture<Object> result =
@@ -174,7 +176,7 @@ class WorkspaceServiceTest {
             executeCommandHandler,
             documentGraph,
             didChangeConfigurationHandler,
-            asyncAnalysisService, uriDecodeService);
+            asyncAnalysisService, uriDecodeService, mock(WorkspaceSymbolHandler.class), mock(DocumentRetentionService.class));
     ((LspEventConsumer) workspaceService).startConsumer();
     doNothing().when(didChangeConfigurationHandler).didChangeConfiguration(any(DidChangeConfigurationParams.class));
     DidChangeConfigurationParams didChangeConfigurationParams = new DidChangeConfigurationParams(new Object());
@@ -227,7 +229,7 @@ class WorkspaceServiceTest {
 
     DidChangeConfigurationHandler didChangeConfigurationHandler =
         new DidChangeConfigurationHandler(
-            stateService, null, copybookNameService, null, null, null, null, asyncAnalysisService, getMockLayoutStore());
+            stateService, null, copybookNameService, null, null, null, null, asyncAnalysisService, getMockLayoutStore(), null);
 
     ExecuteCommandHandler executeCommandHandler =
         new ExecuteCommandHandler(stateService, asyncAnalysisService);
@@ -240,7 +242,7 @@ class WorkspaceServiceTest {
             executeCommandHandler,
             documentGraph,
             didChangeConfigurationHandler,
-            asyncAnalysisService, uriDecodeService);
+            asyncAnalysisService, uriDecodeService, mock(WorkspaceSymbolHandler.class), mock(DocumentRetentionService.class));
 
     ((LspEventConsumer) service).startConsumer();
     DidChangeWatchedFilesParams params = new DidChangeWatchedFilesParams(singletonList(event));
@@ -134,4 +134,42 @@ class CopybookIdentificationServiceBasedOnContentTest {
     Assertions.assertFalse(service.isCopybook(doc.getUri(), doc.getText(), ImmutableList.of()));
   }
 
+  @Test
+  void WhenProgramNameOnNextLine_thenReturnFalse() {
+    String content =
+        "      *RETRIEVAL                                                        00340200\n"
+            + "       PROGRAM-ID.\r\n"
+            + "           EMPRPT.\r\n";
+
+    CopybookIdentificationService service = new CopybookIdentificationServiceBasedOnContent();
+    Assertions.assertFalse(service.isCopybook("", content, ImmutableList.of()));
+  }
+
+  @Test
+  void WhenCommentedProgramIdBeforeProgramId_thenReturnFalse() {
+    String content =
+        "      *PROGRAM-ID.\n"
+            + "       PROGRAM-ID. EMPRPT.\n";
+
+    CopybookIdentificationService service = new CopybookIdentificationServiceBasedOnContent();
+    Assertions.assertFalse(service.isCopybook("", content, ImmutableList.of()));
+  }
+
+  @Test
+  void WhenProgramIdAfterScannedLines_thenReturnTrue() {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < CopybookIdentificationServiceBasedOnContent.MAX_SCANNED_LINES - 1; i++) {
+      content.append("      * COMMENT\n");
+    }
+    CopybookIdentificationService service = new CopybookIdentificationServiceBasedOnContent();
+    Assertions.assertFalse(service.isCopybook("", content + "       PROGRAM-ID. EMPRPT.\n", ImmutableList.of()));
+    Assertions.assertTrue(service.isCopybook("", content + "      * COMMENT\n       PROGRAM-ID. EMPRPT.\n",
+        ImmutableList.of()));
+  }
+
+  @Test
+  void WhenNullText_thenReturnTrue() {
+    CopybookIdentificationService service = new CopybookIdentificationServiceBasedOnContent();
+    Assertions.assertTrue(service.isCopybook("", null, ImmutableList.of()));
+  }
 }
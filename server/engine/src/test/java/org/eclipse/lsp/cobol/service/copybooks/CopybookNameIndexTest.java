@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.copybooks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.lsp.cobol.common.file.FileSystemService;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test {@link CopybookNameIndex} lists a folder once and keeps it current with the file events */
+class CopybookNameIndexTest {
+  private final FileSystemService files = mock(FileSystemService.class);
+
+  @TempDir Path folder;
+
+  @Test
+  void testNamesAreFoundByPrefix() {
+    String folderPath = folder.toString();
+    when(files.listFilesInDirectory(folderPath)).thenReturn(ImmutableList.of("BOOK.cpy", "abc.cpy", "Abd.CPY", "ABE", "b.cpy"));
+    CopybookNameIndex index = new CopybookNameIndex(files);
+
+    assertEquals(ImmutableList.of("abc.cpy", "Abd.CPY", "ABE"), index.getFileNames(folderPath, "ab"));
+    assertEquals(ImmutableList.of("Abd.CPY"), index.getFileNames(folderPath, "ABD"));
+    assertEquals(5, index.getFileNames(folderPath, "").size());
+    assertEquals(ImmutableList.of(), index.getFileNames(folderPath, "c"));
+    verify(files, times(1)).listFilesInDirectory(folderPath);
+  }
+
+  @Test
+  void testFileEventsUpdateTheFolder() throws IOException {
+    String folderPath = folder.toString();
+    Path created = Files.createFile(folder.resolve("NEW.cpy"));
+    Path deleted = folder.resolve("OLD.cpy");
+    when(files.listFilesInDirectory(folderPath)).thenReturn(ImmutableList.of("OLD.cpy"));
+    when(files.getPathFromURI("file:///new")).thenReturn(created);
+    when(files.getPathFromURI("file:///old")).thenReturn(deleted);
+    CopybookNameIndex index = new CopybookNameIndex(files);
+    index.scan(ImmutableList.of(folderPath));
+
+    index.update(ImmutableList.of(
+        new FileEvent("file:///new", FileChangeType.Created),
+        new FileEvent("file:///old", FileChangeType.Deleted)));
+
+    assertEquals(ImmutableList.of("NEW.cpy"), index.getFileNames(folderPath, ""));
+    verify(files, times(1)).listFilesInDirectory(folderPath);
+  }
+
+  @Test
+  void testDeletedFolderIsListedAgain() {
+    String folderPath = folder.toString();
+    when(files.listFilesInDirectory(folderPath)).thenReturn(ImmutableList.of("A.cpy"));
+    when(files.getPathFromURI("file:///folder")).thenReturn(folder);
+    CopybookNameIndex index = new CopybookNameIndex(files);
+    index.scan(ImmutableList.of(folderPath));
+
+    index.update(ImmutableList.of(new FileEvent("file:///folder", FileChangeType.Deleted)));
+    index.getFileNames(folderPath, "");
+
+    verify(files, times(2)).listFilesInDirectory(folderPath);
+  }
+}
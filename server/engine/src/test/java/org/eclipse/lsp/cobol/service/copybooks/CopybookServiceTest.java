@@ -28,6 +28,7 @@ import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.eclipse.lsp.cobol.common.CleanerPreprocessor;
@@ -42,6 +43,7 @@ import org.eclipse.lsp.cobol.common.utils.PredefinedCopybooks;
 import org.eclipse.lsp.cobol.lsp.jrpc.CobolLanguageClient;
 import org.eclipse.lsp.cobol.service.UriDecodeService;
 import org.eclipse.lsp.cobol.service.providers.ClientProvider;
+import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -490,7 +492,8 @@ class CopybookServiceTest {
     ClientProvider provider = new ClientProvider();
     provider.setClient(client);
     return new CopybookServiceImpl(
-        provider, files, new CopybookCache(3, 3, "HOURS"), uriDecodeService);
+        provider, files, new CopybookCache(3, 3, "HOURS"),
+        new PersistentCopybookStore(new CodeLayoutStore(), null), uriDecodeService);
   }
 
   private CopybookName createCopybook(String displayName) {
@@ -563,4 +566,66 @@ class CopybookServiceTest {
     assertEquals(copybookModel.getContent(), copybookContent);
     assertEquals(resolvedCopybook.getErrors().get(0), expectedSyntaxError);
   }
+
+  /**
+   * A copybook that is stored for several programs is cleaned up once, and cleaned up again only
+   * when its content changes.
+   */
+  @Test
+  void testCopybookCleanupIsSharedByPrograms() {
+    CopybookName copybookName = createCopybook(VALID_CPY_NAME);
+    CopybookService copybookService = createCopybookService();
+    when(preprocessor.cleanUpCode(eq(VALID_CPY_URI), anyString()))
+        .then(invocation -> new ResultWithErrors<>(new ExtendedText(invocation.getArgument(1), VALID_CPY_URI), emptyList()));
+
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_2_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+    verify(preprocessor, times(1)).cleanUpCode(VALID_CPY_URI, CONTENT);
+
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_2_URI), copybookName, VALID_CPY_URI, "changed"), preprocessor);
+    verify(preprocessor, times(1)).cleanUpCode(VALID_CPY_URI, "changed");
+
+    CopybookModel resolved = copybookService
+        .resolve(copybookName.toCopybookId(DOCUMENT_URI), copybookName, DOCUMENT_URI, DOCUMENT_URI, preprocessor)
+        .getResult();
+    assertEquals(copybookName.toCopybookId(DOCUMENT_URI), resolved.getCopybookId());
+    assertEquals(CONTENT, resolved.getContent());
+  }
+
+  /** The cleanup results are kept in the copybook cache, so they are dropped with it */
+  @Test
+  void testCopybookCleanupIsDroppedWithCache() {
+    CopybookName copybookName = createCopybook(VALID_CPY_NAME);
+    CopybookServiceImpl copybookService = createCopybookService();
+    when(preprocessor.cleanUpCode(eq(VALID_CPY_URI), anyString()))
+        .then(invocation -> new ResultWithErrors<>(new ExtendedText(invocation.getArgument(1), VALID_CPY_URI), emptyList()));
+
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+    copybookService.invalidateCache();
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_2_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+
+    verify(preprocessor, times(2)).cleanUpCode(VALID_CPY_URI, CONTENT);
+  }
+
+  /** The cleanup result of a copybook is dropped when no retained document uses the copybook */
+  @Test
+  void testCopybookCleanupIsDroppedWithLastUsage() {
+    CopybookName copybookName = createCopybook(VALID_CPY_NAME);
+    CopybookServiceImpl copybookService = createCopybookService();
+    when(preprocessor.cleanUpCode(eq(VALID_CPY_URI), anyString()))
+        .then(invocation -> new ResultWithErrors<>(new ExtendedText(invocation.getArgument(1), VALID_CPY_URI), emptyList()));
+    for (String documentUri : Arrays.asList(DOCUMENT_URI, DOCUMENT_2_URI)) {
+      CopybookId copybookId = copybookName.toCopybookId(documentUri);
+      copybookService.store(new CopybookModel(copybookId, copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+      copybookService.resolve(copybookId, copybookName, documentUri, documentUri, preprocessor);
+    }
+
+    copybookService.releaseCopybookUsage(DOCUMENT_URI);
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+    verify(preprocessor, times(1)).cleanUpCode(VALID_CPY_URI, CONTENT);
+
+    copybookService.releaseCopybookUsage(DOCUMENT_2_URI);
+    copybookService.store(new CopybookModel(copybookName.toCopybookId(DOCUMENT_URI), copybookName, VALID_CPY_URI, CONTENT), preprocessor);
+    verify(preprocessor, times(2)).cleanUpCode(VALID_CPY_URI, CONTENT);
+  }
 }
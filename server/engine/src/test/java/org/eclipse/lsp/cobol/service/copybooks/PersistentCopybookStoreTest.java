@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.copybooks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.lsp.cobol.common.ResultWithErrors;
+import org.eclipse.lsp.cobol.common.copybook.CopybookId;
+import org.eclipse.lsp.cobol.common.copybook.CopybookModel;
+import org.eclipse.lsp.cobol.common.copybook.CopybookName;
+import org.eclipse.lsp.cobol.common.error.ErrorSeverity;
+import org.eclipse.lsp.cobol.common.error.ErrorSource;
+import org.eclipse.lsp.cobol.common.error.SyntaxError;
+import org.eclipse.lsp.cobol.common.mapping.OriginalLocation;
+import org.eclipse.lsp.cobol.service.settings.layout.CodeLayoutStore;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test {@link PersistentCopybookStore} keeps the preprocessed copybooks while their content stays the same */
+class PersistentCopybookStoreTest {
+  private static final String URI = "file:///c:/workspace/.c4z/.copybooks/CPY.cpy";
+  private static final CopybookName NAME = new CopybookName("CPY", "COBOL");
+  private static final CopybookId ID = NAME.toCopybookId("file:///c:/workspace/program.cbl");
+
+  @TempDir Path folder;
+
+  @Test
+  void testStoredCopybookIsLoadedByANewStore() {
+    CopybookModel dirtyCopybook = new CopybookModel(ID, NAME, URI, "      * comment\n       01 A PIC X.");
+    SyntaxError error = SyntaxError.syntaxError()
+        .errorSource(ErrorSource.PREPROCESSING)
+        .severity(ErrorSeverity.ERROR)
+        .suggestion("Unexpected indicator area content")
+        .location(new OriginalLocation(new Location(URI, new Range(new Position(0, 6), new Position(0, 7))), "CPY"))
+        .build();
+    new PersistentCopybookStore(new CodeLayoutStore(), folder)
+        .store(dirtyCopybook, new ResultWithErrors<>(new CopybookModel(ID, NAME, URI, "\n       01 A PIC X."), ImmutableList.of(error)));
+
+    ResultWithErrors<CopybookModel> loaded = new PersistentCopybookStore(new CodeLayoutStore(), folder).load(dirtyCopybook).get();
+
+    assertEquals(new CopybookModel(ID, NAME, URI, "\n       01 A PIC X."), loaded.getResult());
+    assertEquals(ImmutableList.of(error), loaded.getErrors());
+  }
+
+  @Test
+  void testChangedCopybookIsNotLoaded() {
+    PersistentCopybookStore store = new PersistentCopybookStore(new CodeLayoutStore(), folder);
+    store.store(new CopybookModel(ID, NAME, URI, "       01 A PIC X."),
+        new ResultWithErrors<>(new CopybookModel(ID, NAME, URI, "       01 A PIC X."), ImmutableList.of()));
+
+    assertFalse(store.load(new CopybookModel(ID, NAME, URI, "       01 B PIC X.")).isPresent());
+  }
+
+  @Test
+  void testFailedStoreLeavesNoTemporaryFile() throws IOException {
+    PersistentCopybookStore store = new PersistentCopybookStore(new CodeLayoutStore(), folder);
+    CopybookModel copybook = new CopybookModel(ID, NAME, URI, "       01 A PIC X.");
+    store.store(copybook, new ResultWithErrors<>(copybook, ImmutableList.of()));
+    assertTrue(store.load(copybook).isPresent());
+
+    // an entry that cannot be replaced makes the move fail
+    Path entry = listFolder().get(0);
+    Files.delete(entry);
+    Files.createDirectories(entry.resolve("child"));
+    store.store(copybook, new ResultWithErrors<>(copybook, ImmutableList.of()));
+
+    assertEquals(ImmutableList.of(entry), listFolder());
+  }
+
+  @Test
+  void testStoreIsDisabledWithoutFolder() {
+    PersistentCopybookStore store = new PersistentCopybookStore(new CodeLayoutStore(), null);
+    CopybookModel copybook = new CopybookModel(ID, NAME, URI, "       01 A PIC X.");
+    store.store(copybook, new ResultWithErrors<>(copybook, ImmutableList.of()));
+
+    assertFalse(store.load(copybook).isPresent());
+  }
+
+  private List<Path> listFolder() throws IOException {
+    try (Stream<Path> files = Files.list(folder)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+}
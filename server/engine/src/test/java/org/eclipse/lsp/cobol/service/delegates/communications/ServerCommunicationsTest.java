@@ -116,6 +116,27 @@ class ServerCommunicationsTest {
     verify(client, times(1)).publishDiagnostics(eq(new PublishDiagnosticsParams(uri, diagnostics)));
   }
 
+  /**
+   * Method {@link ServerCommunications#publishDiagnostics(Map)} should send only the diagnostics
+   * that changed since the last publishing, and should not clear the documents without diagnostics.
+   */
+  @Test
+  void testPublishOnlyChangedDiagnostics() {
+    String uri = UUID.randomUUID().toString();
+    String cleanUri = UUID.randomUUID().toString();
+    when(uriDecodeService.getOriginalUri(anyString())).then(invocation -> invocation.getArgument(0));
+    List<Diagnostic> diagnostics = ImmutableList.of(new Diagnostic(new Range(), "test"));
+
+    communications.publishDiagnostics(ImmutableMap.of(uri, diagnostics, cleanUri, ImmutableList.of()));
+    communications.publishDiagnostics(ImmutableMap.of(uri, ImmutableList.of(new Diagnostic(new Range(), "test"))));
+    verify(client, times(1)).publishDiagnostics(eq(new PublishDiagnosticsParams(uri, diagnostics)));
+    verify(client, never()).publishDiagnostics(eq(new PublishDiagnosticsParams(cleanUri, ImmutableList.of())));
+
+    communications.publishDiagnostics(ImmutableMap.of(uri, ImmutableList.of()));
+    communications.publishDiagnostics(ImmutableMap.of(uri, ImmutableList.of()));
+    verify(client, times(1)).publishDiagnostics(eq(new PublishDiagnosticsParams(uri, ImmutableList.of())));
+  }
+
   @Test
   void testNotifyProgressBegin() throws NoSuchFieldException {
     String uri = UUID.randomUUID().toString();
@@ -16,6 +16,7 @@
 package org.eclipse.lsp.cobol.service.delegates.completions;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonObject;
 import org.eclipse.lsp.cobol.service.CobolDocumentModel;
 import org.eclipse.lsp4j.*;
 import org.hamcrest.Matchers;
@@ -25,6 +26,8 @@ import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrde
 import static org.eclipse.lsp.cobol.service.delegates.completions.CompletionOrder.VARIABLES;
 import static org.eclipse.lsp.cobol.service.delegates.completions.MockCompletionModel.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * This test checks the logic of completion support. It retrieves the token by the given position
@@ -50,23 +53,44 @@ class CompletionsTest {
     return new CompletionItem[] {
       createItem("cpyU1", CompletionItemKind.Class, COPYBOOKS),
       createItem("CpyU2", CompletionItemKind.Class, COPYBOOKS),
-      createItem("constD1", CompletionItemKind.Variable, VARIABLES, "sys IS constD1."),
-      createItem("ConstD2", CompletionItemKind.Variable, VARIABLES, "sys IS ConstD2.")
+      createItem("constD1", CompletionItemKind.Variable, VARIABLES, createVariableData()),
+      createItem("ConstD2", CompletionItemKind.Variable, VARIABLES, createVariableData())
     };
   }
 
+  @Test
+  void testResolve() {
+    Completions completions =
+        new Completions(ImmutableSet.of(new CopybookCompletion(), new VariableCompletion(REPO)));
+    CobolDocumentModel document = new CobolDocumentModel("", "Lorem ipsum dolor c amet", RESULT);
+
+    CompletionItem variable = createItem("constD1", CompletionItemKind.Variable, VARIABLES, createVariableData());
+    assertEquals("sys IS constD1.", completions.resolve(variable, document).getDocumentation().getLeft());
+
+    CompletionItem copybook = createItem("cpyU1", CompletionItemKind.Class, COPYBOOKS, null);
+    assertNull(completions.resolve(copybook, document).getDocumentation());
+  }
+
   private CompletionItem createItem(String name, CompletionItemKind kind, CompletionOrder order) {
     return createItem(name, kind, order, null);
   }
 
-  private CompletionItem createItem(String name, CompletionItemKind kind, CompletionOrder order, String documentation) {
+  private CompletionItem createItem(String name, CompletionItemKind kind, CompletionOrder order, Object data) {
     CompletionItem item = new CompletionItem(name);
     item.setLabel(name);
     item.setInsertText(name);
     item.setKind(kind);
     item.setSortText(order.prefix + name);
-    if (documentation != null)
-      item.setDocumentation(documentation);
+    item.setData(data);
     return item;
   }
+
+  private JsonObject createVariableData() {
+    JsonObject data = new JsonObject();
+    data.addProperty("uri", "");
+    data.addProperty("definitionUri", "");
+    data.addProperty("line", 0);
+    data.addProperty("character", 0);
+    return data;
+  }
 }
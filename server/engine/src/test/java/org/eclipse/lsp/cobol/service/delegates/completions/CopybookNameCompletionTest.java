@@ -37,7 +37,7 @@ class CopybookNameCompletionTest {
 
   @Test
   void testCopybookNameCompletion() {
-    when(copybookNameService.getNames("id")).thenReturn(Arrays.asList(
+    when(copybookNameService.getNamesByPrefix("id", "")).thenReturn(Arrays.asList(
         CopybookName.builder().displayName("Copy1").build(),
         CopybookName.builder().displayName("copy2").build(),
         CopybookName.builder().displayName("no-copy").build()));
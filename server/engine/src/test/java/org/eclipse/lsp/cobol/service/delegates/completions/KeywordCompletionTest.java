@@ -17,7 +17,7 @@ package org.eclipse.lsp.cobol.service.delegates.completions;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -107,18 +107,45 @@ class KeywordCompletionTest {
         createExpected(), completion.getCompletionItems("ACCEP", MockCompletionModel.MODEL));
   }
 
+  @Test
+  void testResolve() {
+    CompletionItem item = completion.getCompletionItems("ACCEPT", null).iterator().next();
+    assertNull(item.getDocumentation());
+
+    assertTrue(completion.resolve(item, null));
+    assertEquals(createDocumentation(), item.getDocumentation().getRight());
+  }
+
+  @Test
+  void testResolveOtherItem() {
+    CompletionItem item = new CompletionItem(LABEL);
+    item.setKind(CompletionItemKind.Variable);
+    assertFalse(completion.resolve(item, null));
+    assertNull(item.getDocumentation());
+  }
+
+  @Test
+  void testFindLabels() {
+    Keywords keywords = new Keywords(mock(SettingsService.class), mock(DialectService.class));
+    assertEquals(ImmutableList.of("ACCEPT"), keywords.findLabels("accep"));
+    assertEquals(keywords.getLabels().size(), keywords.findLabels("").size());
+  }
+
   private List<CompletionItem> createExpected() {
     return ImmutableList.of(createItem());
   }
 
-  private CompletionItem createItem() {
+  private MarkupContent createDocumentation() {
     MarkupContent doc = new MarkupContent();
     doc.setValue(DOCUMENTATION_TEXT);
     doc.setKind("markdown");
+    return doc;
+  }
+
+  private CompletionItem createItem() {
     CompletionItem item = new CompletionItem(LABEL);
     item.setLabel(LABEL);
     item.setInsertText(LABEL);
-    item.setDocumentation(doc);
     item.setKind(CompletionItemKind.Keyword);
     item.setSortText("6" + LABEL);
     return item;
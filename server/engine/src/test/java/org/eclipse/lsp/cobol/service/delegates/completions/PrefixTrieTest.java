@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.service.delegates.completions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link PrefixTrie} */
+class PrefixTrieTest {
+  @Test
+  void testFindByPrefixIgnoresCase() {
+    PrefixTrie<String> trie = create("VAR-B", "var-a", "ANOTHER", "VAR");
+
+    assertEquals(ImmutableList.of("VAR", "var-a", "VAR-B"), trie.findByPrefix("Var"));
+    assertEquals(ImmutableList.of("var-a"), trie.findByPrefix("VAR-A"));
+    assertEquals(ImmutableList.of(), trie.findByPrefix("VARX"));
+    assertEquals(4, trie.findByPrefix("").size());
+  }
+
+  @Test
+  void testSameKeys() {
+    PrefixTrie<String> trie = create("CUSTOMER", "customer", "CUSTOMER-ID");
+
+    assertEquals(ImmutableList.of("CUSTOMER", "customer"), trie.get("Customer"));
+    assertEquals(ImmutableList.of(), trie.get("CUST"));
+    assertEquals(3, trie.size());
+  }
+
+  private PrefixTrie<String> create(String... keys) {
+    PrefixTrie<String> trie = new PrefixTrie<>();
+    for (String key : keys) {
+      trie.put(key, key);
+    }
+    return trie;
+  }
+}
@@ -23,12 +23,13 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This test {@link VariableCompletion} asserts that filtration and preparing the variable
@@ -67,19 +68,41 @@ class VariableCompletionTest {
     CobolDocumentModel model = getModel(FULL_TEXT);
     Completion completion =
         new VariableCompletion(new SymbolsRepository(model.getAnalysisResult().getSymbolTableMap()));
-    assertEquals(createExpected(), completion.getCompletionItems("va", model));
+    List<CompletionItem> actual = new ArrayList<>(completion.getCompletionItems("va", model));
+    actual.forEach(item -> assertNotNull(item.getData()));
+    actual.forEach(item -> item.setData(null));
+    assertEquals(createExpected(), actual);
+  }
+
+  @Test
+  void testResolve() {
+    CobolDocumentModel model = getModel(FULL_TEXT);
+    Completion completion =
+        new VariableCompletion(new SymbolsRepository(model.getAnalysisResult().getSymbolTableMap()));
+    List<CompletionItem> items = new ArrayList<>(completion.getCompletionItems("var2", model));
+    assertEquals(1, items.size());
+    CompletionItem item = items.get(0);
+
+    assertTrue(completion.resolve(item, model));
+    assertEquals("01 VAR2 PIC 9.", item.getDocumentation().getLeft());
+  }
+
+  @Test
+  void testResolveOtherItem() {
+    CompletionItem item = new CompletionItem("ACCEPT");
+    item.setKind(CompletionItemKind.Keyword);
+    assertFalse(new VariableCompletion(new SymbolsRepository()).resolve(item, null));
+    assertNull(item.getDocumentation());
   }
 
   private List<CompletionItem> createExpected() {
-    return ImmutableList.of(
-        createItem("VAR1", "01 VAR1 PIC 9."), createItem("VAR2", "01 VAR2 PIC 9."));
+    return ImmutableList.of(createItem("VAR1"), createItem("VAR2"));
   }
 
-  private CompletionItem createItem(String name, String desc) {
+  private CompletionItem createItem(String name) {
     CompletionItem item = new CompletionItem(name);
     item.setLabel(name);
     item.setInsertText(name);
-    item.setDocumentation(desc);
     item.setKind(CompletionItemKind.Variable);
     item.setSortText("0" + name);
     return item;
@@ -42,7 +42,7 @@ public class AntlrCobolParser implements AstBuilder {
   }
   @Override
   public CobolParser.StartRuleContext runParser() {
-    return antlrParser.startRule();
+    return ParserRuntime.parse(antlrParser, CobolParser::startRule);
   }
 
   @Override
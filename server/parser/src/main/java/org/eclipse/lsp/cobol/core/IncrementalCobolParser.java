@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core;
+
+import lombok.Getter;
+import lombok.Value;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.eclipse.lsp.cobol.common.utils.ThreadInterruptionUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ANTLR parser that reuses the parse tree of the previous revision of a document. The changed text
+ * is located by comparing the revisions, and if it lies inside the paragraphs of a procedure
+ * division, only these paragraphs are lexed and parsed again with the {@code paragraphs} rule. The
+ * new paragraphs are spliced into a copy of the previous tree, and the tokens around them are
+ * shifted to the new text. The result is the same tree and token stream that a full parse produces.
+ *
+ * <p>Any edit that may change how the text around the paragraphs is parsed falls back to a full
+ * parse: an edit outside the paragraphs, a token or a lexer mode that crosses the region bounds,
+ * a syntax error or a skipped token. Only a revision without syntax errors is kept as a {@link
+ * Snapshot} for the next parse.
+ */
+public class IncrementalCobolParser implements AstBuilder {
+  private static final Map<Class<?>, Constructor<?>> CONTEXT_CONSTRUCTORS = new ConcurrentHashMap<>();
+
+  private final String text;
+  private final Snapshot previous;
+  private final BaseErrorListener listener;
+  private final DefaultErrorStrategy errorStrategy;
+  private final ParseTreeListener treeListener;
+  private final CharStream input;
+
+  @Getter
+  private CommonTokenStream tokens;
+  private Snapshot snapshot;
+  @Getter
+  private boolean incremental;
+
+  public IncrementalCobolParser(String text, Snapshot previous, BaseErrorListener listener,
+                                DefaultErrorStrategy errorStrategy, ParseTreeListener treeListener) {
+    this.text = text;
+    this.previous = previous;
+    this.listener = listener;
+    this.errorStrategy = errorStrategy;
+    this.treeListener = treeListener;
+    this.input = CharStreams.fromString(text);
+  }
+
+  @Override
+  public CobolParser.StartRuleContext runParser() {
+    // the token offsets count code points, so the text must not contain surrogate pairs
+    boolean supported = text.length() == input.size();
+    if (supported && previous != null) {
+      try {
+        CobolParser.StartRuleContext tree = reparse();
+        if (tree != null) {
+          incremental = true;
+          snapshot = new Snapshot(text, tokens.getTokens(), tree);
+          return tree;
+        }
+      } catch (RegionMismatch e) {
+        // the region cannot be reparsed alone
+      }
+    }
+    return parse(supported);
+  }
+
+  /**
+   * The state of this parse to be reused by the parse of the next revision of the document
+   *
+   * @return the snapshot or empty if the text was not parsed cleanly
+   */
+  public Optional<Snapshot> getSnapshot() {
+    return Optional.ofNullable(snapshot);
+  }
+
+  private CobolParser.StartRuleContext parse(boolean supported) {
+    ErrorCounter counter = new ErrorCounter();
+    // the stream may be left in the middle of the text by the region lexer
+    input.seek(0);
+    CobolLexer lexer = new CobolLexer(input);
+    lexer.removeErrorListeners();
+    lexer.addErrorListener(listener);
+    lexer.addErrorListener(counter);
+    tokens = new CommonTokenStream(lexer);
+    CobolParser parser = new CobolParser(tokens);
+    parser.removeErrorListeners();
+    parser.addErrorListener(listener);
+    parser.addErrorListener(counter);
+    parser.setErrorHandler(errorStrategy);
+    parser.addParseListener(treeListener);
+    CobolParser.StartRuleContext tree = ParserRuntime.parse(parser, CobolParser::startRule);
+    if (supported && counter.getCount() == 0 && countTerminals(tree) == countParsedTokens(tokens.getTokens())) {
+      snapshot = new Snapshot(text, tokens.getTokens(), tree);
+    }
+    return tree;
+  }
+
+  private CobolParser.StartRuleContext reparse() {
+    String oldText = previous.getText();
+    List<Token> oldTokens = previous.getTokens();
+    int prefix = 0;
+    int maxPrefix = Math.min(oldText.length(), text.length());
+    while (prefix < maxPrefix && oldText.charAt(prefix) == text.charAt(prefix)) {
+      prefix++;
+    }
+    int suffix = 0;
+    int maxSuffix = maxPrefix - prefix;
+    while (suffix < maxSuffix && oldText.charAt(oldText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+      suffix++;
+    }
+    if (prefix == oldText.length() && prefix == text.length()) {
+      return new TreeCopy(oldTokens, null, null, 0).copy();
+    }
+    Region region = findRegion(previous.getTree(), oldTokens, prefix, oldText.length() - suffix);
+    if (region == null) {
+      return null;
+    }
+    int delta = text.length() - oldText.length();
+    int newEnd = region.getEnd() + delta;
+    List<Token> regionTokens = lex(region, newEnd);
+    CobolParser.ParagraphsContext paragraphs = parseRegion(regionTokens, newEnd);
+    if (paragraphs == null) {
+      return null;
+    }
+    return new TreeCopy(oldTokens, region, new Splice(regionTokens, paragraphs), delta).copy();
+  }
+
+  /**
+   * Find the consecutive paragraphs of the previous tree whose text contains the changed text. The
+   * region of a paragraph spans from its first token to the next token after it, so it includes
+   * the spaces and comments that follow the paragraph.
+   */
+  private static Region findRegion(ParserRuleContext tree, List<Token> oldTokens, int changeStart, int changeEnd) {
+    List<CobolParser.ParagraphContext> paragraphs = new ArrayList<>();
+    collectParagraphs(tree, paragraphs);
+    int first = -1;
+    for (int i = 0; i < paragraphs.size() && paragraphs.get(i).getStart().getStartIndex() < changeStart; i++) {
+      first = i;
+    }
+    if (first < 0) {
+      return null;
+    }
+    int last = first;
+    while (last < paragraphs.size() && getRegionEnd(paragraphs.get(last), oldTokens) < changeEnd) {
+      last++;
+    }
+    if (last == paragraphs.size() || getRegionEnd(paragraphs.get(first), oldTokens) < changeStart) {
+      return null;
+    }
+    ParserRuleContext parent = paragraphs.get(first).getParent();
+    int firstChild = parent.children.indexOf(paragraphs.get(first));
+    int lastChild = firstChild + last - first;
+    if (lastChild >= parent.getChildCount() || parent.getChild(lastChild) != paragraphs.get(last)
+        || paragraphs.get(last).getChild(CobolParser.AlteredGoToContext.class, 0) != null) {
+      return null;
+    }
+    Token start = paragraphs.get(first).getStart();
+    Token stop = paragraphs.get(last).getStop();
+    Token next = oldTokens.get(nextParsedToken(oldTokens, stop.getTokenIndex()));
+    return new Region(parent, firstChild, lastChild, start, stop, next);
+  }
+
+  private static void collectParagraphs(ParseTree node, List<CobolParser.ParagraphContext> paragraphs) {
+    if (node instanceof CobolParser.ParagraphContext) {
+      paragraphs.add((CobolParser.ParagraphContext) node);
+      return;
+    }
+    for (int i = 0; i < node.getChildCount(); i++) {
+      if (node.getChild(i) instanceof ParserRuleContext) {
+        collectParagraphs(node.getChild(i), paragraphs);
+      }
+    }
+  }
+
+  private static int getRegionEnd(ParserRuleContext paragraph, List<Token> oldTokens) {
+    return oldTokens.get(nextParsedToken(oldTokens, paragraph.getStop().getTokenIndex())).getStartIndex();
+  }
+
+  private static int nextParsedToken(List<Token> oldTokens, int index) {
+    int next = index + 1;
+    while (oldTokens.get(next).getChannel() != Token.DEFAULT_CHANNEL) {
+      next++;
+    }
+    return next;
+  }
+
+  /** Lex the new text of the region, the lexer must stop at the region end in the default mode */
+  private List<Token> lex(Region region, int newEnd) {
+    CobolLexer lexer = new CobolLexer(input);
+    lexer.removeErrorListeners();
+    ErrorCounter counter = new ErrorCounter();
+    lexer.addErrorListener(counter);
+    input.seek(region.getStart().getStartIndex());
+    lexer.setLine(region.getStart().getLine());
+    lexer.setCharPositionInLine(region.getStart().getCharPositionInLine());
+    List<Token> result = new ArrayList<>();
+    Token token = lexer.nextToken();
+    while (token.getType() != Token.EOF && token.getStopIndex() < newEnd) {
+      result.add(token);
+      token = lexer.nextToken();
+    }
+    Token next = region.getNext();
+    if (counter.getCount() > 0 || lexer._mode != Lexer.DEFAULT_MODE || !lexer._modeStack.isEmpty()
+        || token.getStartIndex() != newEnd || token.getType() != next.getType()
+        || token.getStopIndex() - token.getStartIndex() != next.getStopIndex() - next.getStartIndex()) {
+      throw new RegionMismatch();
+    }
+    return result;
+  }
+
+  /** Parse the region tokens as paragraphs, the parse must consume all of them without errors */
+  private CobolParser.ParagraphsContext parseRegion(List<Token> regionTokens, int newEnd) {
+    List<Token> source = new ArrayList<>(regionTokens);
+    Token last = source.isEmpty() ? null : source.get(source.size() - 1);
+    CommonToken eof = new CommonToken(Token.EOF, "<EOF>");
+    eof.setStartIndex(newEnd);
+    eof.setStopIndex(newEnd - 1);
+    eof.setLine(last == null ? 1 : last.getLine());
+    source.add(eof);
+    ErrorCounter counter = new ErrorCounter();
+    CommonTokenStream regionStream = new CommonTokenStream(new ListTokenSource(source));
+    CobolParser parser = new CobolParser(regionStream);
+    parser.removeErrorListeners();
+    parser.addErrorListener(counter);
+    errorStrategy.reset(parser);
+    parser.setErrorHandler(errorStrategy);
+    parser.addParseListener(treeListener);
+    CobolParser.ParagraphsContext paragraphs = ParserRuntime.parse(parser, CobolParser::paragraphs);
+    errorStrategy.reset(parser);
+    if (counter.getCount() > 0 || parser.getCurrentToken().getType() != Token.EOF || paragraphs.getChildCount() == 0
+        || countTerminals(paragraphs) != countParsedTokens(regionTokens)) {
+      return null;
+    }
+    for (int i = 0; i < paragraphs.getChildCount(); i++) {
+      if (!(paragraphs.getChild(i) instanceof CobolParser.ParagraphContext)) {
+        return null;
+      }
+    }
+    ParseTree lastParagraph = paragraphs.getChild(paragraphs.getChildCount() - 1);
+    if (((ParserRuleContext) lastParagraph).getChild(CobolParser.AlteredGoToContext.class, 0) != null) {
+      return null;
+    }
+    return paragraphs;
+  }
+
+  private static int countTerminals(ParseTree node) {
+    if (node instanceof TerminalNode) {
+      return ((TerminalNode) node).getSymbol().getType() == Token.EOF ? 0 : 1;
+    }
+    int result = 0;
+    for (int i = 0; i < node.getChildCount(); i++) {
+      result += countTerminals(node.getChild(i));
+    }
+    return result;
+  }
+
+  private static int countParsedTokens(List<Token> tokenList) {
+    int result = 0;
+    for (Token token : tokenList) {
+      if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The previous tree copied with the tokens of the new text. The tokens before the region keep
+   * their positions, the tokens after the region are shifted, and the region is replaced by the
+   * reparsed paragraphs.
+   */
+  private final class TreeCopy {
+    private final List<Token> oldTokens;
+    private final Region region;
+    private final Splice splice;
+    private final List<Token> newTokens = new ArrayList<>();
+    private final int regionStartIndex;
+    private final int suffixStartIndex;
+    private final int suffixShift;
+
+    TreeCopy(List<Token> oldTokens, Region region, Splice splice, int delta) {
+      this.oldTokens = oldTokens;
+      this.region = region;
+      this.splice = splice;
+      TokenSource tokenSource = new CobolLexer(input);
+      Pair<TokenSource, CharStream> source = new Pair<>(tokenSource, input);
+      if (region == null) {
+        regionStartIndex = oldTokens.size();
+        suffixStartIndex = oldTokens.size();
+        suffixShift = 0;
+        oldTokens.forEach(token -> newTokens.add(copyToken(source, token, 0, 0, 0, -1)));
+      } else {
+        regionStartIndex = region.getStart().getTokenIndex();
+        suffixStartIndex = region.getNext().getTokenIndex();
+        suffixShift = regionStartIndex + splice.getTokens().size() - suffixStartIndex;
+        for (int i = 0; i < regionStartIndex; i++) {
+          newTokens.add(copyToken(source, oldTokens.get(i), 0, 0, 0, -1));
+        }
+        newTokens.addAll(splice.getTokens());
+        String oldText = previous.getText();
+        int oldEnd = region.getNext().getStartIndex();
+        int newEnd = oldEnd + delta;
+        int lineShift = countLines(text, region.getStart().getStartIndex(), newEnd)
+            - countLines(oldText, region.getStart().getStartIndex(), oldEnd);
+        int columnShift = getColumn(text, newEnd) - getColumn(oldText, oldEnd);
+        for (int i = suffixStartIndex; i < oldTokens.size(); i++) {
+          newTokens.add(copyToken(source, oldTokens.get(i), delta, lineShift, columnShift, region.getNext().getLine()));
+        }
+      }
+      tokens = new CommonTokenStream(new ListTokenSource(newTokens));
+      tokens.fill();
+    }
+
+    CobolParser.StartRuleContext copy() {
+      return (CobolParser.StartRuleContext) copyContext(previous.getTree(), null);
+    }
+
+    private ParserRuleContext copyContext(ParserRuleContext context, ParserRuleContext parent) {
+      ThreadInterruptionUtil.checkThreadInterrupted();
+      ParserRuleContext result = newContext(context, parent);
+      result.start = mapToken(context.start);
+      result.stop = mapToken(context.stop);
+      result.exception = context.exception;
+      if (context.children == null) {
+        return result;
+      }
+      result.children = new ArrayList<>(context.children.size());
+      for (int i = 0; i < context.children.size(); i++) {
+        if (region != null && context == region.getParent() && i == region.getFirstChild()) {
+          for (ParseTree paragraph : splice.getParagraphs().children) {
+            ((ParserRuleContext) paragraph).parent = result;
+            result.children.add(paragraph);
+          }
+          i = region.getLastChild();
+          continue;
+        }
+        result.children.add(copyChild(context.children.get(i), result));
+      }
+      return result;
+    }
+
+    private ParseTree copyChild(ParseTree child, ParserRuleContext parent) {
+      if (child instanceof ParserRuleContext) {
+        return copyContext((ParserRuleContext) child, parent);
+      }
+      Token token = mapToken(((TerminalNode) child).getSymbol());
+      TerminalNodeImpl result = child instanceof ErrorNode ? new ErrorNodeImpl(token) : new TerminalNodeImpl(token);
+      result.parent = parent;
+      return result;
+    }
+
+    private Token mapToken(Token token) {
+      if (token == null) {
+        return null;
+      }
+      int index = token.getTokenIndex();
+      if (index < regionStartIndex) {
+        return newTokens.get(index);
+      }
+      if (index >= suffixStartIndex) {
+        return newTokens.get(index + suffixShift);
+      }
+      // only the ancestors of the region can start or stop inside of it
+      List<ParseTree> paragraphs = splice.getParagraphs().children;
+      if (token == region.getStart()) {
+        return ((ParserRuleContext) paragraphs.get(0)).getStart();
+      }
+      if (token == region.getStop()) {
+        return ((ParserRuleContext) paragraphs.get(paragraphs.size() - 1)).getStop();
+      }
+      throw new RegionMismatch();
+    }
+  }
+
+  private static ParserRuleContext newContext(ParserRuleContext context, ParserRuleContext parent) {
+    Constructor<?> constructor = CONTEXT_CONSTRUCTORS.computeIfAbsent(context.getClass(), type -> {
+      try {
+        return type.getConstructor(ParserRuleContext.class, int.class);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalStateException("Parse tree context cannot be copied: " + type, e);
+      }
+    });
+    try {
+      return (ParserRuleContext) constructor.newInstance(parent, context.invokingState);
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Parse tree context cannot be copied: " + context.getClass(), e);
+    }
+  }
+
+  private static Token copyToken(Pair<TokenSource, CharStream> source, Token token, int delta, int lineShift,
+                                 int columnShift, int shiftedLine) {
+    CommonToken result = new CommonToken(source, token.getType(), token.getChannel(),
+        token.getStartIndex() + delta, token.getStopIndex() + delta);
+    result.setLine(token.getLine() + lineShift);
+    result.setCharPositionInLine(token.getCharPositionInLine() + (token.getLine() == shiftedLine ? columnShift : 0));
+    return result;
+  }
+
+  private static int countLines(String value, int from, int to) {
+    int result = 0;
+    for (int i = from; i < to; i++) {
+      if (value.charAt(i) == '\n') {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private static int getColumn(String value, int offset) {
+    return offset - (value.lastIndexOf('\n', offset - 1) + 1);
+  }
+
+  /** The result of a clean parse of a document revision */
+  @Value
+  public static class Snapshot {
+    String text;
+    List<Token> tokens;
+    CobolParser.StartRuleContext tree;
+  }
+
+  /** The paragraphs of the previous tree that are parsed again */
+  @Value
+  private static class Region {
+    ParserRuleContext parent;
+    int firstChild;
+    int lastChild;
+    Token start;
+    Token stop;
+    Token next;
+
+    int getEnd() {
+      return next.getStartIndex();
+    }
+  }
+
+  /** The reparsed region */
+  @Value
+  private static class Splice {
+    List<Token> tokens;
+    CobolParser.ParagraphsContext paragraphs;
+  }
+
+  /** Counts the syntax errors without reporting them */
+  private static class ErrorCounter extends BaseErrorListener {
+    @Getter
+    private int count;
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+      count++;
+    }
+  }
+
+  /** The region cannot be reparsed without changing the result of a full parse */
+  private static class RegionMismatch extends RuntimeException {
+    RegionMismatch() {
+      super(null, null, false, false);
+    }
+  }
+}
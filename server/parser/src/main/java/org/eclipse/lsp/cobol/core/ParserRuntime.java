@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.common.message.MessageServiceProvider;
+
+/**
+ * Runs the ANTLR parsers of the server and manages their shared DFA caches.
+ *
+ * <p>A rule is parsed in two stages. The first stage uses the SLL prediction and stops at the first
+ * syntax error. SLL prediction is much cheaper than the full LL prediction, and when it succeeds it
+ * returns the same tree as LL would. Only if it fails, the input is parsed again with the LL
+ * prediction and the error strategy of the parser, which reports and recovers the errors.
+ *
+ * <p>The DFA caches of the generated recognizers are static, so they are shared by all the parser
+ * instances of a grammar and grow for the whole server lifetime. The caches of every grammar parsed
+ * here are registered, so they can be measured and dropped when the heap is almost full.
+ */
+@Slf4j
+@UtilityClass
+public class ParserRuntime {
+  private static final double HIGH_MEMORY_USAGE = 0.85;
+  private static final int MIN_STATES_TO_RESET = 10_000;
+  private static final long RESET_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+  private final Map<String, DfaCache> caches = new ConcurrentHashMap<>();
+  private final AtomicLong sllParses = new AtomicLong();
+  private final AtomicLong llParses = new AtomicLong();
+  private final AtomicLong resets = new AtomicLong();
+  private final AtomicLong lastReset = new AtomicLong(System.nanoTime() - RESET_INTERVAL);
+
+  /**
+   * Parse a rule with the SLL prediction first and fall back to the LL prediction on a syntax error.
+   * The error listeners and the error strategy of the parser are used only for the LL stage, and
+   * the errors reported by the grammar actions of a successful SLL stage are passed to the
+   * listeners after the parsing. The parse listeners are notified in both stages.
+   *
+   * @param parser the parser with its error listeners and error strategy set
+   * @param rule the rule to parse, e.g. {@code CobolParser::startRule}
+   * @param <P> the parser type
+   * @param <T> the rule context type
+   * @return the parse tree of the rule
+   */
+  public <P extends Parser, T extends ParserRuleContext> T parse(P parser, Function<P, T> rule) {
+    register(parser);
+    ANTLRErrorStrategy errorStrategy = parser.getErrorHandler();
+    List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+    PredictionMode predictionMode = parser.getInterpreter().getPredictionMode();
+    ErrorBuffer buffer = new ErrorBuffer();
+    parser.removeErrorListeners();
+    parser.addErrorListener(buffer);
+    parser.setErrorHandler(new BailStrategy(errorStrategy));
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      T result = rule.apply(parser);
+      restore(parser, errorStrategy, listeners);
+      buffer.replay(listeners);
+      sllParses.incrementAndGet();
+      return result;
+    } catch (ParseCancellationException e) {
+      restore(parser, errorStrategy, listeners);
+      parser.reset();
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      llParses.incrementAndGet();
+      return rule.apply(parser);
+    } finally {
+      restore(parser, errorStrategy, listeners);
+      parser.getInterpreter().setPredictionMode(predictionMode);
+      resetIfMemoryIsHigh();
+    }
+  }
+
+  /**
+   * Get the number of DFA states cached for each registered recognizer
+   *
+   * @return the state count by the recognizer name
+   */
+  public Map<String, Integer> getDfaStates() {
+    Map<String, Integer> result = new TreeMap<>();
+    caches.forEach((name, cache) -> result.put(name, cache.size()));
+    return result;
+  }
+
+  /**
+   * Get the statistics of the parsing stages and the DFA caches
+   *
+   * @return the parser runtime metrics
+   */
+  public Metrics getMetrics() {
+    Map<String, Integer> states = getDfaStates();
+    return new Metrics(sllParses.get(), llParses.get(), resets.get(),
+        states.values().stream().mapToLong(Integer::longValue).sum(), states);
+  }
+
+  /**
+   * Drop the cached DFA states of the grammars that have at least the given number of states. The
+   * parsers that are running keep using the states they already have.
+   *
+   * @param minStates the minimal number of states of a grammar to reset it
+   * @return the number of dropped states
+   */
+  public long resetDfa(int minStates) {
+    long dropped = 0;
+    for (Map.Entry<String, DfaCache> entry : caches.entrySet()) {
+      int size = entry.getValue().size();
+      if (size >= minStates) {
+        entry.getValue().reset();
+        dropped += size;
+        LOG.debug("DFA cache of {} with {} states is reset", entry.getKey(), size);
+      }
+    }
+    resets.incrementAndGet();
+    return dropped;
+  }
+
+  /**
+   * Drop the large DFA caches if the heap is almost full. The caches are reset at most once a
+   * minute, so a heap that stays full does not make every parsing start from scratch.
+   */
+  public void resetIfMemoryIsHigh() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = runtime.totalMemory() - runtime.freeMemory();
+    if (used < runtime.maxMemory() * HIGH_MEMORY_USAGE) {
+      return;
+    }
+    long now = System.nanoTime();
+    long last = lastReset.get();
+    if (now - last < RESET_INTERVAL || !lastReset.compareAndSet(last, now)) {
+      return;
+    }
+    LOG.info("Heap usage is {} of {} bytes, {} DFA states dropped", used, runtime.maxMemory(),
+        resetDfa(MIN_STATES_TO_RESET));
+  }
+
+  private void register(Parser parser) {
+    caches.computeIfAbsent(parser.getClass().getSimpleName(),
+        name -> new DfaCache(parser.getInterpreter().decisionToDFA, parser.getATN()));
+    if (parser.getTokenStream().getTokenSource() instanceof Lexer) {
+      Lexer lexer = (Lexer) parser.getTokenStream().getTokenSource();
+      caches.computeIfAbsent(lexer.getClass().getSimpleName(),
+          name -> new DfaCache(lexer.getInterpreter().decisionToDFA, lexer.getATN()));
+    }
+  }
+
+  private void restore(Parser parser, ANTLRErrorStrategy errorStrategy, List<ANTLRErrorListener> listeners) {
+    if (parser.getErrorHandler() == errorStrategy) {
+      return;
+    }
+    parser.setErrorHandler(errorStrategy);
+    parser.removeErrorListeners();
+    listeners.forEach(parser::addErrorListener);
+  }
+
+  /** The parser runtime statistics */
+  @Value
+  public static class Metrics {
+    long sllParses;
+    long llParses;
+    long dfaResets;
+    long dfaStates;
+    Map<String, Integer> dfaStatesByRecognizer;
+  }
+
+  /** The shared DFA array of a recognizer and the ATN to rebuild its decisions */
+  private static final class DfaCache {
+    private final DFA[] decisionToDFA;
+    private final ATN atn;
+
+    DfaCache(DFA[] decisionToDFA, ATN atn) {
+      this.decisionToDFA = decisionToDFA;
+      this.atn = atn;
+    }
+
+    int size() {
+      int result = 0;
+      for (DFA dfa : decisionToDFA) {
+        result += dfa.states.size();
+      }
+      return result;
+    }
+
+    void reset() {
+      for (int decision = 0; decision < decisionToDFA.length; decision++) {
+        decisionToDFA[decision] = new DFA(atn.getDecisionState(decision), decision);
+      }
+    }
+  }
+
+  /**
+   * Stops the SLL stage on the first syntax error. The grammar actions take the message service from
+   * the error strategy of the parser, so it is provided by the original strategy.
+   */
+  private static final class BailStrategy extends BailErrorStrategy implements MessageServiceProvider {
+    private final ANTLRErrorStrategy errorStrategy;
+
+    BailStrategy(ANTLRErrorStrategy errorStrategy) {
+      this.errorStrategy = errorStrategy;
+    }
+
+    @Override
+    public MessageService getMessageService() {
+      return ((MessageServiceProvider) errorStrategy).getMessageService();
+    }
+  }
+
+  /** Keeps the errors reported during the SLL stage until it is known whether the stage succeeded */
+  private static final class ErrorBuffer extends BaseErrorListener {
+    private final List<Consumer<ANTLRErrorListener>> errors = new ArrayList<>();
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+      errors.add(listener -> listener.syntaxError(recognizer, offendingSymbol, line, charPositionInLine, msg, e));
+    }
+
+    void replay(List<ANTLRErrorListener> listeners) {
+      for (Consumer<ANTLRErrorListener> error : errors) {
+        listeners.forEach(error);
+      }
+    }
+  }
+}
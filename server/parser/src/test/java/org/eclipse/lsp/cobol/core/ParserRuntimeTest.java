@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Broadcom.
+ * The term "Broadcom" refers to Broadcom Inc. and/or its subsidiaries.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Broadcom, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.lsp.cobol.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.eclipse.lsp.cobol.common.message.MessageService;
+import org.eclipse.lsp.cobol.common.message.MessageServiceProvider;
+import org.junit.jupiter.api.Test;
+
+/** Test {@link ParserRuntime} returns the same trees and errors as the LL parsing */
+class ParserRuntimeTest {
+  private static final String HEADER = "       IDENTIFICATION DIVISION.\n"
+      + "       PROGRAM-ID. TEST1.\n"
+      + "       DATA DIVISION.\n"
+      + "       WORKING-STORAGE SECTION.\n";
+
+  @Test
+  void testValidProgramIsParsedWithSll() {
+    long sllParses = ParserRuntime.getMetrics().getSllParses();
+    String text = HEADER
+        + "       01 CNT PIC 9(4) VALUE 0.\n"
+        + "       PROCEDURE DIVISION.\n"
+        + "           ADD 1 TO CNT.\n"
+        + "           DISPLAY 'CNT ' CNT.\n";
+
+    assertEquals(0, assertSameAsLl(text).size());
+    assertTrue(ParserRuntime.getMetrics().getSllParses() > sllParses);
+    assertTrue(ParserRuntime.getDfaStates().get("CobolParser") > 0);
+  }
+
+  @Test
+  void testGrammarActionErrorsAreReported() {
+    String text = HEADER
+        + "       01 A-VARIABLE-NAME-THAT-IS-MUCH-TOO-LONG PIC 9.\n"
+        + "       PROCEDURE DIVISION.\n"
+        + "           DISPLAY 'DONE'.\n";
+
+    assertEquals(1, assertSameAsLl(text).size());
+  }
+
+  @Test
+  void testInvalidProgramFallsBackToLl() {
+    long llParses = ParserRuntime.getMetrics().getLlParses();
+    String text = HEADER
+        + "       01 CNT PIC 9(4).\n"
+        + "       PROCEDURE DIVISION.\n"
+        + "           MOVE TO CNT.\n"
+        + "           DISPLAY CNT.\n";
+
+    assertFalse(assertSameAsLl(text).isEmpty());
+    assertTrue(ParserRuntime.getMetrics().getLlParses() > llParses);
+  }
+
+  @Test
+  void testResetDropsTheStates() {
+    parse(HEADER + "       PROCEDURE DIVISION.\n           STOP RUN.\n", false);
+
+    assertTrue(ParserRuntime.resetDfa(0) > 0);
+    assertEquals(0, (int) ParserRuntime.getDfaStates().get("CobolParser"));
+    assertEquals(0, assertSameAsLl(HEADER + "       PROCEDURE DIVISION.\n           STOP RUN.\n").size());
+  }
+
+  private static List<String> assertSameAsLl(String text) {
+    Result expected = parse(text, false);
+    Result actual = parse(text, true);
+
+    assertEquals(expected.tree, actual.tree);
+    assertEquals(expected.errors, actual.errors);
+    return actual.errors;
+  }
+
+  private static Result parse(String text, boolean twoStage) {
+    Result result = new Result();
+    BaseErrorListener listener = new BaseErrorListener() {
+      @Override
+      public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                              String msg, RecognitionException e) {
+        result.errors.add(line + ":" + charPositionInLine + " " + msg);
+      }
+    };
+    CobolLexer lexer = new CobolLexer(CharStreams.fromString(text));
+    lexer.removeErrorListeners();
+    CobolParser parser = new CobolParser(new CommonTokenStream(lexer));
+    parser.removeErrorListeners();
+    parser.addErrorListener(listener);
+    ErrorStrategy errorStrategy = new ErrorStrategy();
+    parser.setErrorHandler(errorStrategy);
+    CobolParser.StartRuleContext tree;
+    if (twoStage) {
+      tree = ParserRuntime.parse(parser, CobolParser::startRule);
+      assertSame(errorStrategy, parser.getErrorHandler());
+      assertEquals(1, parser.getErrorListeners().size());
+      assertEquals(PredictionMode.LL, parser.getInterpreter().getPredictionMode());
+    } else {
+      tree = parser.startRule();
+    }
+    result.tree = tree.toStringTree(parser);
+    return result;
+  }
+
+  /** The parse tree and the reported errors */
+  private static final class Result {
+    private final List<String> errors = new ArrayList<>();
+    private String tree;
+  }
+
+  /** The default error strategy that provides messages to the grammar actions */
+  private static final class ErrorStrategy extends DefaultErrorStrategy implements MessageServiceProvider {
+    private final MessageService messageService =
+        mock(MessageService.class, invocation -> invocation.getMethod().getReturnType() == String.class ? "error" : null);
+
+    @Override
+    public MessageService getMessageService() {
+      return messageService;
+    }
+  }
+}
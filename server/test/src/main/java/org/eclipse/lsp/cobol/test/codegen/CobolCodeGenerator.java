@@ -26,7 +26,7 @@ import java.util.Random;
  * COBOL Code Generator.
  */
 public class CobolCodeGenerator {
-  private static final Random RANDOM = new Random();
+  private final Random random;
   private final GeneratorSettings settings;
   private GeneratorContext ctx = new GeneratorContext();
 
@@ -37,6 +37,7 @@ public class CobolCodeGenerator {
    */
   public CobolCodeGenerator(GeneratorSettings settings) {
     this.settings = settings;
+    random = settings.seed == null ? new Random() : new Random(settings.seed);
   }
 
   /**
@@ -92,8 +93,8 @@ public class CobolCodeGenerator {
     return sb.toString();
   }
 
-  private static SnippetGenerator selectNextStatement() {
-    return GeneratorSettings.pickStatement(RANDOM.nextDouble());
+  private SnippetGenerator selectNextStatement() {
+    return GeneratorSettings.pickStatement(random.nextDouble());
   }
 
 
@@ -119,7 +120,7 @@ public class CobolCodeGenerator {
 
   private String rand(String... options) {
     if (settings.enableRandom) {
-      return options[RANDOM.nextInt(options.length)];
+      return options[random.nextInt(options.length)];
     } else {
       return options[0];
     }